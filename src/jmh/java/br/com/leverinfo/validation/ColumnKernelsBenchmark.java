@@ -0,0 +1,136 @@
+package br.com.leverinfo.validation;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares scalar and Vector API implementations of bulk column checks.
+ *
+ * <p>Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=ColumnKernelsBenchmark}.
+ * Vector benchmarks call {@link ColumnKernels}. The benchmark profile copies the Java 17 classes
+ * compiled into {@code META-INF/versions/17} to the test classes, so they take precedence over the
+ * Java 8 classes.
+ *
+ * @author franciscosousabr
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class ColumnKernelsBenchmark {
+
+  @Param({"1024", "1048576"})
+  private int rows;
+
+  private int[] ints;
+  private long[] longs;
+  private double[] doubles;
+  private long[] words;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(42);
+    ints = new int[rows];
+    longs = new long[rows];
+    doubles = new double[rows];
+    for (int i = 0; i < rows; i++) {
+      ints[i] = random.nextInt(1100);
+      longs[i] = random.nextInt(1100);
+      doubles[i] = random.nextDouble() * 1100;
+    }
+    words = new long[(rows + 63) >>> 6];
+  }
+
+  @Benchmark
+  public long[] outsideRangeIntScalar() {
+    ScalarColumnKernels.outsideRange(ints, 0, 1, 1000, words);
+    return words;
+  }
+
+  @Benchmark
+  public long[] outsideRangeIntVector() {
+    ColumnKernels.outsideRange(ints, 1, 1000, words);
+    return words;
+  }
+
+  @Benchmark
+  public long[] outsideRangeLongScalar() {
+    ScalarColumnKernels.outsideRange(longs, 0, 1L, 1000L, words);
+    return words;
+  }
+
+  @Benchmark
+  public long[] outsideRangeLongVector() {
+    ColumnKernels.outsideRange(longs, 1L, 1000L, words);
+    return words;
+  }
+
+  @Benchmark
+  public long[] outsideRangeDoubleScalar() {
+    ScalarColumnKernels.outsideRange(doubles, 0, 1.0, 1000.0, words);
+    return words;
+  }
+
+  @Benchmark
+  public long[] outsideRangeDoubleVector() {
+    ColumnKernels.outsideRange(doubles, 1.0, 1000.0, words);
+    return words;
+  }
+
+  @Benchmark
+  public long[] notPositiveIntScalar() {
+    ScalarColumnKernels.notPositive(ints, 0, words);
+    return words;
+  }
+
+  @Benchmark
+  public long[] notPositiveIntVector() {
+    ColumnKernels.notPositive(ints, words);
+    return words;
+  }
+
+  @Benchmark
+  public boolean isAsciiDigitsScalar(Digits digits) {
+    return ScalarColumnKernels.isAsciiDigits(digits.value, 0);
+  }
+
+  @Benchmark
+  public boolean isAsciiDigitsVector(Digits digits) {
+    return ColumnKernels.isAsciiDigits(digits.value, digits.buffer);
+  }
+
+  /** Digit strings of several lengths, since values of a column are usually short */
+  @State(Scope.Thread)
+  public static class Digits {
+
+    @Param({"16", "32", "64", "128", "1024"})
+    private int length;
+
+    private String value;
+    private char[] buffer;
+
+    @Setup
+    public void setUp() {
+      Random random = new Random(42);
+      StringBuilder builder = new StringBuilder(length);
+      for (int i = 0; i < length; i++) {
+        builder.append((char) ('0' + random.nextInt(10)));
+      }
+      value = builder.toString();
+      buffer = new char[length];
+    }
+  }
+}
@@ -0,0 +1,61 @@
+package br.com.leverinfo.validation.lookup;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link RecentlySeenSet#add(Object)} throughput with all available threads adding keys at
+ * once, against an unbounded {@link ConcurrentHashMap} without expiration as baseline.
+ *
+ * <p>Keys are drawn from a key space: a small key space makes most adds hit duplicated keys of the
+ * same stripes, and a large one makes most adds record new keys and evict old ones.
+ *
+ * <p>Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=RecentlySeenSetBenchmark}.
+ *
+ * @author franciscosousabr
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(Threads.MAX)
+public class RecentlySeenSetBenchmark {
+
+  @Param({"1024", "16777216"})
+  private int keySpace;
+
+  private RecentlySeenSet<Long> recentlySeen;
+  private ConcurrentHashMap<Long, Boolean> baseline;
+
+  @Setup
+  public void setUp() {
+    recentlySeen = RecentlySeenSet.create(1, TimeUnit.MINUTES, 1_000_000);
+    baseline = new ConcurrentHashMap<>();
+  }
+
+  @Benchmark
+  public boolean recentlySeenSet() {
+    return recentlySeen.add(ThreadLocalRandom.current().nextLong(keySpace));
+  }
+
+  @Benchmark
+  public boolean concurrentHashMap() {
+    return baseline.putIfAbsent(ThreadLocalRandom.current().nextLong(keySpace), Boolean.TRUE)
+        == null;
+  }
+}
@@ -1,14 +1,23 @@
 package br.com.leverinfo.validation;
 
+import br.com.leverinfo.validation.exception.DuplicatedException;
 import br.com.leverinfo.validation.exception.InvalidArgumentException;
 import br.com.leverinfo.validation.exception.RequiredArgumentException;
+import br.com.leverinfo.validation.lookup.CharSequenceSet;
+import br.com.leverinfo.validation.lookup.CompactStringSet;
+import br.com.leverinfo.validation.lookup.IpRangeSet;
+import br.com.leverinfo.validation.lookup.LongSet;
+import br.com.leverinfo.validation.lookup.RecentlySeenSet;
+import br.com.leverinfo.validation.lookup.TermMatcher;
 import java.math.BigDecimal;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.regex.Pattern;
-import java.util.stream.StreamSupport;
-import org.apache.commons.lang3.ObjectUtils;
+import java.util.stream.Stream;
 import org.apache.commons.lang3.StringUtils;
 
 /**
@@ -82,25 +91,54 @@ public final class ArgumentValidations {
    * @param <T> Iterable type
    */
   public static <T> void anyIsNotNull(Iterable<T> values, ValidationMessage message) {
-    if (ObjectUtils.allNull(
-        StreamSupport.stream(values.spliterator(), false).toArray(Object[]::new))) {
+    if (countNotNull(values, 1) == 0) {
       throw new InvalidArgumentException(message);
     }
   }
 
   /**
-   * Throws {@link InvalidArgumentException} if all values are null or blank
+   * Throws {@link InvalidArgumentException} if all values are null
    *
    * @param values Desired values
    * @param message {@link ValidationMessage}
+   * @param <T> Array type
    */
-  public static void anyIsNotBlank(Iterable<CharSequence> values, ValidationMessage message) {
-    if (StringUtils.isAllBlank(
-        StreamSupport.stream(values.spliterator(), false).toArray(CharSequence[]::new))) {
+  public static <T> void anyIsNotNull(T[] values, ValidationMessage message) {
+    if (countNotNull(values, 1) == 0) {
       throw new InvalidArgumentException(message);
     }
   }
 
+  /**
+   * Throws {@link InvalidArgumentException} if some value is null. Exception params contain index
+   * of first null value
+   *
+   * @param values Desired values
+   * @param message {@link ValidationMessage}
+   * @param <T> Iterable type
+   */
+  public static <T> void allAreNotNull(Iterable<T> values, ValidationMessage message) {
+    int index = indexOfNull(values);
+    if (index >= 0) {
+      throw new InvalidArgumentException(message, index);
+    }
+  }
+
+  /**
+   * Throws {@link InvalidArgumentException} if some value is null. Exception params contain index
+   * of first null value
+   *
+   * @param values Desired values
+   * @param message {@link ValidationMessage}
+   * @param <T> Array type
+   */
+  public static <T> void allAreNotNull(T[] values, ValidationMessage message) {
+    int index = indexOfNull(values);
+    if (index >= 0) {
+      throw new InvalidArgumentException(message, index);
+    }
+  }
+
   /**
    * Throws {@link InvalidArgumentException} if more than one value is not null or if all values are
    * null
@@ -110,22 +148,164 @@ public final class ArgumentValidations {
    * @param <T> Iterable type
    */
   public static <T> void onlyOneIsNotNull(Iterable<T> values, ValidationMessage message) {
-    long notNullCount = 0;
-    for (T value : values) {
-      if (Objects.nonNull(value)) {
-        notNullCount++;
-      }
+    if (countNotNull(values, 2) != 1) {
+      throw new InvalidArgumentException(message);
+    }
+  }
 
-      if (notNullCount > 1) {
-        throw new InvalidArgumentException(message);
-      }
+  /**
+   * Throws {@link InvalidArgumentException} if more than one value is not null or if all values are
+   * null
+   *
+   * @param values Desired values
+   * @param message {@link ValidationMessage}
+   * @param <T> Array type
+   */
+  public static <T> void onlyOneIsNotNull(T[] values, ValidationMessage message) {
+    if (countNotNull(values, 2) != 1) {
+      throw new InvalidArgumentException(message);
+    }
+  }
+
+  /**
+   * Throws {@link InvalidArgumentException} if less than n values are not null
+   *
+   * @param values Desired values
+   * @param n Desired number of values
+   * @param message {@link ValidationMessage}
+   * @param <T> Iterable type
+   */
+  public static <T> void atLeastNAreNotNull(Iterable<T> values, int n, ValidationMessage message) {
+    if (countNotNull(values, n) < n) {
+      throw new InvalidArgumentException(message, n);
+    }
+  }
+
+  /**
+   * Throws {@link InvalidArgumentException} if less than n values are not null
+   *
+   * @param values Desired values
+   * @param n Desired number of values
+   * @param message {@link ValidationMessage}
+   * @param <T> Array type
+   */
+  public static <T> void atLeastNAreNotNull(T[] values, int n, ValidationMessage message) {
+    if (countNotNull(values, n) < n) {
+      throw new InvalidArgumentException(message, n);
+    }
+  }
+
+  /**
+   * Throws {@link InvalidArgumentException} if more than n values are not null
+   *
+   * @param values Desired values
+   * @param n Desired number of values
+   * @param message {@link ValidationMessage}
+   * @param <T> Iterable type
+   */
+  public static <T> void atMostNAreNotNull(Iterable<T> values, int n, ValidationMessage message) {
+    if (countNotNull(values, n + 1L) > n) {
+      throw new InvalidArgumentException(message, n);
+    }
+  }
+
+  /**
+   * Throws {@link InvalidArgumentException} if more than n values are not null
+   *
+   * @param values Desired values
+   * @param n Desired number of values
+   * @param message {@link ValidationMessage}
+   * @param <T> Array type
+   */
+  public static <T> void atMostNAreNotNull(T[] values, int n, ValidationMessage message) {
+    if (countNotNull(values, n + 1L) > n) {
+      throw new InvalidArgumentException(message, n);
+    }
+  }
+
+  /**
+   * Throws {@link InvalidArgumentException} if number of values which are not null is different
+   * from n
+   *
+   * @param values Desired values
+   * @param n Desired number of values
+   * @param message {@link ValidationMessage}
+   * @param <T> Iterable type
+   */
+  public static <T> void exactlyNAreNotNull(Iterable<T> values, int n, ValidationMessage message) {
+    if (countNotNull(values, n + 1L) != n) {
+      throw new InvalidArgumentException(message, n);
     }
+  }
 
-    if (notNullCount == 0) {
+  /**
+   * Throws {@link InvalidArgumentException} if number of values which are not null is different
+   * from n
+   *
+   * @param values Desired values
+   * @param n Desired number of values
+   * @param message {@link ValidationMessage}
+   * @param <T> Array type
+   */
+  public static <T> void exactlyNAreNotNull(T[] values, int n, ValidationMessage message) {
+    if (countNotNull(values, n + 1L) != n) {
+      throw new InvalidArgumentException(message, n);
+    }
+  }
+
+  /**
+   * Throws {@link InvalidArgumentException} if all values are null or blank
+   *
+   * @param values Desired values
+   * @param message {@link ValidationMessage}
+   */
+  public static void anyIsNotBlank(Iterable<CharSequence> values, ValidationMessage message) {
+    if (countNotBlank(values, 1) == 0) {
       throw new InvalidArgumentException(message);
     }
   }
 
+  /**
+   * Throws {@link InvalidArgumentException} if all values are null or blank
+   *
+   * @param values Desired values
+   * @param message {@link ValidationMessage}
+   */
+  public static void anyIsNotBlank(CharSequence[] values, ValidationMessage message) {
+    if (countNotBlank(values, 1) == 0) {
+      throw new InvalidArgumentException(message);
+    }
+  }
+
+  /**
+   * Throws {@link InvalidArgumentException} if some value is null or blank. Exception params
+   * contain index of first blank value
+   *
+   * @param values Desired values
+   * @param message {@link ValidationMessage}
+   */
+  public static void allAreNotBlank(
+      Iterable<? extends CharSequence> values, ValidationMessage message) {
+    int index = indexOfBlank(values);
+    if (index >= 0) {
+      throw new InvalidArgumentException(message, index);
+    }
+  }
+
+  /**
+   * Throws {@link InvalidArgumentException} if some value is null or blank. Exception params
+   * contain index of first blank value
+   *
+   * @param values Desired values
+   * @param message {@link ValidationMessage}
+   */
+  public static void allAreNotBlank(CharSequence[] values, ValidationMessage message) {
+    int index = indexOfBlank(values);
+    if (index >= 0) {
+      throw new InvalidArgumentException(message, index);
+    }
+  }
+
   /**
    * Throws {@link InvalidArgumentException} if more than one value is not blank or if all values
    * are blank
@@ -134,22 +314,107 @@ public final class ArgumentValidations {
    * @param message {@link ValidationMessage}
    */
   public static void onlyOneIsNotBlank(Iterable<CharSequence> values, ValidationMessage message) {
-    long notBlankCount = 0;
-    for (CharSequence value : values) {
-      if (StringUtils.isNotBlank(value)) {
-        notBlankCount++;
-      }
-
-      if (notBlankCount > 1) {
-        throw new InvalidArgumentException(message);
-      }
+    if (countNotBlank(values, 2) != 1) {
+      throw new InvalidArgumentException(message);
     }
+  }
 
-    if (notBlankCount == 0) {
+  /**
+   * Throws {@link InvalidArgumentException} if more than one value is not blank or if all values
+   * are blank
+   *
+   * @param values Desired values
+   * @param message {@link ValidationMessage}
+   */
+  public static void onlyOneIsNotBlank(CharSequence[] values, ValidationMessage message) {
+    if (countNotBlank(values, 2) != 1) {
       throw new InvalidArgumentException(message);
     }
   }
 
+  /**
+   * Throws {@link InvalidArgumentException} if less than n values are not blank
+   *
+   * @param values Desired values
+   * @param n Desired number of values
+   * @param message {@link ValidationMessage}
+   */
+  public static void atLeastNAreNotBlank(
+      Iterable<? extends CharSequence> values, int n, ValidationMessage message) {
+    if (countNotBlank(values, n) < n) {
+      throw new InvalidArgumentException(message, n);
+    }
+  }
+
+  /**
+   * Throws {@link InvalidArgumentException} if less than n values are not blank
+   *
+   * @param values Desired values
+   * @param n Desired number of values
+   * @param message {@link ValidationMessage}
+   */
+  public static void atLeastNAreNotBlank(CharSequence[] values, int n, ValidationMessage message) {
+    if (countNotBlank(values, n) < n) {
+      throw new InvalidArgumentException(message, n);
+    }
+  }
+
+  /**
+   * Throws {@link InvalidArgumentException} if more than n values are not blank
+   *
+   * @param values Desired values
+   * @param n Desired number of values
+   * @param message {@link ValidationMessage}
+   */
+  public static void atMostNAreNotBlank(
+      Iterable<? extends CharSequence> values, int n, ValidationMessage message) {
+    if (countNotBlank(values, n + 1L) > n) {
+      throw new InvalidArgumentException(message, n);
+    }
+  }
+
+  /**
+   * Throws {@link InvalidArgumentException} if more than n values are not blank
+   *
+   * @param values Desired values
+   * @param n Desired number of values
+   * @param message {@link ValidationMessage}
+   */
+  public static void atMostNAreNotBlank(CharSequence[] values, int n, ValidationMessage message) {
+    if (countNotBlank(values, n + 1L) > n) {
+      throw new InvalidArgumentException(message, n);
+    }
+  }
+
+  /**
+   * Throws {@link InvalidArgumentException} if number of values which are not blank is different
+   * from n
+   *
+   * @param values Desired values
+   * @param n Desired number of values
+   * @param message {@link ValidationMessage}
+   */
+  public static void exactlyNAreNotBlank(
+      Iterable<? extends CharSequence> values, int n, ValidationMessage message) {
+    if (countNotBlank(values, n + 1L) != n) {
+      throw new InvalidArgumentException(message, n);
+    }
+  }
+
+  /**
+   * Throws {@link InvalidArgumentException} if number of values which are not blank is different
+   * from n
+   *
+   * @param values Desired values
+   * @param n Desired number of values
+   * @param message {@link ValidationMessage}
+   */
+  public static void exactlyNAreNotBlank(CharSequence[] values, int n, ValidationMessage message) {
+    if (countNotBlank(values, n + 1L) != n) {
+      throw new InvalidArgumentException(message, n);
+    }
+  }
+
   /**
    * Throws {@link RequiredArgumentException} if value is null or {@link InvalidArgumentException}
    * if value is not empty
@@ -1207,6 +1472,134 @@ public final class ArgumentValidations {
     }
   }
 
+  /**
+   * Throws {@link InvalidArgumentException} if set does not contain value
+   *
+   * @param value Desired value
+   * @param set Set to validate
+   * @param message {@link ValidationMessage}
+   */
+  public static void contains(long value, LongSet set, ValidationMessage message) {
+    if (!set.contains(value)) {
+      throw new InvalidArgumentException(message, value);
+    }
+  }
+
+  /**
+   * Throws {@link InvalidArgumentException} if set contains value
+   *
+   * @param value Desired value
+   * @param set Set to validate
+   * @param message {@link ValidationMessage}
+   */
+  public static void doesNotContain(long value, LongSet set, ValidationMessage message) {
+    if (set.contains(value)) {
+      throw new InvalidArgumentException(message, value);
+    }
+  }
+
+  /**
+   * Throws {@link InvalidArgumentException} if set does not contain value
+   *
+   * @param value Desired value
+   * @param set Set to validate
+   * @param message {@link ValidationMessage}
+   */
+  public static void contains(CharSequence value, CharSequenceSet set, ValidationMessage message) {
+    if (!set.contains(value)) {
+      throw new InvalidArgumentException(message, value);
+    }
+  }
+
+  /**
+   * Throws {@link InvalidArgumentException} if set contains value
+   *
+   * @param value Desired value
+   * @param set Set to validate
+   * @param message {@link ValidationMessage}
+   */
+  public static void doesNotContain(
+      CharSequence value, CharSequenceSet set, ValidationMessage message) {
+    if (set.contains(value)) {
+      throw new InvalidArgumentException(message, value);
+    }
+  }
+
+  /**
+   * Throws {@link InvalidArgumentException} if value does not start with any of prefixes
+   *
+   * @param value Desired value
+   * @param prefixes Allowed prefixes
+   * @param message {@link ValidationMessage}
+   */
+  public static void startsWithAny(
+      CharSequence value, CompactStringSet prefixes, ValidationMessage message) {
+    if (prefixes.longestPrefixLength(value) < 0) {
+      throw new InvalidArgumentException(message, value);
+    }
+  }
+
+  /**
+   * Throws {@link InvalidArgumentException} if value contains any of terms
+   *
+   * @param value Desired value
+   * @param terms Forbidden terms
+   * @param message {@link ValidationMessage}
+   */
+  public static void containsNoneOf(
+      CharSequence value, TermMatcher terms, ValidationMessage message) {
+    String term = terms.findFirst(value);
+    if (Objects.nonNull(term)) {
+      throw new InvalidArgumentException(message, value, term);
+    }
+  }
+
+  /**
+   * Throws {@link InvalidArgumentException} if value is not a valid IP address or does not belong
+   * to any of ranges
+   *
+   * @param value Desired value
+   * @param ranges Allowed IP ranges
+   * @param message {@link ValidationMessage}
+   */
+  public static void isInIpRanges(
+      CharSequence value, IpRangeSet ranges, ValidationMessage message) {
+    if (!ranges.contains(value)) {
+      throw new InvalidArgumentException(message, value);
+    }
+  }
+
+  /**
+   * Throws {@link InvalidArgumentException} if value is not a valid IP address or belongs to some
+   * of ranges
+   *
+   * @param value Desired value
+   * @param ranges Forbidden IP ranges
+   * @param message {@link ValidationMessage}
+   */
+  public static void isNotInIpRanges(
+      CharSequence value, IpRangeSet ranges, ValidationMessage message) {
+    if (!IpRangeSet.isValidAddress(value) || ranges.contains(value)) {
+      throw new InvalidArgumentException(message, value);
+    }
+  }
+
+  /**
+   * Throws {@link DuplicatedException} if value was seen within the window of recently seen values.
+   * Otherwise, value is recorded as seen, atomically with the check
+   *
+   * @param value Desired value
+   * @param recentlySeen Recently seen values
+   * @param message {@link ValidationMessage}
+   * @param <T> Value type
+   */
+  public static <T> void isNotRecentlySeen(
+      T value, RecentlySeenSet<T> recentlySeen, ValidationMessage message) {
+    if (!recentlySeen.add(value)) {
+      throw new DuplicatedException(message, value);
+    }
+  }
+
   /**
    * Throws {@link InvalidArgumentException} if value has not desired size
    *
@@ -1249,6 +1642,53 @@ public final class ArgumentValidations {
     }
   }
 
+  /**
+   * Throws {@link InvalidArgumentException} if value has not desired size. Elements are counted
+   * until size is exceeded, so larger values are not fully traversed
+   *
+   * @param value Desired value
+   * @param size Size to validate
+   * @param message {@link ValidationMessage}
+   * @param <T> Iterable type
+   */
+  public static <T> void hasSize(Iterable<T> value, int size, ValidationMessage message) {
+    if (value instanceof Collection) {
+      hasSize((Collection<T>) value, size, message);
+    } else {
+      hasSize(value.iterator(), size, message);
+    }
+  }
+
+  /**
+   * Throws {@link InvalidArgumentException} if value has not desired size. Elements are consumed
+   * until size is exceeded, so larger values are not fully consumed
+   *
+   * @param value Desired value
+   * @param size Size to validate
+   * @param message {@link ValidationMessage}
+   * @param <T> Iterator type
+   */
+  public static <T> void hasSize(Iterator<T> value, int size, ValidationMessage message) {
+    if (countUpTo(value, size + 1L) != size) {
+      throw new InvalidArgumentException(message, size);
+    }
+  }
+
+  /**
+   * Throws {@link InvalidArgumentException} if value has not desired size. Elements are consumed
+   * until size is exceeded, so larger values are not fully consumed
+   *
+   * @param value Desired value
+   * @param size Size to validate
+   * @param message {@link ValidationMessage}
+   * @param <T> Stream type
+   */
+  public static <T> void hasSize(Stream<T> value, int size, ValidationMessage message) {
+    if (size < 0 || value.limit(size + 1L).count() != size) {
+      throw new InvalidArgumentException(message, size);
+    }
+  }
+
   /**
    * Throws {@link InvalidArgumentException} if value has not desired size range
    *
@@ -1297,6 +1737,65 @@ public final class ArgumentValidations {
     }
   }
 
+  /**
+   * Throws {@link InvalidArgumentException} if value has not desired size range. Elements are
+   * counted until final limit is exceeded, so larger values are not fully traversed
+   *
+   * @param value Desired value
+   * @param minSize Initial limit
+   * @param maxSize Final limit
+   * @param message {@link ValidationMessage}
+   * @param <T> Iterable type
+   */
+  public static <T> void hasSizeBetween(
+      Iterable<T> value, int minSize, int maxSize, ValidationMessage message) {
+    if (value instanceof Collection) {
+      hasSizeBetween((Collection<T>) value, minSize, maxSize, message);
+    } else {
+      hasSizeBetween(value.iterator(), minSize, maxSize, message);
+    }
+  }
+
+  /**
+   * Throws {@link InvalidArgumentException} if value has not desired size range. Elements are
+   * consumed until final limit is exceeded, so larger values are not fully consumed
+   *
+   * @param value Desired value
+   * @param minSize Initial limit
+   * @param maxSize Final limit
+   * @param message {@link ValidationMessage}
+   * @param <T> Iterator type
+   */
+  public static <T> void hasSizeBetween(
+      Iterator<T> value, int minSize, int maxSize, ValidationMessage message) {
+    long size = countUpTo(value, maxSize + 1L);
+    if (size < minSize || size > maxSize) {
+      throw new InvalidArgumentException(message, minSize, maxSize);
+    }
+  }
+
+  /**
+   * Throws {@link InvalidArgumentException} if value has not desired size range. Elements are
+   * consumed until final limit is exceeded, so larger values are not fully consumed
+   *
+   * @param value Desired value
+   * @param minSize Initial limit
+   * @param maxSize Final limit
+   * @param message {@link ValidationMessage}
+   * @param <T> Stream type
+   */
+  public static <T> void hasSizeBetween(
+      Stream<T> value, int minSize, int maxSize, ValidationMessage message) {
+    if (maxSize < 0) {
+      throw new InvalidArgumentException(message, minSize, maxSize);
+    }
+
+    long size = value.limit(maxSize + 1L).count();
+    if (size < minSize || size > maxSize) {
+      throw new InvalidArgumentException(message, minSize, maxSize);
+    }
+  }
+
   /**
    * Throws {@link InvalidArgumentException} if value is not of desired type
    *
@@ -1311,5 +1810,132 @@ public final class ArgumentValidations {
     }
   }
 
+  private static <T> long countNotNull(Iterable<T> values, long limit) {
+    long count = 0;
+    if (values instanceof List && values instanceof RandomAccess) {
+      List<T> list = (List<T>) values;
+      for (int i = 0, size = list.size(); i < size && count < limit; i++) {
+        if (Objects.nonNull(list.get(i))) {
+          count++;
+        }
+      }
+    } else {
+      Iterator<T> iterator = values.iterator();
+      while (count < limit && iterator.hasNext()) {
+        if (Objects.nonNull(iterator.next())) {
+          count++;
+        }
+      }
+    }
+    return count;
+  }
+
+  private static <T> long countNotNull(T[] values, long limit) {
+    long count = 0;
+    for (int i = 0; i < values.length && count < limit; i++) {
+      if (Objects.nonNull(values[i])) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private static long countNotBlank(Iterable<? extends CharSequence> values, long limit) {
+    long count = 0;
+    if (values instanceof List && values instanceof RandomAccess) {
+      List<? extends CharSequence> list = (List<? extends CharSequence>) values;
+      for (int i = 0, size = list.size(); i < size && count < limit; i++) {
+        if (StringUtils.isNotBlank(list.get(i))) {
+          count++;
+        }
+      }
+    } else {
+      Iterator<? extends CharSequence> iterator = values.iterator();
+      while (count < limit && iterator.hasNext()) {
+        if (StringUtils.isNotBlank(iterator.next())) {
+          count++;
+        }
+      }
+    }
+    return count;
+  }
+
+  private static long countNotBlank(CharSequence[] values, long limit) {
+    long count = 0;
+    for (int i = 0; i < values.length && count < limit; i++) {
+      if (StringUtils.isNotBlank(values[i])) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private static long countUpTo(Iterator<?> values, long limit) {
+    long count = 0;
+    while (count < limit && values.hasNext()) {
+      values.next();
+      count++;
+    }
+    return count;
+  }
+
+  private static <T> int indexOfNull(Iterable<T> values) {
+    if (values instanceof List && values instanceof RandomAccess) {
+      List<T> list = (List<T>) values;
+      for (int i = 0, size = list.size(); i < size; i++) {
+        if (Objects.isNull(list.get(i))) {
+          return i;
+        }
+      }
+    } else {
+      int index = 0;
+      for (T value : values) {
+        if (Objects.isNull(value)) {
+          return index;
+        }
+        index++;
+      }
+    }
+    return -1;
+  }
+
+  private static <T> int indexOfNull(T[] values) {
+    for (int i = 0; i < values.length; i++) {
+      if (Objects.isNull(values[i])) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static int indexOfBlank(Iterable<? extends CharSequence> values) {
+    if (values instanceof List && values instanceof RandomAccess) {
+      List<? extends CharSequence> list = (List<? extends CharSequence>) values;
+      for (int i = 0, size = list.size(); i < size; i++) {
+        if (StringUtils.isBlank(list.get(i))) {
+          return i;
+        }
+      }
+    } else {
+      int index = 0;
+      for (CharSequence value : values) {
+        if (StringUtils.isBlank(value)) {
+          return index;
+        }
+        index++;
+      }
+    }
+    return -1;
+  }
+
+  private static int indexOfBlank(CharSequence[] values) {
+    for (int i = 0; i < values.length; i++) {
+      if (StringUtils.isBlank(values[i])) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
   private ArgumentValidations() {}
 }
@@ -0,0 +1,50 @@
+package br.com.leverinfo.validation;
+
+/**
+ * Bulk column checks used by {@link ColumnValidations}.
+ *
+ * <p>This class delegates to {@link ScalarColumnKernels}. The multi-release JAR replaces it on Java
+ * 17 and later with a version which uses the Vector API when module {@code jdk.incubator.vector} is
+ * available.
+ *
+ * @author franciscosousabr
+ */
+final class ColumnKernels {
+
+  static void outsideRange(int[] values, int startValue, int endValue, long[] words) {
+    ScalarColumnKernels.outsideRange(values, 0, startValue, endValue, words);
+  }
+
+  static void outsideRange(long[] values, long startValue, long endValue, long[] words) {
+    ScalarColumnKernels.outsideRange(values, 0, startValue, endValue, words);
+  }
+
+  static void outsideRange(double[] values, double startValue, double endValue, long[] words) {
+    ScalarColumnKernels.outsideRange(values, 0, startValue, endValue, words);
+  }
+
+  static void notPositive(int[] values, long[] words) {
+    ScalarColumnKernels.notPositive(values, 0, words);
+  }
+
+  static void notPositive(long[] values, long[] words) {
+    ScalarColumnKernels.notPositive(values, 0, words);
+  }
+
+  static void notPositive(double[] values, long[] words) {
+    ScalarColumnKernels.notPositive(values, 0, words);
+  }
+
+  /**
+   * Checks if value has only ASCII digits
+   *
+   * @param value Desired value
+   * @param buffer Scratch buffer at least as long as value
+   * @return true if value has only ASCII digits
+   */
+  static boolean isAsciiDigits(CharSequence value, char[] buffer) {
+    return ScalarColumnKernels.isAsciiDigits(value, 0);
+  }
+
+  private ColumnKernels() {}
+}
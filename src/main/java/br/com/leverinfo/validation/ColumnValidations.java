@@ -0,0 +1,159 @@
+package br.com.leverinfo.validation;
+
+import java.util.BitSet;
+
+/**
+ * Recommended to handle with validations over whole columns of values.
+ *
+ * <p>Instead of throwing on the first invalid value, each validation checks every row of a column
+ * and returns a {@link BitSet} with the indexes of invalid rows, so rules can be combined with
+ * {@link BitSet#or(BitSet)} and reported at once. Rows are checked in straight loops without
+ * branches on values, which compilers can unroll and vectorize.
+ *
+ * <p>On Java 17 and later, range, zero and digit checks use the Vector API when module {@code
+ * jdk.incubator.vector} is added to the runtime ({@code --add-modules jdk.incubator.vector}).
+ *
+ * @author franciscosousabr
+ */
+public final class ColumnValidations {
+
+  /**
+   * Gets rows whose values are not between limits
+   *
+   * @param values Desired values
+   * @param startValue Initial limit
+   * @param endValue Final limit
+   * @return Indexes of invalid rows
+   */
+  public static BitSet isBetween(int[] values, int startValue, int endValue) {
+    long[] words = newWords(values.length);
+    ColumnKernels.outsideRange(values, startValue, endValue, words);
+    return BitSet.valueOf(words);
+  }
+
+  /**
+   * Gets rows whose values are not between limits
+   *
+   * @param values Desired values
+   * @param startValue Initial limit
+   * @param endValue Final limit
+   * @return Indexes of invalid rows
+   */
+  public static BitSet isBetween(long[] values, long startValue, long endValue) {
+    long[] words = newWords(values.length);
+    ColumnKernels.outsideRange(values, startValue, endValue, words);
+    return BitSet.valueOf(words);
+  }
+
+  /**
+   * Gets rows whose values are not between limits. {@code NaN} values are not between any limits.
+   *
+   * @param values Desired values
+   * @param startValue Initial limit
+   * @param endValue Final limit
+   * @return Indexes of invalid rows
+   */
+  public static BitSet isBetween(double[] values, double startValue, double endValue) {
+    long[] words = newWords(values.length);
+    ColumnKernels.outsideRange(values, startValue, endValue, words);
+    return BitSet.valueOf(words);
+  }
+
+  /**
+   * Gets rows whose values are less than or equal to zero
+   *
+   * @param values Desired values
+   * @return Indexes of invalid rows
+   */
+  public static BitSet isGreaterThanZero(int[] values) {
+    long[] words = newWords(values.length);
+    ColumnKernels.notPositive(values, words);
+    return BitSet.valueOf(words);
+  }
+
+  /**
+   * Gets rows whose values are less than or equal to zero
+   *
+   * @param values Desired values
+   * @return Indexes of invalid rows
+   */
+  public static BitSet isGreaterThanZero(long[] values) {
+    long[] words = newWords(values.length);
+    ColumnKernels.notPositive(values, words);
+    return BitSet.valueOf(words);
+  }
+
+  /**
+   * Gets rows whose values are less than or equal to zero
+   *
+   * @param values Desired values
+   * @return Indexes of invalid rows
+   */
+  public static BitSet isGreaterThanZero(double[] values) {
+    long[] words = newWords(values.length);
+    ColumnKernels.notPositive(values, words);
+    return BitSet.valueOf(words);
+  }
+
+  /**
+   * Gets rows whose values are null
+   *
+   * @param values Desired values
+   * @return Indexes of invalid rows
+   */
+  public static BitSet isNotNull(Object[] values) {
+    long[] words = newWords(values.length);
+    for (int i = 0; i < values.length; i++) {
+      words[i >>> 6] |= (values[i] == null ? 1L : 0L) << i;
+    }
+    return BitSet.valueOf(words);
+  }
+
+  /**
+   * Gets rows whose values have not desired size range. Null values have not any size.
+   *
+   * @param values Desired values
+   * @param minSize Initial limit
+   * @param maxSize Final limit
+   * @return Indexes of invalid rows
+   */
+  public static BitSet hasSizeBetween(CharSequence[] values, int minSize, int maxSize) {
+    long[] words = newWords(values.length);
+    for (int i = 0; i < values.length; i++) {
+      CharSequence value = values[i];
+      int size = value == null ? -1 : value.length();
+      words[i >>> 6] |= (size < minSize | size > maxSize | size < 0 ? 1L : 0L) << i;
+    }
+    return BitSet.valueOf(words);
+  }
+
+  /**
+   * Gets rows whose values are null, empty or have characters other than ASCII digits ({@code 0} to
+   * {@code 9})
+   *
+   * @param values Desired values
+   * @return Indexes of invalid rows
+   */
+  public static BitSet hasOnlyDigits(CharSequence[] values) {
+    long[] words = newWords(values.length);
+    char[] buffer = new char[64];
+    for (int i = 0; i < values.length; i++) {
+      CharSequence value = values[i];
+      boolean valid = value != null && value.length() > 0;
+      if (valid) {
+        if (value.length() > buffer.length) {
+          buffer = new char[Math.max(value.length(), buffer.length * 2)];
+        }
+        valid = ColumnKernels.isAsciiDigits(value, buffer);
+      }
+      words[i >>> 6] |= (valid ? 0L : 1L) << i;
+    }
+    return BitSet.valueOf(words);
+  }
+
+  private static long[] newWords(int rows) {
+    return new long[(rows + 63) >>> 6];
+  }
+
+  private ColumnValidations() {}
+}
@@ -0,0 +1,176 @@
+package br.com.leverinfo.validation;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * Finds the first duplicated element of primitive and {@link CharSequence} arrays with open
+ * addressing hash tables, without boxing elements.
+ *
+ * <p>Tables keep at most half of their slots used and are probed linearly from a Fibonacci hash of
+ * the element. Arrays with more elements than the max table size, {@code 2^29} unless given, whose
+ * tables would exceed {@code 2^30} slots, fall back to a {@link HashMap} of boxed elements. Results
+ * pack the index of the first occurrence in the high 32 bits and the index of the duplicated
+ * occurrence in the low 32 bits, or are -1 if all elements are unique.
+ *
+ * @author franciscosousabr
+ */
+final class DuplicateFinder {
+
+  private static final int INT_PHI = 0x9E3779B9;
+  private static final long LONG_PHI = 0x9E3779B97F4A7C15L;
+  private static final int MAX_TABLE_SIZE = 1 << 29;
+
+  static long find(int[] values) {
+    return find(values, MAX_TABLE_SIZE);
+  }
+
+  /** Finds duplicates with a table, or with a {@link HashMap} above max table size elements */
+  static long find(int[] values, int maxTableSize) {
+    if (values.length < 2) {
+      return -1;
+    } else if (values.length > maxTableSize) {
+      return find(values.length, index -> values[index]);
+    }
+
+    int bits = tableBits(values.length);
+    int mask = (1 << bits) - 1;
+    int shift = Integer.SIZE - bits;
+    int[] keys = new int[1 << bits];
+    int[] indexes = new int[1 << bits];
+    for (int i = 0; i < values.length; i++) {
+      int value = values[i];
+      int slot = (value * INT_PHI) >>> shift;
+      while (indexes[slot] != 0) {
+        if (keys[slot] == value) {
+          return pack(indexes[slot] - 1, i);
+        }
+        slot = (slot + 1) & mask;
+      }
+      keys[slot] = value;
+      indexes[slot] = i + 1;
+    }
+    return -1;
+  }
+
+  static long find(long[] values) {
+    return find(values, MAX_TABLE_SIZE);
+  }
+
+  static long find(long[] values, int maxTableSize) {
+    if (values.length < 2) {
+      return -1;
+    } else if (values.length > maxTableSize) {
+      return find(values.length, index -> values[index]);
+    }
+
+    int bits = tableBits(values.length);
+    int mask = (1 << bits) - 1;
+    int shift = Long.SIZE - bits;
+    long[] keys = new long[1 << bits];
+    int[] indexes = new int[1 << bits];
+    for (int i = 0; i < values.length; i++) {
+      long value = values[i];
+      int slot = (int) ((value * LONG_PHI) >>> shift);
+      while (indexes[slot] != 0) {
+        if (keys[slot] == value) {
+          return pack(indexes[slot] - 1, i);
+        }
+        slot = (slot + 1) & mask;
+      }
+      keys[slot] = value;
+      indexes[slot] = i + 1;
+    }
+    return -1;
+  }
+
+  /** Compares elements by content, so different {@link CharSequence} types can be duplicated. */
+  static long find(CharSequence[] values) {
+    return find(values, MAX_TABLE_SIZE);
+  }
+
+  static long find(CharSequence[] values, int maxTableSize) {
+    if (values.length < 2) {
+      return -1;
+    } else if (values.length > maxTableSize) {
+      return find(values.length, index -> values[index] == null ? null : values[index].toString());
+    }
+
+    int bits = tableBits(values.length);
+    int mask = (1 << bits) - 1;
+    int shift = Integer.SIZE - bits;
+    int[] hashes = new int[1 << bits];
+    int[] indexes = new int[1 << bits];
+    for (int i = 0; i < values.length; i++) {
+      CharSequence value = values[i];
+      int hash = hash(value);
+      int slot = (hash * INT_PHI) >>> shift;
+      while (indexes[slot] != 0) {
+        if (hashes[slot] == hash && contentEquals(values[indexes[slot] - 1], value)) {
+          return pack(indexes[slot] - 1, i);
+        }
+        slot = (slot + 1) & mask;
+      }
+      hashes[slot] = hash;
+      indexes[slot] = i + 1;
+    }
+    return -1;
+  }
+
+  static int firstIndex(long result) {
+    return (int) (result >>> 32);
+  }
+
+  static int secondIndex(long result) {
+    return (int) result;
+  }
+
+  private static long find(int length, IntFunction<Object> element) {
+    Map<Object, Integer> indexes = new HashMap<>();
+    for (int i = 0; i < length; i++) {
+      Integer firstIndex = indexes.putIfAbsent(element.apply(i), i);
+      if (firstIndex != null) {
+        return pack(firstIndex, i);
+      }
+    }
+    return -1;
+  }
+
+  private static int tableBits(int size) {
+    return Integer.SIZE - Integer.numberOfLeadingZeros(size * 2 - 1);
+  }
+
+  private static long pack(int firstIndex, int secondIndex) {
+    return ((long) firstIndex << 32) | secondIndex;
+  }
+
+  private static int hash(CharSequence value) {
+    if (value == null) {
+      return 0;
+    }
+
+    int hash = 0;
+    for (int i = 0, length = value.length(); i < length; i++) {
+      hash = 31 * hash + value.charAt(i);
+    }
+    return hash;
+  }
+
+  private static boolean contentEquals(CharSequence value, CharSequence other) {
+    if (value == null || other == null) {
+      return value == other;
+    } else if (value.length() != other.length()) {
+      return false;
+    }
+
+    for (int i = 0, length = value.length(); i < length; i++) {
+      if (value.charAt(i) != other.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private DuplicateFinder() {}
+}
@@ -0,0 +1,471 @@
+package br.com.leverinfo.validation;
+
+import br.com.leverinfo.validation.exception.DuplicatedException;
+import br.com.leverinfo.validation.exception.InvalidArgumentException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+
+/**
+ * Recommended to handle with validations over each element of collections, arrays and maps
+ *
+ * @author franciscosousabr
+ */
+public final class ElementValidations {
+
+  /** Default number of elements below which parallel validations stop splitting work */
+  public static final int DEFAULT_PARALLEL_THRESHOLD = 8192;
+
+  /**
+   * Throws {@link InvalidArgumentException} if some element does not satisfy rule. Exception params
+   * contain index and value of first invalid element
+   *
+   * @param values Desired values
+   * @param rule Rule to be satisfied by each element
+   * @param message {@link ValidationMessage}
+   * @param <T> Collection type
+   */
+  public static <T> void each(
+      Collection<T> values, Predicate<? super T> rule, ValidationMessage message) {
+    if (values instanceof List && values instanceof RandomAccess) {
+      List<T> list = (List<T>) values;
+      for (int i = 0, size = list.size(); i < size; i++) {
+        T value = list.get(i);
+        if (!rule.test(value)) {
+          throw new InvalidArgumentException(message, i, value);
+        }
+      }
+    } else {
+      int index = 0;
+      for (T value : values) {
+        if (!rule.test(value)) {
+          throw new InvalidArgumentException(message, index, value);
+        }
+        index++;
+      }
+    }
+  }
+
+  /**
+   * Throws {@link InvalidArgumentException} if some element does not satisfy rule. Exception params
+   * contain index and value of first invalid element
+   *
+   * @param values Desired values
+   * @param rule Rule to be satisfied by each element
+   * @param message {@link ValidationMessage}
+   * @param <T> Array type
+   */
+  public static <T> void each(T[] values, Predicate<? super T> rule, ValidationMessage message) {
+    for (int i = 0; i < values.length; i++) {
+      if (!rule.test(values[i])) {
+        throw new InvalidArgumentException(message, i, values[i]);
+      }
+    }
+  }
+
+  /**
+   * Throws {@link InvalidArgumentException} if some entry does not satisfy rule. Exception params
+   * contain key and value of first invalid entry
+   *
+   * @param values Desired values
+   * @param rule Rule to be satisfied by each entry
+   * @param message {@link ValidationMessage}
+   * @param <K> Map key type
+   * @param <V> Map value type
+   */
+  public static <K, V> void each(
+      Map<K, V> values, BiPredicate<? super K, ? super V> rule, ValidationMessage message) {
+    for (Map.Entry<K, V> entry : values.entrySet()) {
+      if (!rule.test(entry.getKey(), entry.getValue())) {
+        throw new InvalidArgumentException(message, entry.getKey(), entry.getValue());
+      }
+    }
+  }
+
+  /**
+   * Throws {@link InvalidArgumentException} if some element does not satisfy rule, after checking
+   * all elements. Exception params contain indexes of all invalid elements
+   *
+   * @param values Desired values
+   * @param rule Rule to be satisfied by each element
+   * @param message {@link ValidationMessage}
+   * @param <T> Collection type
+   */
+  public static <T> void eachCollectingAll(
+      Collection<T> values, Predicate<? super T> rule, ValidationMessage message) {
+    List<Object> invalidIndexes = new ArrayList<>();
+    if (values instanceof List && values instanceof RandomAccess) {
+      List<T> list = (List<T>) values;
+      for (int i = 0, size = list.size(); i < size; i++) {
+        if (!rule.test(list.get(i))) {
+          invalidIndexes.add(i);
+        }
+      }
+    } else {
+      int index = 0;
+      for (T value : values) {
+        if (!rule.test(value)) {
+          invalidIndexes.add(index);
+        }
+        index++;
+      }
+    }
+
+    if (!invalidIndexes.isEmpty()) {
+      throw new InvalidArgumentException(message, invalidIndexes.toArray());
+    }
+  }
+
+  /**
+   * Throws {@link InvalidArgumentException} if some element does not satisfy rule, after checking
+   * all elements. Exception params contain indexes of all invalid elements
+   *
+   * @param values Desired values
+   * @param rule Rule to be satisfied by each element
+   * @param message {@link ValidationMessage}
+   * @param <T> Array type
+   */
+  public static <T> void eachCollectingAll(
+      T[] values, Predicate<? super T> rule, ValidationMessage message) {
+    List<Object> invalidIndexes = new ArrayList<>();
+    for (int i = 0; i < values.length; i++) {
+      if (!rule.test(values[i])) {
+        invalidIndexes.add(i);
+      }
+    }
+
+    if (!invalidIndexes.isEmpty()) {
+      throw new InvalidArgumentException(message, invalidIndexes.toArray());
+    }
+  }
+
+  /**
+   * Throws {@link InvalidArgumentException} if some entry does not satisfy rule, after checking all
+   * entries. Exception params contain keys of all invalid entries
+   *
+   * @param values Desired values
+   * @param rule Rule to be satisfied by each entry
+   * @param message {@link ValidationMessage}
+   * @param <K> Map key type
+   * @param <V> Map value type
+   */
+  public static <K, V> void eachCollectingAll(
+      Map<K, V> values, BiPredicate<? super K, ? super V> rule, ValidationMessage message) {
+    List<Object> invalidKeys = new ArrayList<>();
+    for (Map.Entry<K, V> entry : values.entrySet()) {
+      if (!rule.test(entry.getKey(), entry.getValue())) {
+        invalidKeys.add(entry.getKey());
+      }
+    }
+
+    if (!invalidKeys.isEmpty()) {
+      throw new InvalidArgumentException(message, invalidKeys.toArray());
+    }
+  }
+
+  /**
+   * Throws {@link DuplicatedException} if some element is equal to a previous one. Exception params
+   * contain duplicated value and indexes of its first and second occurrences
+   *
+   * @param values Desired values
+   * @param message {@link ValidationMessage}
+   * @param <T> Collection type
+   */
+  public static <T> void allUnique(Collection<T> values, ValidationMessage message) {
+    allUnique(values, Function.identity(), message);
+  }
+
+  /**
+   * Throws {@link DuplicatedException} if key of some element is equal to key of a previous one.
+   * Exception params contain duplicated key and indexes of its first and second occurrences
+   *
+   * @param values Desired values
+   * @param key Function which extracts key of each element
+   * @param message {@link ValidationMessage}
+   * @param <T> Collection type
+   */
+  public static <T> void allUnique(
+      Collection<T> values, Function<? super T, ?> key, ValidationMessage message) {
+    Map<Object, Integer> indexes = new HashMap<>(Math.max(16, (int) (values.size() / 0.75f) + 1));
+    int index = 0;
+    for (T value : values) {
+      Object valueKey = key.apply(value);
+      Integer firstIndex = indexes.putIfAbsent(valueKey, index);
+      if (firstIndex != null) {
+        throw new DuplicatedException(message, valueKey, firstIndex, index);
+      }
+      index++;
+    }
+  }
+
+  /**
+   * Throws {@link DuplicatedException} if some element is equal to a previous one. Exception params
+   * contain duplicated value and indexes of its first and second occurrences
+   *
+   * @param values Desired values
+   * @param message {@link ValidationMessage}
+   * @param <T> Array type
+   */
+  public static <T> void allUnique(T[] values, ValidationMessage message) {
+    allUnique(values, Function.identity(), message);
+  }
+
+  /**
+   * Throws {@link DuplicatedException} if key of some element is equal to key of a previous one.
+   * Exception params contain duplicated key and indexes of its first and second occurrences
+   *
+   * @param values Desired values
+   * @param key Function which extracts key of each element
+   * @param message {@link ValidationMessage}
+   * @param <T> Array type
+   */
+  public static <T> void allUnique(
+      T[] values, Function<? super T, ?> key, ValidationMessage message) {
+    Map<Object, Integer> indexes = new HashMap<>(Math.max(16, (int) (values.length / 0.75f) + 1));
+    for (int i = 0; i < values.length; i++) {
+      Object valueKey = key.apply(values[i]);
+      Integer firstIndex = indexes.putIfAbsent(valueKey, i);
+      if (firstIndex != null) {
+        throw new DuplicatedException(message, valueKey, firstIndex, i);
+      }
+    }
+  }
+
+  /**
+   * Throws {@link DuplicatedException} if some element is equal to a previous one. Exception params
+   * contain duplicated value and indexes of its first and second occurrences
+   *
+   * @param values Desired values
+   * @param message {@link ValidationMessage}
+   */
+  public static void allUnique(int[] values, ValidationMessage message) {
+    long duplicate = DuplicateFinder.find(values);
+    if (duplicate >= 0) {
+      int index = DuplicateFinder.secondIndex(duplicate);
+      throw new DuplicatedException(
+          message, values[index], DuplicateFinder.firstIndex(duplicate), index);
+    }
+  }
+
+  /**
+   * Throws {@link DuplicatedException} if some element is equal to a previous one. Exception params
+   * contain duplicated value and indexes of its first and second occurrences
+   *
+   * @param values Desired values
+   * @param message {@link ValidationMessage}
+   */
+  public static void allUnique(long[] values, ValidationMessage message) {
+    long duplicate = DuplicateFinder.find(values);
+    if (duplicate >= 0) {
+      int index = DuplicateFinder.secondIndex(duplicate);
+      throw new DuplicatedException(
+          message, values[index], DuplicateFinder.firstIndex(duplicate), index);
+    }
+  }
+
+  /**
+   * Throws {@link DuplicatedException} if some element has the same characters as a previous one.
+   * Exception params contain duplicated value and indexes of its first and second occurrences
+   *
+   * @param values Desired values
+   * @param message {@link ValidationMessage}
+   */
+  public static void allUnique(CharSequence[] values, ValidationMessage message) {
+    long duplicate = DuplicateFinder.find(values);
+    if (duplicate >= 0) {
+      int index = DuplicateFinder.secondIndex(duplicate);
+      throw new DuplicatedException(
+          message, values[index], DuplicateFinder.firstIndex(duplicate), index);
+    }
+  }
+
+  /**
+   * Throws {@link InvalidArgumentException} if some element does not satisfy rule, checking
+   * elements in parallel on {@link ForkJoinPool#commonPool()}. Exception params contain index and
+   * value of first invalid element
+   *
+   * @param values Desired values
+   * @param rule Rule to be satisfied by each element, safe for concurrent use
+   * @param message {@link ValidationMessage}
+   * @param <T> Collection type
+   * @see #eachInParallel(Collection, Predicate, ForkJoinPool, int, ValidationMessage)
+   */
+  public static <T> void eachInParallel(
+      Collection<T> values, Predicate<? super T> rule, ValidationMessage message) {
+    eachInParallel(values, rule, ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD, message);
+  }
+
+  /**
+   * Throws {@link InvalidArgumentException} if some element does not satisfy rule, checking
+   * elements in parallel. Exception params contain index and value of first invalid element, the
+   * same as {@link #each(Collection, Predicate, ValidationMessage)}.
+   *
+   * <p>{@link RandomAccess} lists are split in chunks of at most threshold elements, and chunks
+   * after an invalid element are skipped once it is found. Other collections are checked
+   * sequentially.
+   *
+   * @param values Desired values
+   * @param rule Rule to be satisfied by each element, safe for concurrent use
+   * @param pool Pool which runs the checks
+   * @param threshold Number of elements below which work is not split
+   * @param message {@link ValidationMessage}
+   * @param <T> Collection type
+   * @throws IllegalArgumentException If threshold is not positive
+   */
+  public static <T> void eachInParallel(
+      Collection<T> values,
+      Predicate<? super T> rule,
+      ForkJoinPool pool,
+      int threshold,
+      ValidationMessage message) {
+    checkThreshold(threshold);
+    if (values instanceof List && values instanceof RandomAccess) {
+      List<T> list = (List<T>) values;
+      eachInParallel(list.size(), list::get, rule, pool, threshold, message);
+    } else {
+      each(values, rule, message);
+    }
+  }
+
+  /**
+   * Throws {@link InvalidArgumentException} if some element does not satisfy rule, checking
+   * elements in parallel on {@link ForkJoinPool#commonPool()}. Exception params contain index and
+   * value of first invalid element
+   *
+   * @param values Desired values
+   * @param rule Rule to be satisfied by each element, safe for concurrent use
+   * @param message {@link ValidationMessage}
+   * @param <T> Array type
+   * @see #eachInParallel(Object[], Predicate, ForkJoinPool, int, ValidationMessage)
+   */
+  public static <T> void eachInParallel(
+      T[] values, Predicate<? super T> rule, ValidationMessage message) {
+    eachInParallel(values, rule, ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD, message);
+  }
+
+  /**
+   * Throws {@link InvalidArgumentException} if some element does not satisfy rule, checking
+   * elements in parallel. Exception params contain index and value of first invalid element, the
+   * same as {@link #each(Object[], Predicate, ValidationMessage)}.
+   *
+   * <p>Array is split in chunks of at most threshold elements, and chunks after an invalid element
+   * are skipped once it is found.
+   *
+   * @param values Desired values
+   * @param rule Rule to be satisfied by each element, safe for concurrent use
+   * @param pool Pool which runs the checks
+   * @param threshold Number of elements below which work is not split
+   * @param message {@link ValidationMessage}
+   * @param <T> Array type
+   * @throws IllegalArgumentException If threshold is not positive
+   */
+  public static <T> void eachInParallel(
+      T[] values,
+      Predicate<? super T> rule,
+      ForkJoinPool pool,
+      int threshold,
+      ValidationMessage message) {
+    checkThreshold(threshold);
+    eachInParallel(values.length, index -> values[index], rule, pool, threshold, message);
+  }
+
+  private static <T> void eachInParallel(
+      int size,
+      IntFunction<T> elements,
+      Predicate<? super T> rule,
+      ForkJoinPool pool,
+      int threshold,
+      ValidationMessage message) {
+    if (size <= threshold) {
+      for (int i = 0; i < size; i++) {
+        T value = elements.apply(i);
+        if (!rule.test(value)) {
+          throw new InvalidArgumentException(message, i, value);
+        }
+      }
+      return;
+    }
+
+    AtomicInteger firstInvalidIndex = new AtomicInteger(Integer.MAX_VALUE);
+    pool.invoke(new EachTask<>(elements, rule, threshold, firstInvalidIndex, 0, size));
+    int index = firstInvalidIndex.get();
+    if (index != Integer.MAX_VALUE) {
+      throw new InvalidArgumentException(message, index, elements.apply(index));
+    }
+  }
+
+  private static void checkThreshold(int threshold) {
+    if (threshold < 1) {
+      throw new IllegalArgumentException("Threshold must be positive: " + threshold);
+    }
+  }
+
+  /**
+   * Checks a range of elements, splitting it while larger than threshold. Elements after the lowest
+   * invalid index found so far are skipped, and elements before it are always checked, so the
+   * lowest invalid index is found regardless of scheduling.
+   */
+  private static final class EachTask<T> extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient IntFunction<T> elements;
+    private final transient Predicate<? super T> rule;
+    private final int threshold;
+    private final AtomicInteger firstInvalidIndex;
+    private final int start;
+    private final int end;
+
+    EachTask(
+        IntFunction<T> elements,
+        Predicate<? super T> rule,
+        int threshold,
+        AtomicInteger firstInvalidIndex,
+        int start,
+        int end) {
+      this.elements = elements;
+      this.rule = rule;
+      this.threshold = threshold;
+      this.firstInvalidIndex = firstInvalidIndex;
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    protected void compute() {
+      if (start >= firstInvalidIndex.get()) {
+        return;
+      }
+
+      if (end - start > threshold) {
+        int middle = (start + end) >>> 1;
+        invokeAll(
+            new EachTask<>(elements, rule, threshold, firstInvalidIndex, start, middle),
+            new EachTask<>(elements, rule, threshold, firstInvalidIndex, middle, end));
+        return;
+      }
+
+      for (int i = start; i < end && i < firstInvalidIndex.get(); i++) {
+        if (!rule.test(elements.apply(i))) {
+          int current = firstInvalidIndex.get();
+          while (i < current && !firstInvalidIndex.compareAndSet(current, i)) {
+            current = firstInvalidIndex.get();
+          }
+          return;
+        }
+      }
+    }
+  }
+
+  private ElementValidations() {}
+}
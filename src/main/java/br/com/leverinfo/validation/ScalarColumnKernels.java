@@ -0,0 +1,64 @@
+package br.com.leverinfo.validation;
+
+/**
+ * Scalar implementation of bulk column checks, used when vector instructions are not available and
+ * for the rows left over by vectorized loops.
+ *
+ * <p>Each check sets in words the bit of every invalid row from index {@code from} on.
+ *
+ * @author franciscosousabr
+ */
+final class ScalarColumnKernels {
+
+  static void outsideRange(int[] values, int from, int startValue, int endValue, long[] words) {
+    for (int i = from; i < values.length; i++) {
+      int value = values[i];
+      words[i >>> 6] |= (value < startValue | value > endValue ? 1L : 0L) << i;
+    }
+  }
+
+  static void outsideRange(long[] values, int from, long startValue, long endValue, long[] words) {
+    for (int i = from; i < values.length; i++) {
+      long value = values[i];
+      words[i >>> 6] |= (value < startValue | value > endValue ? 1L : 0L) << i;
+    }
+  }
+
+  static void outsideRange(
+      double[] values, int from, double startValue, double endValue, long[] words) {
+    for (int i = from; i < values.length; i++) {
+      double value = values[i];
+      words[i >>> 6] |= (value >= startValue & value <= endValue ? 0L : 1L) << i;
+    }
+  }
+
+  static void notPositive(int[] values, int from, long[] words) {
+    for (int i = from; i < values.length; i++) {
+      words[i >>> 6] |= (values[i] <= 0 ? 1L : 0L) << i;
+    }
+  }
+
+  static void notPositive(long[] values, int from, long[] words) {
+    for (int i = from; i < values.length; i++) {
+      words[i >>> 6] |= (values[i] <= 0 ? 1L : 0L) << i;
+    }
+  }
+
+  static void notPositive(double[] values, int from, long[] words) {
+    for (int i = from; i < values.length; i++) {
+      words[i >>> 6] |= (values[i] <= 0 ? 1L : 0L) << i;
+    }
+  }
+
+  static boolean isAsciiDigits(CharSequence value, int from) {
+    for (int i = from, length = value.length(); i < length; i++) {
+      char character = value.charAt(i);
+      if (character < '0' || character > '9') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private ScalarColumnKernels() {}
+}
@@ -0,0 +1,186 @@
+package br.com.leverinfo.validation;
+
+import br.com.leverinfo.validation.exception.InvalidArgumentException;
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Recommended to handle with validations over elements of streams and spliterators.
+ *
+ * <p>Validations wrap a {@link Stream} or {@link Spliterator} and check each element lazily, when
+ * it is traversed by the pipeline, so short-circuiting operations stop validating along with the
+ * traversal. Wrapped spliterators split the same way as the original ones, so parallel streams stay
+ * parallel, and wrapped streams keep the close handlers of the original ones. In parallel
+ * pipelines, rules and sinks are called concurrently.
+ *
+ * @author franciscosousabr
+ */
+public final class StreamValidations {
+
+  /**
+   * Returns a stream which throws {@link InvalidArgumentException} when it reaches an element which
+   * does not satisfy rule. Exception params contain the invalid element
+   *
+   * @param values Desired values
+   * @param rule Rule to be satisfied by each element
+   * @param message {@link ValidationMessage}
+   * @param <T> Stream type
+   * @return Validating stream
+   */
+  public static <T> Stream<T> validating(
+      Stream<T> values, Predicate<? super T> rule, ValidationMessage message) {
+    return wrap(values, validating(values.spliterator(), rule, message));
+  }
+
+  /**
+   * Returns a spliterator which throws {@link InvalidArgumentException} when it reaches an element
+   * which does not satisfy rule. Exception params contain the invalid element
+   *
+   * @param values Desired values
+   * @param rule Rule to be satisfied by each element
+   * @param message {@link ValidationMessage}
+   * @param <T> Spliterator type
+   * @return Validating spliterator
+   */
+  public static <T> Spliterator<T> validating(
+      Spliterator<T> values, Predicate<? super T> rule, ValidationMessage message) {
+    return new ValidatingSpliterator<>(
+        values,
+        rule,
+        value -> {
+          throw new InvalidArgumentException(message, value);
+        });
+  }
+
+  /**
+   * Returns a stream without the elements which do not satisfy rule
+   *
+   * @param values Desired values
+   * @param rule Rule to be satisfied by each element
+   * @param <T> Stream type
+   * @return Filtered stream
+   */
+  public static <T> Stream<T> droppingInvalid(Stream<T> values, Predicate<? super T> rule) {
+    return wrap(values, droppingInvalid(values.spliterator(), rule));
+  }
+
+  /**
+   * Returns a spliterator without the elements which do not satisfy rule
+   *
+   * @param values Desired values
+   * @param rule Rule to be satisfied by each element
+   * @param <T> Spliterator type
+   * @return Filtered spliterator
+   */
+  public static <T> Spliterator<T> droppingInvalid(
+      Spliterator<T> values, Predicate<? super T> rule) {
+    return new ValidatingSpliterator<>(values, rule, value -> {});
+  }
+
+  /**
+   * Returns a stream without the elements which do not satisfy rule, which are passed to sink
+   * instead
+   *
+   * @param values Desired values
+   * @param rule Rule to be satisfied by each element
+   * @param sink Consumer of invalid elements
+   * @param <T> Stream type
+   * @return Filtered stream
+   */
+  public static <T> Stream<T> divertingInvalid(
+      Stream<T> values, Predicate<? super T> rule, Consumer<? super T> sink) {
+    return wrap(values, divertingInvalid(values.spliterator(), rule, sink));
+  }
+
+  /**
+   * Returns a spliterator without the elements which do not satisfy rule, which are passed to sink
+   * instead
+   *
+   * @param values Desired values
+   * @param rule Rule to be satisfied by each element
+   * @param sink Consumer of invalid elements
+   * @param <T> Spliterator type
+   * @return Filtered spliterator
+   */
+  public static <T> Spliterator<T> divertingInvalid(
+      Spliterator<T> values, Predicate<? super T> rule, Consumer<? super T> sink) {
+    return new ValidatingSpliterator<>(values, rule, sink);
+  }
+
+  private static <T> Stream<T> wrap(Stream<T> values, Spliterator<T> spliterator) {
+    return StreamSupport.stream(spliterator, values.isParallel()).onClose(values::close);
+  }
+
+  private static final class ValidatingSpliterator<T> implements Spliterator<T>, Consumer<T> {
+
+    private final Spliterator<T> values;
+    private final Predicate<? super T> rule;
+    private final Consumer<? super T> onInvalid;
+    private T current;
+
+    ValidatingSpliterator(
+        Spliterator<T> values, Predicate<? super T> rule, Consumer<? super T> onInvalid) {
+      this.values = values;
+      this.rule = rule;
+      this.onInvalid = onInvalid;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+      while (values.tryAdvance(this)) {
+        T value = current;
+        current = null;
+        if (rule.test(value)) {
+          action.accept(value);
+          return true;
+        }
+        onInvalid.accept(value);
+      }
+      return false;
+    }
+
+    @Override
+    public void accept(T value) {
+      current = value;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+      values.forEachRemaining(
+          value -> {
+            if (rule.test(value)) {
+              action.accept(value);
+            } else {
+              onInvalid.accept(value);
+            }
+          });
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+      Spliterator<T> prefix = values.trySplit();
+      return prefix == null ? null : new ValidatingSpliterator<>(prefix, rule, onInvalid);
+    }
+
+    @Override
+    public long estimateSize() {
+      return values.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+      return values.characteristics() & ~(SIZED | SUBSIZED);
+    }
+
+    @Override
+    public Comparator<? super T> getComparator() {
+      return values.getComparator();
+    }
+  }
+
+  private StreamValidations() {}
+}
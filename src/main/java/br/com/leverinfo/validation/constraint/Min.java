@@ -0,0 +1,33 @@
+package br.com.leverinfo.validation.constraint;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Numeric field value must be greater than or equal to a limit. Null values are not validated.
+ *
+ * @author franciscosousabr
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface Min {
+
+  /**
+   * Initial limit
+   *
+   * @return Minimum value
+   */
+  long value();
+
+  /**
+   * Name of the {@link br.com.leverinfo.validation.ValidationMessage} constant declared by {@link
+   * Validated#messages()}
+   *
+   * @return Message name
+   */
+  String message();
+}
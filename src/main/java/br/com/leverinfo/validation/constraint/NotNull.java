@@ -0,0 +1,28 @@
+package br.com.leverinfo.validation.constraint;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Field value must not be null. Same as {@link
+ * br.com.leverinfo.validation.ArgumentValidations#isNotNull(Object,
+ * br.com.leverinfo.validation.ValidationMessage)}
+ *
+ * @author franciscosousabr
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface NotNull {
+
+  /**
+   * Name of the {@link br.com.leverinfo.validation.ValidationMessage} constant declared by {@link
+   * Validated#messages()}
+   *
+   * @return Message name
+   */
+  String message();
+}
@@ -0,0 +1,34 @@
+package br.com.leverinfo.validation.constraint;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * {@link CharSequence} field value must match with a regular expression. Null values are not
+ * validated.
+ *
+ * @author franciscosousabr
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface Pattern {
+
+  /**
+   * Regular expression
+   *
+   * @return Desired pattern
+   */
+  String regexp();
+
+  /**
+   * Name of the {@link br.com.leverinfo.validation.ValidationMessage} constant declared by {@link
+   * Validated#messages()}
+   *
+   * @return Message name
+   */
+  String message();
+}
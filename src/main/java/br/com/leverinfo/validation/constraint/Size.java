@@ -0,0 +1,41 @@
+package br.com.leverinfo.validation.constraint;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * {@link CharSequence}, {@link java.util.Collection} or {@link java.util.Map} field value must have
+ * size between limits. Null values are not validated.
+ *
+ * @author franciscosousabr
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface Size {
+
+  /**
+   * Initial limit
+   *
+   * @return Minimum size
+   */
+  int min() default 0;
+
+  /**
+   * Final limit
+   *
+   * @return Maximum size
+   */
+  int max() default Integer.MAX_VALUE;
+
+  /**
+   * Name of the {@link br.com.leverinfo.validation.ValidationMessage} constant declared by {@link
+   * Validated#messages()}
+   *
+   * @return Message name
+   */
+  String message();
+}
@@ -0,0 +1,27 @@
+package br.com.leverinfo.validation.constraint;
+
+import br.com.leverinfo.validation.ValidationMessage;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a type whose fields are validated by their constraint annotations, like {@link NotNull}.
+ * Messages of constraints are constants of the given type, referenced by name.
+ *
+ * @author franciscosousabr
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Validated {
+
+  /**
+   * Type declaring the {@link ValidationMessage} constants used by constraints, usually an enum
+   *
+   * @return Messages type
+   */
+  Class<? extends ValidationMessage> messages();
+}
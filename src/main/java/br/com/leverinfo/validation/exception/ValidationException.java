@@ -61,7 +61,7 @@ public abstract class ValidationException extends RuntimeException {
    * @return Params array as string
    */
   public String getStringParams() {
-    return Stream.of(params).map(Object::toString).collect(Collectors.joining(","));
+    return Stream.of(params).map(String::valueOf).collect(Collectors.joining(","));
   }
 
   @Override
@@ -0,0 +1,151 @@
+package br.com.leverinfo.validation.lookup;
+
+/**
+ * Blocked Bloom filter for {@code long} and {@link CharSequence} values.
+ *
+ * <p>All bits of a value are kept in a single 512-bit block, so each query touches one cache line.
+ * A negative answer means the value was definitely not added; a positive answer may be a false
+ * positive, with a probability close to the rate given on creation.
+ *
+ * <p>Adding values is not thread-safe. Once populated and safely published, the filter can be
+ * queried concurrently.
+ *
+ * @author franciscosousabr
+ */
+public final class BloomFilter {
+
+  private static final int BLOCK_WORDS = 8;
+  private static final int BLOCK_BITS = BLOCK_WORDS * Long.SIZE;
+  private static final int MAX_HASH_FUNCTIONS = 16;
+  private static final double LN2 = Math.log(2);
+
+  private final long[] words;
+  private final int blocks;
+  private final int hashFunctions;
+
+  private BloomFilter(int blocks, int hashFunctions) {
+    this.words = new long[blocks * BLOCK_WORDS];
+    this.blocks = blocks;
+    this.hashFunctions = hashFunctions;
+  }
+
+  /**
+   * Creates an empty filter sized for expected number of values and false positive rate
+   *
+   * @param expectedInsertions Expected number of values
+   * @param falsePositiveRate Desired false positive rate, between 0 and 1 (exclusive)
+   * @return Empty filter
+   */
+  public static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+    if (expectedInsertions < 0) {
+      throw new IllegalArgumentException("Expected insertions must not be negative");
+    } else if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+      throw new IllegalArgumentException("False positive rate must be between 0 and 1");
+    }
+
+    long insertions = Math.max(1, expectedInsertions);
+    double bitsPerValue = -Math.log(falsePositiveRate) / (LN2 * LN2);
+    long bits = (long) Math.ceil(insertions * bitsPerValue);
+    long blocks = (bits + BLOCK_BITS - 1) / BLOCK_BITS;
+    if (blocks > Integer.MAX_VALUE / BLOCK_WORDS) {
+      throw new IllegalArgumentException("Filter would be too large");
+    }
+    int hashFunctions =
+        (int) Math.max(1, Math.min(MAX_HASH_FUNCTIONS, Math.round(bitsPerValue * LN2)));
+
+    return new BloomFilter((int) blocks, hashFunctions);
+  }
+
+  /**
+   * Adds value to filter
+   *
+   * @param value Desired value
+   */
+  public void put(long value) {
+    putHash(mix(value));
+  }
+
+  /**
+   * Adds value to filter
+   *
+   * @param value Desired value
+   */
+  public void put(CharSequence value) {
+    putHash(hash(value));
+  }
+
+  /**
+   * Checks if value might have been added to filter
+   *
+   * @param value Desired value
+   * @return false if value was definitely not added
+   */
+  public boolean mightContain(long value) {
+    return mightContainHash(mix(value));
+  }
+
+  /**
+   * Checks if value might have been added to filter
+   *
+   * @param value Desired value
+   * @return false if value was definitely not added
+   */
+  public boolean mightContain(CharSequence value) {
+    return mightContainHash(hash(value));
+  }
+
+  /**
+   * Gets number of bits used by filter
+   *
+   * @return Number of bits
+   */
+  public long bitSize() {
+    return (long) words.length * Long.SIZE;
+  }
+
+  private void putHash(long hash) {
+    int offset = blockOffset(hash);
+    long probe = mix(hash);
+    int step = (int) (probe >>> 32) | 1;
+    int position = (int) probe;
+    for (int i = 0; i < hashFunctions; i++) {
+      int bit = position & (BLOCK_BITS - 1);
+      words[offset + (bit >>> 6)] |= 1L << bit;
+      position += step;
+    }
+  }
+
+  private boolean mightContainHash(long hash) {
+    int offset = blockOffset(hash);
+    long probe = mix(hash);
+    int step = (int) (probe >>> 32) | 1;
+    int position = (int) probe;
+    for (int i = 0; i < hashFunctions; i++) {
+      int bit = position & (BLOCK_BITS - 1);
+      if ((words[offset + (bit >>> 6)] & (1L << bit)) == 0) {
+        return false;
+      }
+      position += step;
+    }
+    return true;
+  }
+
+  private int blockOffset(long hash) {
+    return (int) (((hash >>> 32) * blocks) >>> 32) * BLOCK_WORDS;
+  }
+
+  private static long hash(CharSequence value) {
+    long hash = 0xCBF29CE484222325L;
+    for (int i = 0, length = value.length(); i < length; i++) {
+      hash = (hash ^ value.charAt(i)) * 0x100000001B3L;
+    }
+    return mix(hash);
+  }
+
+  private static long mix(long value) {
+    long hash = value + 0x9E3779B97F4A7C15L;
+    hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+    hash = (hash ^ (hash >>> 33)) * 0xC4CEB9FE1A85EC53L;
+    return hash ^ (hash >>> 33);
+  }
+}
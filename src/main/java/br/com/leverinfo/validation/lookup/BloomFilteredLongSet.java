@@ -0,0 +1,47 @@
+package br.com.leverinfo.validation.lookup;
+
+import java.util.Objects;
+
+/**
+ * {@link LongSet} which pre-screens values with a {@link BloomFilter} and only consults the exact
+ * set when the filter reports a possible hit.
+ *
+ * <p>Recommended when most queried values are absent, like denylist checks against large indexes.
+ * The filter must contain every value of the exact set, otherwise lookups return false negatives.
+ *
+ * @author franciscosousabr
+ */
+public final class BloomFilteredLongSet implements LongSet {
+
+  private final BloomFilter filter;
+  private final LongSet set;
+
+  /**
+   * Creates the set
+   *
+   * @param filter {@link BloomFilter} populated with every value of exact set
+   * @param set Exact set
+   */
+  public BloomFilteredLongSet(BloomFilter filter, LongSet set) {
+    this.filter = Objects.requireNonNull(filter);
+    this.set = Objects.requireNonNull(set);
+  }
+
+  /**
+   * Creates a set fronting a {@link MappedLongSet} with a filter populated from its values
+   *
+   * @param set Exact set
+   * @param falsePositiveRate Desired false positive rate of filter
+   * @return Filtered set
+   */
+  public static BloomFilteredLongSet of(MappedLongSet set, double falsePositiveRate) {
+    BloomFilter filter = BloomFilter.create(set.size(), falsePositiveRate);
+    set.forEach(filter::put);
+    return new BloomFilteredLongSet(filter, set);
+  }
+
+  @Override
+  public boolean contains(long value) {
+    return filter.mightContain(value) && set.contains(value);
+  }
+}
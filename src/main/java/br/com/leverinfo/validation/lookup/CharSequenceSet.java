@@ -0,0 +1,19 @@
+package br.com.leverinfo.validation.lookup;
+
+/**
+ * Represents a read-only set of strings which can be queried by any {@link CharSequence} without
+ * converting it to {@link String}
+ *
+ * @author franciscosousabr
+ */
+@FunctionalInterface
+public interface CharSequenceSet {
+
+  /**
+   * Checks if set contains value
+   *
+   * @param value Desired value
+   * @return true if set contains value
+   */
+  boolean contains(CharSequence value);
+}
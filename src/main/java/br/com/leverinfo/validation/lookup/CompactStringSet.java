@@ -0,0 +1,373 @@
+package br.com.leverinfo.validation.lookup;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable {@link CharSequenceSet} stored as a minimal acyclic finite-state automaton.
+ *
+ * <p>Strings sharing prefixes or suffixes share states, so large dictionaries (codes, SKUs,
+ * passwords) take a fraction of the heap of a {@code Set<String>}. The automaton is kept in a few
+ * flat arrays and is queried directly with a {@link CharSequence}, one transition per character.
+ *
+ * <p>Besides exact membership, sets resolve the longest stored prefix of a value, which makes them
+ * suitable as prefix tables (phone carrier prefixes, card BIN ranges).
+ *
+ * <p>Sets are created at startup by {@link #of(Collection)} or {@link #fromSorted(Iterable)}, or
+ * built offline and loaded by {@link #readFrom(InputStream)}. Instances are safe for concurrent
+ * use.
+ *
+ * @author franciscosousabr
+ */
+public final class CompactStringSet implements CharSequenceSet {
+
+  private static final int MAGIC = 0x4C564653;
+  private static final int VERSION = 1;
+
+  private final int size;
+  private final int[] firstEdges;
+  private final char[] labels;
+  private final int[] targets;
+  private final long[] finals;
+
+  private CompactStringSet(
+      int size, int[] firstEdges, char[] labels, int[] targets, long[] finals) {
+    this.size = size;
+    this.firstEdges = firstEdges;
+    this.labels = labels;
+    this.targets = targets;
+    this.finals = finals;
+  }
+
+  /**
+   * Creates a set with given values
+   *
+   * @param values Desired values
+   * @return Created set
+   */
+  public static CompactStringSet of(Collection<? extends CharSequence> values) {
+    String[] sorted = new String[values.size()];
+    int i = 0;
+    for (CharSequence value : values) {
+      sorted[i++] = value.toString();
+    }
+    Arrays.sort(sorted);
+
+    return fromSorted(Arrays.asList(sorted));
+  }
+
+  /**
+   * Creates a set from values in ascending {@link String#compareTo(String)} order. Values are
+   * consumed once, so they can be streamed from a large sorted source. Duplicated values are
+   * ignored.
+   *
+   * @param sortedValues Values in ascending order
+   * @return Created set
+   * @throws IllegalArgumentException If values are not in ascending order
+   */
+  public static CompactStringSet fromSorted(Iterable<? extends CharSequence> sortedValues) {
+    Builder builder = new Builder();
+    for (CharSequence value : sortedValues) {
+      builder.add(value);
+    }
+    return builder.build();
+  }
+
+  /**
+   * Reads a set previously written by {@link #writeTo(OutputStream)}
+   *
+   * @param input Input stream
+   * @return Read set
+   * @throws IOException If set cannot be read
+   */
+  public static CompactStringSet readFrom(InputStream input) throws IOException {
+    DataInputStream data = new DataInputStream(input);
+    if (data.readInt() != MAGIC || data.readInt() != VERSION) {
+      throw new IOException("Invalid string set format");
+    }
+
+    int size = data.readInt();
+    int[] firstEdges = new int[data.readInt()];
+    for (int i = 0; i < firstEdges.length; i++) {
+      firstEdges[i] = data.readInt();
+    }
+    char[] labels = new char[data.readInt()];
+    int[] targets = new int[labels.length];
+    for (int i = 0; i < labels.length; i++) {
+      labels[i] = data.readChar();
+      targets[i] = data.readInt();
+    }
+    long[] finals = new long[data.readInt()];
+    for (int i = 0; i < finals.length; i++) {
+      finals[i] = data.readLong();
+    }
+
+    return new CompactStringSet(size, firstEdges, labels, targets, finals);
+  }
+
+  /**
+   * Writes set to output stream
+   *
+   * @param output Output stream
+   * @throws IOException If set cannot be written
+   */
+  public void writeTo(OutputStream output) throws IOException {
+    DataOutputStream data = new DataOutputStream(output);
+    data.writeInt(MAGIC);
+    data.writeInt(VERSION);
+    data.writeInt(size);
+    data.writeInt(firstEdges.length);
+    for (int firstEdge : firstEdges) {
+      data.writeInt(firstEdge);
+    }
+    data.writeInt(labels.length);
+    for (int i = 0; i < labels.length; i++) {
+      data.writeChar(labels[i]);
+      data.writeInt(targets[i]);
+    }
+    data.writeInt(finals.length);
+    for (long word : finals) {
+      data.writeLong(word);
+    }
+    data.flush();
+  }
+
+  /**
+   * Gets number of strings in set
+   *
+   * @return Number of strings in set
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Gets number of automaton states
+   *
+   * @return Number of states
+   */
+  public int stateCount() {
+    return firstEdges.length - 1;
+  }
+
+  @Override
+  public boolean contains(CharSequence value) {
+    int state = 0;
+    for (int i = 0, length = value.length(); i < length; i++) {
+      state = transition(state, value.charAt(i));
+      if (state < 0) {
+        return false;
+      }
+    }
+    return isFinal(state);
+  }
+
+  /**
+   * Gets length of longest string in set which is a prefix of value, in time proportional to value
+   * length
+   *
+   * @param value Desired value
+   * @return Length of longest prefix or -1 if no string in set is a prefix of value
+   */
+  public int longestPrefixLength(CharSequence value) {
+    int state = 0;
+    int longest = isFinal(state) ? 0 : -1;
+    for (int i = 0, length = value.length(); i < length; i++) {
+      state = transition(state, value.charAt(i));
+      if (state < 0) {
+        break;
+      } else if (isFinal(state)) {
+        longest = i + 1;
+      }
+    }
+    return longest;
+  }
+
+  private int transition(int state, char label) {
+    int low = firstEdges[state];
+    int high = firstEdges[state + 1] - 1;
+    while (low <= high) {
+      int middle = (low + high) >>> 1;
+      char middleLabel = labels[middle];
+      if (middleLabel < label) {
+        low = middle + 1;
+      } else if (middleLabel > label) {
+        high = middle - 1;
+      } else {
+        return targets[middle];
+      }
+    }
+    return -1;
+  }
+
+  private boolean isFinal(int state) {
+    return (finals[state >>> 6] & (1L << state)) != 0;
+  }
+
+  private static final class Builder {
+
+    private final Map<State, State> register = new HashMap<>();
+    private final List<State> path = new ArrayList<>();
+    private final StringBuilder previous = new StringBuilder();
+    private int size;
+    private int nextId;
+
+    Builder() {
+      path.add(new State());
+    }
+
+    void add(CharSequence value) {
+      int length = value.length();
+      int common = 0;
+      int previousLength = previous.length();
+      while (common < length
+          && common < previousLength
+          && value.charAt(common) == previous.charAt(common)) {
+        common++;
+      }
+
+      if (size > 0) {
+        if (common == length && common == previousLength) {
+          return;
+        } else if (common == length
+            || (common < previousLength && value.charAt(common) < previous.charAt(common))) {
+          throw new IllegalArgumentException("Values are not in ascending order: " + value);
+        }
+      }
+
+      minimize(common);
+      State state = path.get(common);
+      for (int i = common; i < length; i++) {
+        State next = new State();
+        state.addEdge(value.charAt(i), next);
+        path.add(next);
+        state = next;
+      }
+      state.isFinal = true;
+
+      previous.setLength(common);
+      previous.append(value, common, length);
+      size++;
+    }
+
+    CompactStringSet build() {
+      minimize(0);
+      State root = path.get(0);
+
+      Map<State, Integer> indexes = new IdentityHashMap<>();
+      List<State> states = new ArrayList<>();
+      Deque<State> pending = new ArrayDeque<>();
+      indexes.put(root, 0);
+      states.add(root);
+      pending.add(root);
+      int edgeCount = 0;
+      while (!pending.isEmpty()) {
+        State state = pending.poll();
+        edgeCount += state.edgeCount;
+        for (int i = 0; i < state.edgeCount; i++) {
+          State target = state.targets[i];
+          if (!indexes.containsKey(target)) {
+            indexes.put(target, states.size());
+            states.add(target);
+            pending.add(target);
+          }
+        }
+      }
+
+      int[] firstEdges = new int[states.size() + 1];
+      char[] labels = new char[edgeCount];
+      int[] targets = new int[edgeCount];
+      long[] finals = new long[(states.size() + 63) >>> 6];
+      int edge = 0;
+      for (int i = 0; i < states.size(); i++) {
+        State state = states.get(i);
+        firstEdges[i] = edge;
+        if (state.isFinal) {
+          finals[i >>> 6] |= 1L << i;
+        }
+        for (int j = 0; j < state.edgeCount; j++) {
+          labels[edge] = state.labels[j];
+          targets[edge] = indexes.get(state.targets[j]);
+          edge++;
+        }
+      }
+      firstEdges[states.size()] = edge;
+
+      return new CompactStringSet(size, firstEdges, labels, targets, finals);
+    }
+
+    private void minimize(int downTo) {
+      for (int i = path.size() - 1; i > downTo; i--) {
+        State state = path.remove(i);
+        State registered = register.get(state);
+        if (registered == null) {
+          state.id = nextId++;
+          register.put(state, state);
+        } else {
+          State parent = path.get(i - 1);
+          parent.targets[parent.edgeCount - 1] = registered;
+        }
+      }
+    }
+  }
+
+  private static final class State {
+
+    private int id = -1;
+    private boolean isFinal;
+    private char[] labels = new char[1];
+    private State[] targets = new State[1];
+    private int edgeCount;
+
+    void addEdge(char label, State target) {
+      if (edgeCount == labels.length) {
+        labels = Arrays.copyOf(labels, edgeCount * 2);
+        targets = Arrays.copyOf(targets, edgeCount * 2);
+      }
+      labels[edgeCount] = label;
+      targets[edgeCount] = target;
+      edgeCount++;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      } else if (!(other instanceof State)) {
+        return false;
+      }
+
+      State state = (State) other;
+      if (isFinal != state.isFinal || edgeCount != state.edgeCount) {
+        return false;
+      }
+      for (int i = 0; i < edgeCount; i++) {
+        if (labels[i] != state.labels[i] || targets[i] != state.targets[i]) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hash = isFinal ? 1 : 0;
+      for (int i = 0; i < edgeCount; i++) {
+        hash = 31 * (31 * hash + labels[i]) + targets[i].id;
+      }
+      return hash;
+    }
+  }
+}
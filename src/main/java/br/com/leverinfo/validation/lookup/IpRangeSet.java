@@ -0,0 +1,404 @@
+package br.com.leverinfo.validation.lookup;
+
+import java.util.Collection;
+
+/**
+ * Immutable set of IPv4 and IPv6 CIDR blocks stored as a compressed radix (Patricia) tree over
+ * address bits.
+ *
+ * <p>Addresses are parsed directly from {@link CharSequence} values, without {@link
+ * java.net.InetAddress} or name resolution, and membership is resolved in time proportional to the
+ * number of address bits, regardless of the number of blocks. IPv4 blocks and addresses are stored
+ * as IPv4-mapped IPv6 ones ({@code ::ffff:0:0/96}), so both notations match each other. Instances
+ * are safe for concurrent use.
+ *
+ * @author franciscosousabr
+ */
+public final class IpRangeSet {
+
+  private static final int ADDRESS_BITS = 128;
+  private static final int IPV4_MAPPED_PREFIX_LENGTH = 96;
+  private static final long IPV4_MAPPED_LOW = 0xFFFFL << 32;
+
+  private final Node root;
+
+  private IpRangeSet(Node root) {
+    this.root = root;
+  }
+
+  /**
+   * Creates a set with given CIDR blocks, like {@code 10.0.0.0/8} or {@code 2001:db8::/32}. Blocks
+   * without prefix length match a single address. Host bits set in blocks are ignored.
+   *
+   * @param blocks CIDR blocks
+   * @return Created set
+   * @throws IllegalArgumentException If some block is not valid
+   */
+  public static IpRangeSet of(Collection<? extends CharSequence> blocks) {
+    Node root = new Node(0, 0, 0, false);
+    long[] address = new long[2];
+    for (CharSequence block : blocks) {
+      int slash = indexOf(block, '/');
+      int end = slash < 0 ? block.length() : slash;
+      int offset = parse(block, 0, end, address);
+      if (offset < 0) {
+        throw new IllegalArgumentException("Invalid CIDR block: " + block);
+      }
+
+      int length = ADDRESS_BITS;
+      if (slash >= 0) {
+        length = parseDecimal(block, slash + 1, block.length(), ADDRESS_BITS - offset);
+        if (length < 0) {
+          throw new IllegalArgumentException("Invalid CIDR block: " + block);
+        }
+        length += offset;
+      }
+
+      insert(root, address[0] & highMask(length), address[1] & lowMask(length), length);
+    }
+    return new IpRangeSet(root);
+  }
+
+  /**
+   * Checks if value is a valid IPv4 or IPv6 address
+   *
+   * @param value Desired value
+   * @return true if value is a valid address
+   */
+  public static boolean isValidAddress(CharSequence value) {
+    int end = value.length();
+    return indexOf(value, ':', 0, end) < 0
+        ? parseIpv4(value, 0, end) >= 0
+        : scanIpv6(value, 0, end) >= 0;
+  }
+
+  /**
+   * Checks if address belongs to some block of set
+   *
+   * @param address Desired address
+   * @return true if address is valid and belongs to some block
+   */
+  public boolean contains(CharSequence address) {
+    int end = address.length();
+    long high;
+    long low;
+    if (indexOf(address, ':', 0, end) < 0) {
+      long ipv4 = parseIpv4(address, 0, end);
+      if (ipv4 < 0) {
+        return false;
+      }
+      high = 0;
+      low = IPV4_MAPPED_LOW | ipv4;
+    } else {
+      int shape = scanIpv6(address, 0, end);
+      if (shape < 0) {
+        return false;
+      }
+      high = ipv6Bits(address, 0, end, shape, true);
+      low = ipv6Bits(address, 0, end, shape, false);
+    }
+
+    Node node = root;
+    while (node != null) {
+      if (((high ^ node.high) & highMask(node.length)) != 0
+          || ((low ^ node.low) & lowMask(node.length)) != 0) {
+        return false;
+      } else if (node.terminal) {
+        return true;
+      } else if (node.length == ADDRESS_BITS) {
+        return false;
+      }
+      node = node.children[bitAt(high, low, node.length)];
+    }
+    return false;
+  }
+
+  private static void insert(Node root, long high, long low, int length) {
+    Node node = root;
+    while (true) {
+      if (node.terminal) {
+        return;
+      } else if (node.length == length) {
+        node.terminal = true;
+        node.children[0] = null;
+        node.children[1] = null;
+        return;
+      }
+
+      int bit = bitAt(high, low, node.length);
+      Node child = node.children[bit];
+      if (child == null) {
+        node.children[bit] = new Node(high, low, length, true);
+        return;
+      }
+
+      int common =
+          commonPrefixLength(high, low, child.high, child.low, Math.min(length, child.length));
+      if (common == child.length) {
+        node = child;
+        continue;
+      }
+
+      Node split =
+          new Node(high & highMask(common), low & lowMask(common), common, common == length);
+      split.children[bitAt(child.high, child.low, common)] = child;
+      if (common < length) {
+        split.children[bitAt(high, low, common)] = new Node(high, low, length, true);
+      }
+      node.children[bit] = split;
+      return;
+    }
+  }
+
+  private static int commonPrefixLength(long high1, long low1, long high2, long low2, int max) {
+    long difference = high1 ^ high2;
+    if (difference != 0) {
+      return Math.min(Long.numberOfLeadingZeros(difference), max);
+    }
+    difference = low1 ^ low2;
+    if (difference != 0) {
+      return Math.min(Long.SIZE + Long.numberOfLeadingZeros(difference), max);
+    }
+    return max;
+  }
+
+  private static int bitAt(long high, long low, int index) {
+    return index < Long.SIZE
+        ? (int) (high >>> (Long.SIZE - 1 - index)) & 1
+        : (int) (low >>> (ADDRESS_BITS - 1 - index)) & 1;
+  }
+
+  private static long highMask(int length) {
+    if (length == 0) {
+      return 0;
+    }
+    return length >= Long.SIZE ? -1L : -1L << (Long.SIZE - length);
+  }
+
+  private static long lowMask(int length) {
+    if (length <= Long.SIZE) {
+      return 0;
+    }
+    return -1L << (ADDRESS_BITS - length);
+  }
+
+  /**
+   * Parses an IPv4 or IPv6 address into two longs.
+   *
+   * @return Bit offset of parsed notation (96 for IPv4 and 0 for IPv6) or -1 if address is invalid
+   */
+  private static int parse(CharSequence value, int start, int end, long[] address) {
+    if (indexOf(value, ':', start, end) < 0) {
+      long ipv4 = parseIpv4(value, start, end);
+      if (ipv4 < 0) {
+        return -1;
+      }
+      address[0] = 0;
+      address[1] = IPV4_MAPPED_LOW | ipv4;
+      return IPV4_MAPPED_PREFIX_LENGTH;
+    }
+
+    int shape = scanIpv6(value, start, end);
+    if (shape < 0) {
+      return -1;
+    }
+    address[0] = ipv6Bits(value, start, end, shape, true);
+    address[1] = ipv6Bits(value, start, end, shape, false);
+    return 0;
+  }
+
+  private static long parseIpv4(CharSequence value, int start, int end) {
+    long address = 0;
+    int octetStart = start;
+    for (int octet = 0; octet < 4; octet++) {
+      int octetEnd = octet < 3 ? indexOf(value, '.', octetStart, end) : end;
+      if (octetEnd < 0) {
+        return -1;
+      }
+      int octetValue = parseDecimal(value, octetStart, octetEnd, 255);
+      if (octetValue < 0) {
+        return -1;
+      }
+      address = (address << 8) | octetValue;
+      octetStart = octetEnd + 1;
+    }
+    return address;
+  }
+
+  /**
+   * Validates an IPv6 address without storing its groups.
+   *
+   * @return Number of groups in the low 4 bits and number of groups before {@code ::} plus one in
+   *     the next bits (0 without {@code ::}), or -1 if address is invalid
+   */
+  private static int scanIpv6(CharSequence value, int start, int end) {
+    int count = 0;
+    int compression = -1;
+    int position = start;
+
+    if (end - start >= 2 && value.charAt(start) == ':' && value.charAt(start + 1) == ':') {
+      compression = 0;
+      position += 2;
+    } else if (end > start && value.charAt(start) == ':') {
+      return -1;
+    }
+
+    while (position < end) {
+      if (count == 8) {
+        return -1;
+      }
+
+      int groupEnd = position;
+      while (groupEnd < end && value.charAt(groupEnd) != ':') {
+        groupEnd++;
+      }
+
+      if (groupEnd == end && indexOf(value, '.', position, end) >= 0) {
+        if (parseIpv4(value, position, end) < 0 || count > 6) {
+          return -1;
+        }
+        count += 2;
+        break;
+      }
+
+      if (parseHexadecimal(value, position, groupEnd) < 0) {
+        return -1;
+      }
+      count++;
+      position = groupEnd;
+
+      if (position < end) {
+        position++;
+        if (position < end && value.charAt(position) == ':') {
+          if (compression >= 0) {
+            return -1;
+          }
+          compression = count;
+          position++;
+        } else if (position == end) {
+          return -1;
+        }
+      }
+    }
+
+    if (compression < 0 ? count != 8 : count > 7) {
+      return -1;
+    }
+    return (compression + 1) << 4 | count;
+  }
+
+  /** Gets high or low 64 bits of an IPv6 address already validated by {@link #scanIpv6} */
+  private static long ipv6Bits(
+      CharSequence value, int start, int end, int shape, boolean highBits) {
+    int compression = (shape >>> 4) - 1;
+    int gap = 8 - (shape & 0xF);
+    long bits = 0;
+    int index = 0;
+    int group = 0;
+    int position = start;
+    if (compression == 0) {
+      position += 2;
+    }
+
+    while (position < end) {
+      if (group == compression) {
+        index += gap;
+      }
+
+      int groupEnd = position;
+      while (groupEnd < end && value.charAt(groupEnd) != ':') {
+        groupEnd++;
+      }
+
+      if (groupEnd == end && indexOf(value, '.', position, end) >= 0) {
+        long ipv4 = parseIpv4(value, position, end);
+        bits = withGroup(bits, (int) (ipv4 >>> 16), index, highBits);
+        return withGroup(bits, (int) (ipv4 & 0xFFFF), index + 1, highBits);
+      }
+
+      bits = withGroup(bits, parseHexadecimal(value, position, groupEnd), index, highBits);
+      index++;
+      group++;
+      position = groupEnd + 1;
+      if (position < end && value.charAt(position) == ':') {
+        position++;
+      }
+    }
+    return bits;
+  }
+
+  private static long withGroup(long bits, int group, int index, boolean highBits) {
+    if (highBits != index < 4) {
+      return bits;
+    }
+    return bits | (long) group << (Long.SIZE - Short.SIZE * (1 + (index & 3)));
+  }
+
+  private static int parseDecimal(CharSequence value, int start, int end, int max) {
+    if (start >= end || end - start > 3 || (end - start > 1 && value.charAt(start) == '0')) {
+      return -1;
+    }
+
+    int result = 0;
+    for (int i = start; i < end; i++) {
+      char digit = value.charAt(i);
+      if (digit < '0' || digit > '9') {
+        return -1;
+      }
+      result = result * 10 + (digit - '0');
+    }
+    return result <= max ? result : -1;
+  }
+
+  private static int parseHexadecimal(CharSequence value, int start, int end) {
+    if (start >= end || end - start > 4) {
+      return -1;
+    }
+
+    int result = 0;
+    for (int i = start; i < end; i++) {
+      char character = value.charAt(i);
+      int digit;
+      if (character >= '0' && character <= '9') {
+        digit = character - '0';
+      } else if (character >= 'a' && character <= 'f') {
+        digit = character - 'a' + 10;
+      } else if (character >= 'A' && character <= 'F') {
+        digit = character - 'A' + 10;
+      } else {
+        return -1;
+      }
+      result = (result << 4) | digit;
+    }
+    return result;
+  }
+
+  private static int indexOf(CharSequence value, char character) {
+    return indexOf(value, character, 0, value.length());
+  }
+
+  private static int indexOf(CharSequence value, char character, int start, int end) {
+    for (int i = start; i < end; i++) {
+      if (value.charAt(i) == character) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static final class Node {
+
+    private final long high;
+    private final long low;
+    private final int length;
+    private final Node[] children = new Node[2];
+    private boolean terminal;
+
+    Node(long high, long low, int length, boolean terminal) {
+      this.high = high;
+      this.low = low;
+      this.length = length;
+      this.terminal = terminal;
+    }
+  }
+}
@@ -0,0 +1,18 @@
+package br.com.leverinfo.validation.lookup;
+
+/**
+ * Represents a read-only set of {@code long} values which can be queried without boxing
+ *
+ * @author franciscosousabr
+ */
+@FunctionalInterface
+public interface LongSet {
+
+  /**
+   * Checks if set contains value
+   *
+   * @param value Desired value
+   * @return true if set contains value
+   */
+  boolean contains(long value);
+}
@@ -0,0 +1,222 @@
+package br.com.leverinfo.validation.lookup;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * {@link LongSet} backed by a sorted, memory-mapped index file.
+ *
+ * <p>Values are kept off-heap by the operating system page cache, so opening an index is almost
+ * instantaneous and costs a few objects of heap regardless of its size. Lookups alternate
+ * interpolation and bisection probes, which resolves uniformly distributed values (like sequential
+ * ids) in a handful of probes while keeping the logarithmic worst case of a binary search.
+ *
+ * <p>Index files are created offline by {@link #write(Path, long[])}. Instances are immutable and
+ * safe for concurrent use.
+ *
+ * @author franciscosousabr
+ */
+public final class MappedLongSet implements LongSet, Closeable {
+
+  private static final int MAGIC = 0x4C564C53;
+  private static final int VERSION = 1;
+  private static final int HEADER_SIZE = 16;
+  private static final int SEGMENT_SHIFT = 27;
+  private static final long SEGMENT_MASK = (1L << SEGMENT_SHIFT) - 1;
+  private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+  private final Path path;
+  private final long size;
+  private volatile LongBuffer[] segments;
+
+  private MappedLongSet(Path path, long size, LongBuffer[] segments) {
+    this.path = path;
+    this.size = size;
+    this.segments = segments;
+  }
+
+  /**
+   * Writes an index file with given values. Values don't need to be sorted or distinct.
+   *
+   * @param path Index file path
+   * @param values Values to be indexed
+   * @return Number of distinct values written
+   * @throws IOException If index file cannot be written
+   */
+  public static long write(Path path, long[] values) throws IOException {
+    long[] sorted = values.clone();
+    Arrays.sort(sorted);
+
+    int distinct = 0;
+    for (int i = 0; i < sorted.length; i++) {
+      if (i == 0 || sorted[i] != sorted[distinct - 1]) {
+        sorted[distinct++] = sorted[i];
+      }
+    }
+
+    try (FileChannel channel =
+        FileChannel.open(
+            path,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.WRITE)) {
+      ByteBuffer buffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+      buffer.putInt(MAGIC).putInt(VERSION).putLong(distinct);
+      for (int i = 0; i < distinct; i++) {
+        if (!buffer.hasRemaining()) {
+          flush(channel, buffer);
+        }
+        buffer.putLong(sorted[i]);
+      }
+      flush(channel, buffer);
+    }
+
+    return distinct;
+  }
+
+  /**
+   * Opens an index file previously created by {@link #write(Path, long[])}
+   *
+   * @param path Index file path
+   * @return Opened index
+   * @throws IOException If index file cannot be read or is not a valid index
+   */
+  public static MappedLongSet open(Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      if (channel.size() < HEADER_SIZE) {
+        throw new IOException("Invalid index file: " + path);
+      }
+
+      ByteBuffer header =
+          channel.map(MapMode.READ_ONLY, 0, HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+      long size = header.getLong(8);
+      if (header.getInt(0) != MAGIC
+          || header.getInt(4) != VERSION
+          || size < 0
+          || channel.size() != HEADER_SIZE + size * Long.BYTES) {
+        throw new IOException("Invalid index file: " + path);
+      }
+
+      int segmentCount = (int) ((size + SEGMENT_MASK) >>> SEGMENT_SHIFT);
+      LongBuffer[] segments = new LongBuffer[segmentCount];
+      for (int i = 0; i < segmentCount; i++) {
+        long first = (long) i << SEGMENT_SHIFT;
+        long length = Math.min(size - first, SEGMENT_MASK + 1);
+        segments[i] =
+            channel
+                .map(MapMode.READ_ONLY, HEADER_SIZE + first * Long.BYTES, length * Long.BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN)
+                .asLongBuffer();
+      }
+
+      return new MappedLongSet(path, size, segments);
+    }
+  }
+
+  /**
+   * Gets index file path
+   *
+   * @return Index file path
+   */
+  public Path getPath() {
+    return path;
+  }
+
+  /**
+   * Gets number of values in index
+   *
+   * @return Number of values in index
+   */
+  public long size() {
+    return size;
+  }
+
+  @Override
+  public boolean contains(long value) {
+    LongBuffer[] buffers = segments;
+    if (buffers == null) {
+      throw new IllegalStateException("Index is closed: " + path);
+    }
+
+    long low = 0;
+    long high = size - 1;
+    boolean interpolate = true;
+    while (low <= high) {
+      long lowValue = get(buffers, low);
+      long highValue = get(buffers, high);
+      if (value < lowValue || value > highValue) {
+        return false;
+      } else if (lowValue == highValue) {
+        return true;
+      }
+
+      long middle;
+      if (interpolate) {
+        double ratio = ((double) value - lowValue) / ((double) highValue - lowValue);
+        middle = Math.min(high, Math.max(low, low + (long) (ratio * (high - low))));
+      } else {
+        middle = (low + high) >>> 1;
+      }
+      interpolate = !interpolate;
+
+      long middleValue = get(buffers, middle);
+      if (middleValue < value) {
+        low = middle + 1;
+      } else if (middleValue > value) {
+        high = middle - 1;
+      } else {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Performs action for each value in index, in ascending order
+   *
+   * @param action Action to be performed
+   */
+  public void forEach(LongConsumer action) {
+    LongBuffer[] buffers = segments;
+    if (buffers == null) {
+      throw new IllegalStateException("Index is closed: " + path);
+    }
+
+    for (LongBuffer buffer : buffers) {
+      for (int i = 0, limit = buffer.limit(); i < limit; i++) {
+        action.accept(buffer.get(i));
+      }
+    }
+  }
+
+  /**
+   * Releases mapped segments. Memory is unmapped by the garbage collector once no longer
+   * referenced.
+   */
+  @Override
+  public void close() {
+    segments = null;
+  }
+
+  private static long get(LongBuffer[] buffers, long index) {
+    return buffers[(int) (index >>> SEGMENT_SHIFT)].get((int) (index & SEGMENT_MASK));
+  }
+
+  private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+    buffer.flip();
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+    buffer.clear();
+  }
+}
@@ -0,0 +1,217 @@
+package br.com.leverinfo.validation.lookup;
+
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded set of keys seen within a sliding time window, like idempotency keys or message ids.
+ *
+ * <p>Keys are spread over independently locked stripes, so threads adding different keys rarely
+ * contend. Each stripe expires its keys with a timing wheel which splits the window in 64 ticks: a
+ * key is kept for at least the window and at most one tick longer, and expiring keys costs time
+ * proportional to the expired keys, not to the stripe size. When a stripe is full, the keys closest
+ * to expiring are evicted first.
+ *
+ * <p>Instances are safe for concurrent use.
+ *
+ * @param <K> Key type
+ * @author franciscosousabr
+ */
+public final class RecentlySeenSet<K> {
+
+  private static final int WINDOW_TICKS = 64;
+  private static final int WHEEL_TICKS = WINDOW_TICKS * 2;
+  private static final int WHEEL_MASK = WHEEL_TICKS - 1;
+
+  private final Stripe<K>[] stripes;
+  private final int stripeShift;
+  private final long tickNanos;
+  private final LongSupplier clock;
+
+  @SuppressWarnings("unchecked")
+  private RecentlySeenSet(int stripeCount, int stripeCapacity, long tickNanos, LongSupplier clock) {
+    this.stripes = new Stripe[stripeCount];
+    this.stripeShift = Integer.SIZE - Integer.numberOfTrailingZeros(stripeCount);
+    this.tickNanos = tickNanos;
+    this.clock = clock;
+
+    long tick = Math.floorDiv(clock.getAsLong(), tickNanos);
+    for (int i = 0; i < stripeCount; i++) {
+      stripes[i] = new Stripe<>(stripeCapacity, tick);
+    }
+  }
+
+  /**
+   * Creates an empty set measuring time with {@link System#nanoTime()}
+   *
+   * @param window Time keys are kept for
+   * @param unit Window time unit
+   * @param capacity Maximum number of keys kept
+   * @param <K> Key type
+   * @return Empty set
+   */
+  public static <K> RecentlySeenSet<K> create(long window, TimeUnit unit, int capacity) {
+    return create(window, unit, capacity, System::nanoTime);
+  }
+
+  /**
+   * Creates an empty set
+   *
+   * @param window Time keys are kept for
+   * @param unit Window time unit
+   * @param capacity Maximum number of keys kept
+   * @param nanoClock Clock which gives current time in nanoseconds, like {@link System#nanoTime()}
+   * @param <K> Key type
+   * @return Empty set
+   * @throws IllegalArgumentException If window or capacity is not positive
+   */
+  public static <K> RecentlySeenSet<K> create(
+      long window, TimeUnit unit, int capacity, LongSupplier nanoClock) {
+    if (window <= 0) {
+      throw new IllegalArgumentException("Window must be positive");
+    } else if (capacity <= 0) {
+      throw new IllegalArgumentException("Capacity must be positive");
+    }
+
+    int stripeCount = stripeCount(capacity);
+    int stripeCapacity = (capacity + stripeCount - 1) / stripeCount;
+    long tickNanos = (unit.toNanos(window) - 1) / WINDOW_TICKS + 1;
+    return new RecentlySeenSet<>(stripeCount, stripeCapacity, tickNanos, nanoClock);
+  }
+
+  /**
+   * Adds key if it was not seen within the window. Checking and adding is atomic, so only one of
+   * concurrent calls with the same key succeeds.
+   *
+   * @param key Desired key
+   * @return true if key was added, or false if key was seen within the window
+   */
+  public boolean add(K key) {
+    Stripe<K> stripe = stripeOf(key);
+    synchronized (stripe) {
+      return stripe.add(key, currentTick());
+    }
+  }
+
+  /**
+   * Checks if key was seen within the window
+   *
+   * @param key Desired key
+   * @return true if key was seen within the window
+   */
+  public boolean contains(K key) {
+    Stripe<K> stripe = stripeOf(key);
+    synchronized (stripe) {
+      stripe.advance(currentTick());
+      return stripe.keys.contains(key);
+    }
+  }
+
+  /**
+   * Gets number of keys kept, including expired keys of stripes not accessed since they expired
+   *
+   * @return Number of keys kept
+   */
+  public int size() {
+    int size = 0;
+    for (Stripe<K> stripe : stripes) {
+      synchronized (stripe) {
+        size += stripe.keys.size();
+      }
+    }
+    return size;
+  }
+
+  private Stripe<K> stripeOf(K key) {
+    int hash = Objects.requireNonNull(key, "Key must not be null").hashCode() * 0x9E3779B9;
+    return stripes[stripeShift == Integer.SIZE ? 0 : hash >>> stripeShift];
+  }
+
+  private long currentTick() {
+    return Math.floorDiv(clock.getAsLong(), tickNanos);
+  }
+
+  private static int stripeCount(int capacity) {
+    int stripes =
+        Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 4));
+    while (stripes > 1 && capacity / stripes < WHEEL_TICKS) {
+      stripes >>>= 1;
+    }
+    return stripes;
+  }
+
+  private static final class Stripe<K> {
+
+    private final int capacity;
+    private final Set<K> keys = new HashSet<>();
+    private final ArrayDeque<K>[] buckets;
+    private long tick;
+
+    @SuppressWarnings("unchecked")
+    Stripe(int capacity, long tick) {
+      this.capacity = capacity;
+      this.buckets = new ArrayDeque[WHEEL_TICKS];
+      this.tick = tick;
+    }
+
+    boolean add(K key, long now) {
+      advance(now);
+      if (!keys.add(key)) {
+        return false;
+      }
+
+      int bucket = (int) (tick + WINDOW_TICKS + 1) & WHEEL_MASK;
+      if (buckets[bucket] == null) {
+        buckets[bucket] = new ArrayDeque<>();
+      }
+      buckets[bucket].add(key);
+
+      if (keys.size() > capacity) {
+        evictOldest();
+      }
+      return true;
+    }
+
+    /**
+     * Expires keys of every tick passed since the last access, clearing all keys after a gap. Ticks
+     * read by threads which reached the lock late are older than the current one and are ignored.
+     */
+    void advance(long now) {
+      if (now <= tick) {
+        return;
+      } else if (now - tick >= WHEEL_TICKS) {
+        keys.clear();
+        for (ArrayDeque<K> bucket : buckets) {
+          if (bucket != null) {
+            bucket.clear();
+          }
+        }
+      } else {
+        for (long expired = tick + 1; expired <= now; expired++) {
+          ArrayDeque<K> bucket = buckets[(int) expired & WHEEL_MASK];
+          if (bucket != null) {
+            for (K key : bucket) {
+              keys.remove(key);
+            }
+            bucket.clear();
+          }
+        }
+      }
+      tick = now;
+    }
+
+    private void evictOldest() {
+      for (long next = tick + 1; next <= tick + WHEEL_TICKS; next++) {
+        ArrayDeque<K> bucket = buckets[(int) next & WHEEL_MASK];
+        if (bucket != null && !bucket.isEmpty()) {
+          keys.remove(bucket.poll());
+          return;
+        }
+      }
+    }
+  }
+}
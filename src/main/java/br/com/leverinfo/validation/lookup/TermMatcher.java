@@ -0,0 +1,199 @@
+package br.com.leverinfo.validation.lookup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable Aho-Corasick automaton which finds occurrences of a set of terms in a text.
+ *
+ * <p>The automaton is built once from the terms, and each text is scanned in a single pass,
+ * regardless of the number of terms. Matching can optionally ignore case, comparing characters the
+ * same way as {@link String#equalsIgnoreCase(String)}. Instances are safe for concurrent use.
+ *
+ * @author franciscosousabr
+ */
+public final class TermMatcher {
+
+  private final String[] terms;
+  private final boolean ignoreCase;
+  private final int[] firstEdges;
+  private final char[] labels;
+  private final int[] targets;
+  private final int[] failures;
+  private final int[] matches;
+
+  private TermMatcher(
+      String[] terms,
+      boolean ignoreCase,
+      int[] firstEdges,
+      char[] labels,
+      int[] targets,
+      int[] failures,
+      int[] matches) {
+    this.terms = terms;
+    this.ignoreCase = ignoreCase;
+    this.firstEdges = firstEdges;
+    this.labels = labels;
+    this.targets = targets;
+    this.failures = failures;
+    this.matches = matches;
+  }
+
+  /**
+   * Creates a case-sensitive matcher
+   *
+   * @param terms Terms to be found
+   * @return Created matcher
+   */
+  public static TermMatcher of(Collection<? extends CharSequence> terms) {
+    return of(terms, false);
+  }
+
+  /**
+   * Creates a matcher
+   *
+   * @param terms Terms to be found
+   * @param ignoreCase Whether case must be ignored
+   * @return Created matcher
+   * @throws IllegalArgumentException If some term is empty
+   */
+  public static TermMatcher of(Collection<? extends CharSequence> terms, boolean ignoreCase) {
+    List<Map<Character, Integer>> children = new ArrayList<>();
+    List<Integer> termIndexes = new ArrayList<>();
+    children.add(new TreeMap<>());
+    termIndexes.add(-1);
+
+    String[] termArray = new String[terms.size()];
+    int termIndex = 0;
+    for (CharSequence term : terms) {
+      if (term.length() == 0) {
+        throw new IllegalArgumentException("Terms must not be empty");
+      }
+
+      int state = 0;
+      for (int i = 0; i < term.length(); i++) {
+        char label = ignoreCase ? fold(term.charAt(i)) : term.charAt(i);
+        Integer next = children.get(state).get(label);
+        if (next == null) {
+          next = children.size();
+          children.get(state).put(label, next);
+          children.add(new TreeMap<>());
+          termIndexes.add(-1);
+        }
+        state = next;
+      }
+      if (termIndexes.get(state) < 0) {
+        termIndexes.set(state, termIndex);
+      }
+      termArray[termIndex++] = term.toString();
+    }
+
+    int stateCount = children.size();
+    int[] firstEdges = new int[stateCount + 1];
+    int edgeCount = 0;
+    for (int state = 0; state < stateCount; state++) {
+      firstEdges[state] = edgeCount;
+      edgeCount += children.get(state).size();
+    }
+    firstEdges[stateCount] = edgeCount;
+
+    char[] labels = new char[edgeCount];
+    int[] targets = new int[edgeCount];
+    int edge = 0;
+    for (Map<Character, Integer> edges : children) {
+      for (Map.Entry<Character, Integer> entry : edges.entrySet()) {
+        labels[edge] = entry.getKey();
+        targets[edge] = entry.getValue();
+        edge++;
+      }
+    }
+
+    int[] failures = new int[stateCount];
+    int[] matches = new int[stateCount];
+    int[] queue = new int[stateCount];
+    int head = 0;
+    int tail = 0;
+    queue[tail++] = 0;
+    matches[0] = -1;
+    while (head < tail) {
+      int state = queue[head++];
+      for (int i = firstEdges[state]; i < firstEdges[state + 1]; i++) {
+        int target = targets[i];
+        int failure = 0;
+        if (state != 0) {
+          failure = failures[state];
+          int next = find(firstEdges, labels, targets, failure, labels[i]);
+          while (next < 0 && failure != 0) {
+            failure = failures[failure];
+            next = find(firstEdges, labels, targets, failure, labels[i]);
+          }
+          failure = Math.max(next, 0);
+        }
+        failures[target] = failure;
+        matches[target] = termIndexes.get(target) >= 0 ? termIndexes.get(target) : matches[failure];
+        queue[tail++] = target;
+      }
+    }
+
+    return new TermMatcher(termArray, ignoreCase, firstEdges, labels, targets, failures, matches);
+  }
+
+  /**
+   * Finds first term occurring in text, scanning it once. When several terms end at the same
+   * position, the longest one is returned.
+   *
+   * @param text Text to be scanned
+   * @return First term found or null if text contains no term
+   */
+  public String findFirst(CharSequence text) {
+    int state = 0;
+    for (int i = 0, length = text.length(); i < length; i++) {
+      char label = ignoreCase ? fold(text.charAt(i)) : text.charAt(i);
+      int next = find(firstEdges, labels, targets, state, label);
+      while (next < 0 && state != 0) {
+        state = failures[state];
+        next = find(firstEdges, labels, targets, state, label);
+      }
+      state = Math.max(next, 0);
+
+      if (matches[state] >= 0) {
+        return terms[matches[state]];
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Checks if text contains any term
+   *
+   * @param text Text to be scanned
+   * @return true if text contains some term
+   */
+  public boolean containsAny(CharSequence text) {
+    return findFirst(text) != null;
+  }
+
+  private static int find(int[] firstEdges, char[] labels, int[] targets, int state, char label) {
+    int low = firstEdges[state];
+    int high = firstEdges[state + 1] - 1;
+    while (low <= high) {
+      int middle = (low + high) >>> 1;
+      char middleLabel = labels[middle];
+      if (middleLabel < label) {
+        low = middle + 1;
+      } else if (middleLabel > label) {
+        high = middle - 1;
+      } else {
+        return targets[middle];
+      }
+    }
+    return -1;
+  }
+
+  private static char fold(char value) {
+    return Character.toLowerCase(Character.toUpperCase(value));
+  }
+}
@@ -0,0 +1,150 @@
+package br.com.leverinfo.validation.validator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Validator which validates value with each rule, running first the rules which are cheap and often
+ * fail.
+ *
+ * <p>One in {@code sampleInterval} validations is timed, recording the cost and the outcome of each
+ * executed rule, and every {@code reorderInterval} samples rules are sorted by average cost divided
+ * by failure rate. A rule is a validator together with the {@link DependentValidator} instances
+ * declared right after it, which always run in declared order. Statistics are halved once a rule
+ * has many samples, so order follows changes in the validated values.
+ *
+ * @author franciscosousabr
+ */
+final class AdaptiveAllOfValidator<T> implements Validator<T> {
+
+  static final int DEFAULT_SAMPLE_INTERVAL = 64;
+  static final int DEFAULT_REORDER_INTERVAL = 32;
+
+  private static final long DECAY_THRESHOLD = 1 << 14;
+
+  private final int sampleInterval;
+  private final int reorderInterval;
+  private volatile Rule<T>[] rules;
+  private int samples;
+
+  @SuppressWarnings("unchecked")
+  AdaptiveAllOfValidator(
+      Validator<? super T>[] validators, int sampleInterval, int reorderInterval) {
+    this.sampleInterval = sampleInterval;
+    this.reorderInterval = reorderInterval;
+
+    List<Rule<T>> grouped = new ArrayList<>(validators.length);
+    List<Validator<? super T>> group = new ArrayList<>();
+    for (Validator<? super T> validator : validators) {
+      if (!(validator instanceof DependentValidator) && !group.isEmpty()) {
+        grouped.add(new Rule<>(group));
+        group.clear();
+      }
+      group.add(
+          validator instanceof DependentValidator
+              ? ((DependentValidator<? super T>) validator).validator()
+              : validator);
+    }
+    if (!group.isEmpty()) {
+      grouped.add(new Rule<>(group));
+    }
+    this.rules = Validators.toArray(grouped, Rule.class);
+  }
+
+  /** Gets rules validators in current order */
+  List<Validator<? super T>> validators() {
+    List<Validator<? super T>> validators = new ArrayList<>();
+    for (Rule<T> rule : rules) {
+      validators.addAll(Arrays.asList(rule.validators));
+    }
+    return validators;
+  }
+
+  @Override
+  public void validate(T value) {
+    Rule<T>[] current = rules;
+    if (ThreadLocalRandom.current().nextInt(sampleInterval) != 0) {
+      for (Rule<T> rule : current) {
+        rule.validate(value);
+      }
+      return;
+    }
+
+    try {
+      for (Rule<T> rule : current) {
+        long start = System.nanoTime();
+        try {
+          rule.validate(value);
+        } catch (RuntimeException e) {
+          record(rule, System.nanoTime() - start, true);
+          throw e;
+        }
+        record(rule, System.nanoTime() - start, false);
+      }
+    } finally {
+      sampled();
+    }
+  }
+
+  private synchronized void record(Rule<T> rule, long nanos, boolean failed) {
+    rule.executions++;
+    rule.nanos += nanos;
+    if (failed) {
+      rule.failures++;
+    }
+    if (rule.executions >= DECAY_THRESHOLD) {
+      rule.executions >>= 1;
+      rule.nanos >>= 1;
+      rule.failures >>= 1;
+    }
+  }
+
+  private synchronized void sampled() {
+    if (++samples < reorderInterval) {
+      return;
+    }
+    samples = 0;
+
+    Rule<T>[] reordered = rules.clone();
+    for (Rule<T> rule : reordered) {
+      rule.score = rule.score();
+    }
+    Arrays.sort(reordered, Comparator.comparingDouble(rule -> rule.score));
+    rules = reordered;
+  }
+
+  private static final class Rule<T> {
+
+    private final Validator<? super T>[] validators;
+    private long executions;
+    private long nanos;
+    private long failures;
+    private double score;
+
+    Rule(List<Validator<? super T>> validators) {
+      this.validators = Validators.toArray(validators, Validator.class);
+    }
+
+    void validate(T value) {
+      for (Validator<? super T> validator : validators) {
+        validator.validate(value);
+      }
+    }
+
+    /**
+     * Average cost divided by failure rate, smoothed so rules without samples go first and rules
+     * which never fail go last
+     */
+    double score() {
+      if (executions == 0) {
+        return 0;
+      }
+      double cost = (double) nanos / executions;
+      double failureRate = (failures + 1.0) / (executions + 2.0);
+      return cost / failureRate;
+    }
+  }
+}
@@ -0,0 +1,26 @@
+package br.com.leverinfo.validation.validator;
+
+/**
+ * Validator which validates value with each validator, in order.
+ *
+ * @author franciscosousabr
+ */
+final class AllOfValidator<T> implements Validator<T> {
+
+  private final Validator<? super T>[] validators;
+
+  AllOfValidator(Validator<? super T>[] validators) {
+    this.validators = validators;
+  }
+
+  Validator<? super T>[] validators() {
+    return validators;
+  }
+
+  @Override
+  public void validate(T value) {
+    for (Validator<? super T> validator : validators) {
+      validator.validate(value);
+    }
+  }
+}
@@ -0,0 +1,35 @@
+package br.com.leverinfo.validation.validator;
+
+import br.com.leverinfo.validation.exception.ValidationException;
+
+/**
+ * Validator which accepts value once some validator accepts it, in order.
+ *
+ * @author franciscosousabr
+ */
+final class AnyOfValidator<T> implements Validator<T> {
+
+  private final Validator<? super T>[] validators;
+
+  AnyOfValidator(Validator<? super T>[] validators) {
+    this.validators = validators;
+  }
+
+  Validator<? super T>[] validators() {
+    return validators;
+  }
+
+  @Override
+  public void validate(T value) {
+    ValidationException first = null;
+    for (Validator<? super T> validator : validators) {
+      try {
+        validator.validate(value);
+        return;
+      } catch (ValidationException e) {
+        first = Validators.rejected(first, e);
+      }
+    }
+    throw first;
+  }
+}
@@ -0,0 +1,250 @@
+package br.com.leverinfo.validation.validator;
+
+import br.com.leverinfo.validation.ArgumentValidations;
+import br.com.leverinfo.validation.ValidationMessage;
+import br.com.leverinfo.validation.exception.InvalidArgumentException;
+import java.util.regex.Pattern;
+
+/**
+ * Check of a {@link CharSequence}, which can be fused with adjacent checks by {@link
+ * FusedCharSequenceValidator}.
+ *
+ * <p>Patterns made of a single ASCII character class and a quantifier, like {@code [A-Z0-9]{2,8}}
+ * or {@code \d+}, are matched by a length test and a scan against a lookup table instead of a
+ * {@link java.util.regex.Matcher}.
+ *
+ * @author franciscosousabr
+ */
+final class CharSequenceCheck implements Validator<CharSequence> {
+
+  private enum Kind {
+    NOT_BLANK,
+    SIZE,
+    SIZE_BETWEEN,
+    PATTERN
+  }
+
+  private final Kind kind;
+  private final int minSize;
+  private final int maxSize;
+  private final Pattern pattern;
+  private final boolean[] accepted;
+  private final ValidationMessage message;
+
+  private CharSequenceCheck(
+      Kind kind,
+      int minSize,
+      int maxSize,
+      Pattern pattern,
+      boolean[] accepted,
+      ValidationMessage message) {
+    this.kind = kind;
+    this.minSize = minSize;
+    this.maxSize = maxSize;
+    this.pattern = pattern;
+    this.accepted = accepted;
+    this.message = message;
+  }
+
+  static CharSequenceCheck isNotBlank(ValidationMessage message) {
+    return new CharSequenceCheck(Kind.NOT_BLANK, 0, 0, null, null, message);
+  }
+
+  static CharSequenceCheck hasSize(int size, ValidationMessage message) {
+    return new CharSequenceCheck(Kind.SIZE, size, size, null, null, message);
+  }
+
+  static CharSequenceCheck hasSizeBetween(int minSize, int maxSize, ValidationMessage message) {
+    return new CharSequenceCheck(Kind.SIZE_BETWEEN, minSize, maxSize, null, null, message);
+  }
+
+  static CharSequenceCheck matchesPattern(String regex, ValidationMessage message) {
+    Pattern compiled = Pattern.compile(regex);
+    CharClassPattern charClass = CharClassPattern.parse(regex);
+    return charClass == null
+        ? new CharSequenceCheck(Kind.PATTERN, 0, 0, compiled, null, message)
+        : new CharSequenceCheck(
+            Kind.PATTERN,
+            charClass.minSize,
+            charClass.maxSize,
+            compiled,
+            charClass.accepted,
+            message);
+  }
+
+  @Override
+  public void validate(CharSequence value) {
+    switch (kind) {
+      case NOT_BLANK:
+        ArgumentValidations.isNotBlank(value, message);
+        break;
+      case SIZE:
+        ArgumentValidations.hasSize(value, minSize, message);
+        break;
+      case SIZE_BETWEEN:
+        ArgumentValidations.hasSizeBetween(value, minSize, maxSize, message);
+        break;
+      default:
+        if (accepted == null) {
+          if (!pattern.matcher(value).matches()) {
+            throw new InvalidArgumentException(message, value);
+          }
+        } else {
+          validate(value, value.length());
+        }
+    }
+  }
+
+  /** Validates a value known to be not null, whose length was already read */
+  void validate(CharSequence value, int length) {
+    switch (kind) {
+      case NOT_BLANK:
+        if (value instanceof String ? length == 0 : value.equals("")) {
+          throw new InvalidArgumentException(message);
+        }
+        break;
+      case SIZE:
+        if (length != minSize) {
+          throw new InvalidArgumentException(message, value, minSize);
+        }
+        break;
+      case SIZE_BETWEEN:
+        if (length < minSize || length > maxSize) {
+          throw new InvalidArgumentException(message, value, minSize, maxSize);
+        }
+        break;
+      default:
+        if (accepted == null
+            ? !pattern.matcher(value).matches()
+            : length < minSize || length > maxSize || !allAccepted(value, length)) {
+          throw new InvalidArgumentException(message, value);
+        }
+    }
+  }
+
+  private boolean allAccepted(CharSequence value, int length) {
+    for (int i = 0; i < length; i++) {
+      char c = value.charAt(i);
+      if (c >= accepted.length || !accepted[c]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Pattern made of a single ASCII character class, like {@code \d}, {@code \w} or {@code [a-z_]},
+   * followed by an optional greedy quantifier.
+   */
+  private static final class CharClassPattern {
+
+    private final boolean[] accepted = new boolean[128];
+    private int minSize = 1;
+    private int maxSize = 1;
+
+    /** Parses regex, or returns null if it is not a supported character class pattern */
+    static CharClassPattern parse(String regex) {
+      CharClassPattern charClass = new CharClassPattern();
+      int index;
+      if (regex.startsWith("\\d") || regex.startsWith("\\w")) {
+        charClass.addEscape(regex.charAt(1));
+        index = 2;
+      } else if (regex.startsWith("[")) {
+        index = charClass.parseClass(regex);
+        if (index < 0) {
+          return null;
+        }
+      } else {
+        return null;
+      }
+      return charClass.parseQuantifier(regex.substring(index)) ? charClass : null;
+    }
+
+    /** Parses a bracketed class, returning the index after it, or -1 if not supported */
+    private int parseClass(String regex) {
+      int index = 1;
+      if (index < regex.length() && (regex.charAt(index) == '^' || regex.charAt(index) == ']')) {
+        return -1;
+      }
+
+      while (index < regex.length()) {
+        char c = regex.charAt(index);
+        if (c == ']') {
+          return index + 1;
+        } else if (c == '[' || c == '&' || c >= accepted.length) {
+          return -1;
+        } else if (c == '\\') {
+          if (index + 1 >= regex.length()) {
+            return -1;
+          }
+          char escaped = regex.charAt(index + 1);
+          if (escaped == 'd' || escaped == 'w') {
+            addEscape(escaped);
+          } else if (!Character.isLetterOrDigit(escaped) && escaped < accepted.length) {
+            accepted[escaped] = true;
+          } else {
+            return -1;
+          }
+          index += 2;
+        } else if (index + 2 < regex.length()
+            && regex.charAt(index + 1) == '-'
+            && regex.charAt(index + 2) != ']') {
+          char end = regex.charAt(index + 2);
+          if (end == '\\' || end == '[' || end < c || end >= accepted.length) {
+            return -1;
+          }
+          for (char current = c; current <= end; current++) {
+            accepted[current] = true;
+          }
+          index += 3;
+        } else {
+          accepted[c] = true;
+          index++;
+        }
+      }
+      return -1;
+    }
+
+    private void addEscape(char escape) {
+      for (char c = '0'; c <= '9'; c++) {
+        accepted[c] = true;
+      }
+      if (escape == 'w') {
+        for (char c = 'a'; c <= 'z'; c++) {
+          accepted[c] = true;
+          accepted[Character.toUpperCase(c)] = true;
+        }
+        accepted['_'] = true;
+      }
+    }
+
+    private boolean parseQuantifier(String quantifier) {
+      if (quantifier.isEmpty()) {
+        return true;
+      } else if (quantifier.equals("*")) {
+        minSize = 0;
+        maxSize = Integer.MAX_VALUE;
+        return true;
+      } else if (quantifier.equals("+")) {
+        maxSize = Integer.MAX_VALUE;
+        return true;
+      } else if (!quantifier.matches("\\{\\d{1,9}(,\\d{0,9})?}")) {
+        return false;
+      }
+
+      String bounds = quantifier.substring(1, quantifier.length() - 1);
+      int comma = bounds.indexOf(',');
+      if (comma < 0) {
+        minSize = Integer.parseInt(bounds);
+        maxSize = minSize;
+      } else {
+        minSize = Integer.parseInt(bounds.substring(0, comma));
+        maxSize =
+            comma == bounds.length() - 1
+                ? Integer.MAX_VALUE
+                : Integer.parseInt(bounds.substring(comma + 1));
+      }
+      return minSize <= maxSize;
+    }
+  }
+}
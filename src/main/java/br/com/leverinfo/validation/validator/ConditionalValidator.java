@@ -0,0 +1,26 @@
+package br.com.leverinfo.validation.validator;
+
+import java.util.function.Predicate;
+
+/**
+ * Validator which validates only values which satisfy a condition.
+ *
+ * @author franciscosousabr
+ */
+final class ConditionalValidator<T> implements Validator<T> {
+
+  private final Predicate<? super T> condition;
+  private final Validator<? super T> validator;
+
+  ConditionalValidator(Predicate<? super T> condition, Validator<? super T> validator) {
+    this.condition = condition;
+    this.validator = validator;
+  }
+
+  @Override
+  public void validate(T value) {
+    if (condition.test(value)) {
+      validator.validate(value);
+    }
+  }
+}
@@ -0,0 +1,598 @@
+package br.com.leverinfo.validation.validator;
+
+import br.com.leverinfo.validation.ArgumentValidations;
+import br.com.leverinfo.validation.ValidationMessage;
+import br.com.leverinfo.validation.constraint.Max;
+import br.com.leverinfo.validation.constraint.Min;
+import br.com.leverinfo.validation.constraint.NotBlank;
+import br.com.leverinfo.validation.constraint.NotNull;
+import br.com.leverinfo.validation.constraint.Pattern;
+import br.com.leverinfo.validation.constraint.Positive;
+import br.com.leverinfo.validation.constraint.Size;
+import br.com.leverinfo.validation.constraint.Validated;
+import java.lang.annotation.Annotation;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Recommended to create validators at runtime from the constraint annotations of package {@link
+ * br.com.leverinfo.validation.constraint}, for types which are not compiled with {@code
+ * validation-processor}.
+ *
+ * <p>Types are introspected once and compiled into a {@link Schema}, which is cached per class with
+ * {@link ClassValue}, so getting a validator again costs a lookup and validating a value costs no
+ * reflection. Public getters of classes visible to this library are read through {@link
+ * LambdaMetafactory} (which spins hidden classes on newer JDKs), and other fields and getters
+ * through {@link MethodHandle}.
+ *
+ * <p>Fields are validated in the order returned by {@link Class#getDeclaredFields()}, which is
+ * unspecified, although it is the declaration order on HotSpot. So, unlike validators generated by
+ * {@code validation-processor}, which are validated in declaration order, the first failure
+ * reported for a value with several invalid fields may differ between JVMs.
+ *
+ * <p>Constraints of types which cannot be annotated, like classes of other libraries, can be
+ * declared by a mix-in: a class annotated with {@link Validated} whose fields have the names of the
+ * properties of the validated type. Their validators are cached by a {@link ClassValue} of the
+ * validated type, keyed by mix-in with another {@link ClassValue}, so each validator is held by its
+ * mix-in class and the validated type does not keep mix-ins of other class loaders loaded.
+ *
+ * @author franciscosousabr
+ */
+public final class ConstraintValidators {
+
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+  private static final ClassValue<Validator<?>> VALIDATORS =
+      new ClassValue<Validator<?>>() {
+        @Override
+        protected Validator<?> computeValue(Class<?> type) {
+          return compile(type, type);
+        }
+      };
+
+  private static final ClassValue<ClassValue<Validator<?>>> MIXIN_VALIDATORS =
+      new ClassValue<ClassValue<Validator<?>>>() {
+        @Override
+        protected ClassValue<Validator<?>> computeValue(Class<?> type) {
+          return new ClassValue<Validator<?>>() {
+            @Override
+            protected Validator<?> computeValue(Class<?> mixin) {
+              return compile(type, mixin);
+            }
+          };
+        }
+      };
+
+  /**
+   * Gets validator of a type annotated with {@link Validated}
+   *
+   * @param type Validated type
+   * @param <T> Validated type
+   * @return Validator of type
+   * @throws IllegalArgumentException If type is not annotated with {@link Validated}, or some
+   *     constraint is not valid
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> Validator<T> forType(Class<T> type) {
+    return (Validator<T>) VALIDATORS.get(type);
+  }
+
+  /**
+   * Gets validator of a type whose constraints are declared by a mix-in annotated with {@link
+   * Validated}
+   *
+   * @param type Validated type
+   * @param mixin Type declaring the constraints
+   * @param <T> Validated type
+   * @return Validator of type
+   * @throws IllegalArgumentException If mix-in is not annotated with {@link Validated}, some
+   *     property is not found in type, or some constraint is not valid
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> Validator<T> forType(Class<T> type, Class<?> mixin) {
+    return (Validator<T>) MIXIN_VALIDATORS.get(type).get(mixin);
+  }
+
+  private static <T> Validator<T> compile(Class<T> type, Class<?> constraints) {
+    Validated validated = constraints.getAnnotation(Validated.class);
+    if (validated == null) {
+      throw new IllegalArgumentException(
+          constraints.getName() + " is not annotated with @" + Validated.class.getSimpleName());
+    }
+
+    Schema.Builder<T> builder = Schema.forType(type);
+    for (Field field : constraints.getDeclaredFields()) {
+      if (Modifier.isStatic(field.getModifiers()) || !isConstrained(field)) {
+        continue;
+      }
+
+      Member accessor = accessorOf(type, field.getName());
+      Class<?> propertyType =
+          accessor instanceof Method
+              ? ((Method) accessor).getReturnType()
+              : ((Field) accessor).getType();
+      try {
+        addField(builder, field, accessor, propertyType, validated.messages());
+      } catch (IllegalArgumentException e) {
+        throw new IllegalArgumentException(
+            "Invalid constraint on "
+                + constraints.getName()
+                + "."
+                + field.getName()
+                + ": "
+                + e.getMessage(),
+            e);
+      }
+    }
+    return builder.build();
+  }
+
+  private static <T> void addField(
+      Schema.Builder<T> builder,
+      Field field,
+      Member accessor,
+      Class<?> propertyType,
+      Class<? extends ValidationMessage> messages) {
+    NumberKind kind = NumberKind.of(propertyType);
+    if (propertyType.isPrimitive()) {
+      addPrimitiveField(builder, field, accessor, propertyType, kind, messages);
+      return;
+    }
+
+    Schema.ObjectField<T, Object> objectField = builder.field(objectAccessor(accessor));
+    for (Annotation constraint : field.getAnnotations()) {
+      if (!isConstraint(constraint)) {
+        continue;
+      }
+
+      ValidationMessage message = messageOf(constraint, messages);
+      if (constraint instanceof NotNull) {
+        objectField.isNotNull(message);
+      } else if (constraint instanceof NotBlank) {
+        requireType(propertyType, CharSequence.class, constraint);
+        objectField.validatedBy(
+            value -> ArgumentValidations.isNotBlank((CharSequence) value, message));
+      } else if (constraint instanceof Size) {
+        objectField.validatedBy(nullable(sizeValidator(propertyType, (Size) constraint, message)));
+      } else if (constraint instanceof Pattern) {
+        requireType(propertyType, CharSequence.class, constraint);
+        Validator<CharSequence> validator =
+            Validators.matchesPattern(((Pattern) constraint).regexp(), message);
+        objectField.validatedBy(nullable(value -> validator.validate((CharSequence) value)));
+      } else if (constraint instanceof Min
+          || constraint instanceof Max
+          || constraint instanceof Positive) {
+        objectField.validatedBy(nullable(numberValidator(propertyType, kind, constraint, message)));
+      }
+    }
+  }
+
+  private static <T> void addPrimitiveField(
+      Schema.Builder<T> builder,
+      Field field,
+      Member accessor,
+      Class<?> propertyType,
+      NumberKind kind,
+      Class<? extends ValidationMessage> messages) {
+    if (kind == null) {
+      throw new IllegalArgumentException(propertyType + " fields are not supported");
+    }
+
+    for (Annotation constraint : field.getAnnotations()) {
+      if (constraint instanceof NotNull
+          || constraint instanceof NotBlank
+          || constraint instanceof Size
+          || constraint instanceof Pattern) {
+        throw new IllegalArgumentException(
+            "@"
+                + constraint.annotationType().getSimpleName()
+                + " is not supported on primitive fields");
+      }
+    }
+
+    switch (kind) {
+      case INT:
+        Schema.IntField<T> intField = builder.intField(intAccessor(accessor));
+        for (Annotation constraint : field.getAnnotations()) {
+          if (isNumberConstraint(constraint)) {
+            intField.validatedBy(intValidator(constraint, messageOf(constraint, messages)));
+          }
+        }
+        break;
+      case LONG:
+        Schema.LongField<T> longField = builder.longField(longAccessor(accessor));
+        for (Annotation constraint : field.getAnnotations()) {
+          if (isNumberConstraint(constraint)) {
+            longField.validatedBy(longValidator(constraint, messageOf(constraint, messages)));
+          }
+        }
+        break;
+      default:
+        Schema.DoubleField<T> doubleField = builder.doubleField(doubleAccessor(accessor));
+        for (Annotation constraint : field.getAnnotations()) {
+          if (isNumberConstraint(constraint)) {
+            doubleField.validatedBy(doubleValidator(constraint, messageOf(constraint, messages)));
+          }
+        }
+    }
+  }
+
+  private static Validator<Object> sizeValidator(
+      Class<?> propertyType, Size size, ValidationMessage message) {
+    int min = size.min();
+    int max = size.max();
+    if (min < 0 || min > max) {
+      throw new IllegalArgumentException("@Size limits must not be negative nor reversed");
+    }
+
+    if (CharSequence.class.isAssignableFrom(propertyType)) {
+      return value -> ArgumentValidations.hasSizeBetween((CharSequence) value, min, max, message);
+    } else if (Collection.class.isAssignableFrom(propertyType)) {
+      return value -> ArgumentValidations.hasSizeBetween((Collection<?>) value, min, max, message);
+    } else if (Map.class.isAssignableFrom(propertyType)) {
+      return value -> ArgumentValidations.hasSizeBetween((Map<?, ?>) value, min, max, message);
+    }
+    throw new IllegalArgumentException(
+        "@Size is only supported on CharSequence, Collection or Map fields");
+  }
+
+  private static Validator<Object> numberValidator(
+      Class<?> propertyType, NumberKind kind, Annotation constraint, ValidationMessage message) {
+    if (propertyType == BigDecimal.class) {
+      if (constraint instanceof Positive) {
+        return value -> ArgumentValidations.isGreaterThanZero((BigDecimal) value, message);
+      }
+      BigDecimal limit = BigDecimal.valueOf(limitOf(constraint));
+      Validator<BigDecimal> validator =
+          constraint instanceof Min
+              ? Validators.isGreaterThanOrEqualTo(limit, message)
+              : Validators.isLessThanOrEqualTo(limit, message);
+      return value -> validator.validate((BigDecimal) value);
+    } else if (kind == null) {
+      throw new IllegalArgumentException(
+          "@"
+              + constraint.annotationType().getSimpleName()
+              + " is only supported on numeric fields");
+    }
+
+    switch (kind) {
+      case INT:
+        IntValidator intValidator = intValidator(constraint, message);
+        return value -> intValidator.validate(((Number) value).intValue());
+      case LONG:
+        LongValidator longValidator = longValidator(constraint, message);
+        return value -> longValidator.validate(((Number) value).longValue());
+      default:
+        DoubleValidator doubleValidator = doubleValidator(constraint, message);
+        return value -> doubleValidator.validate(((Number) value).doubleValue());
+    }
+  }
+
+  private static IntValidator intValidator(Annotation constraint, ValidationMessage message) {
+    if (constraint instanceof Positive) {
+      return IntValidators.isGreaterThanZero(message);
+    }
+    long limit = limitOf(constraint);
+    if (limit < Integer.MIN_VALUE || limit > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Limit is out of range of field type");
+    }
+    return constraint instanceof Min
+        ? IntValidators.isGreaterThanOrEqualTo((int) limit, message)
+        : IntValidators.isLessThanOrEqualTo((int) limit, message);
+  }
+
+  private static LongValidator longValidator(Annotation constraint, ValidationMessage message) {
+    if (constraint instanceof Positive) {
+      return LongValidators.isGreaterThanZero(message);
+    }
+    return constraint instanceof Min
+        ? LongValidators.isGreaterThanOrEqualTo(limitOf(constraint), message)
+        : LongValidators.isLessThanOrEqualTo(limitOf(constraint), message);
+  }
+
+  private static DoubleValidator doubleValidator(Annotation constraint, ValidationMessage message) {
+    if (constraint instanceof Positive) {
+      return DoubleValidators.isGreaterThanZero(message);
+    }
+    return constraint instanceof Min
+        ? DoubleValidators.isGreaterThanOrEqualTo(limitOf(constraint), message)
+        : DoubleValidators.isLessThanOrEqualTo(limitOf(constraint), message);
+  }
+
+  private static long limitOf(Annotation constraint) {
+    return constraint instanceof Min ? ((Min) constraint).value() : ((Max) constraint).value();
+  }
+
+  private static boolean isNumberConstraint(Annotation constraint) {
+    return constraint instanceof Min || constraint instanceof Max || constraint instanceof Positive;
+  }
+
+  private static boolean isConstraint(Annotation annotation) {
+    return annotation instanceof NotNull
+        || annotation instanceof NotBlank
+        || annotation instanceof Size
+        || annotation instanceof Pattern
+        || isNumberConstraint(annotation);
+  }
+
+  private static boolean isConstrained(Field field) {
+    for (Annotation annotation : field.getAnnotations()) {
+      if (isConstraint(annotation)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static void requireType(Class<?> propertyType, Class<?> required, Annotation constraint) {
+    if (!required.isAssignableFrom(propertyType)) {
+      throw new IllegalArgumentException(
+          "@"
+              + constraint.annotationType().getSimpleName()
+              + " is only supported on "
+              + required.getSimpleName()
+              + " fields");
+    }
+  }
+
+  private static ValidationMessage messageOf(
+      Annotation constraint, Class<? extends ValidationMessage> messages) {
+    String name;
+    try {
+      name = (String) constraint.annotationType().getMethod("message").invoke(constraint);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalArgumentException(
+          "Cannot read message of @" + constraint.annotationType().getSimpleName(), e);
+    }
+
+    try {
+      Field field = messages.getField(name);
+      if (Modifier.isStatic(field.getModifiers())
+          && ValidationMessage.class.isAssignableFrom(field.getType())) {
+        field.setAccessible(true);
+        return (ValidationMessage) field.get(null);
+      }
+    } catch (ReflectiveOperationException e) {
+      // Reported below
+    }
+    throw new IllegalArgumentException("Message not declared by messages type: " + name);
+  }
+
+  private static Validator<Object> nullable(Validator<Object> validator) {
+    return value -> {
+      if (value != null) {
+        validator.validate(value);
+      }
+    };
+  }
+
+  private static Member accessorOf(Class<?> type, String name) {
+    String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    for (String candidate : new String[] {"get" + capitalized, "is" + capitalized, name}) {
+      for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+        try {
+          Method method = current.getDeclaredMethod(candidate);
+          if (!Modifier.isStatic(method.getModifiers()) && method.getReturnType() != void.class) {
+            return method;
+          }
+        } catch (NoSuchMethodException e) {
+          // Try next candidate
+        }
+      }
+    }
+
+    for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+      try {
+        Field field = current.getDeclaredField(name);
+        if (!Modifier.isStatic(field.getModifiers())) {
+          return field;
+        }
+      } catch (NoSuchFieldException e) {
+        // Try superclass
+      }
+    }
+    throw new IllegalArgumentException("Property " + name + " not found in " + type.getName());
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Function<Object, Object> objectAccessor(Member accessor) {
+    if (isLinkable(accessor)) {
+      Method method = (Method) accessor;
+      return (Function<Object, Object>)
+          linkAccessor(
+              method,
+              Function.class,
+              "apply",
+              MethodType.methodType(Object.class, Object.class),
+              MethodType.methodType(method.getReturnType(), method.getDeclaringClass()));
+    }
+
+    MethodHandle handle = handleOf(accessor, Object.class);
+    return value -> {
+      try {
+        return handle.invokeExact(value);
+      } catch (Throwable e) {
+        throw rethrow(e);
+      }
+    };
+  }
+
+  @SuppressWarnings("unchecked")
+  private static ToIntFunction<Object> intAccessor(Member accessor) {
+    if (isLinkable(accessor)) {
+      return (ToIntFunction<Object>)
+          linkAccessor(
+              (Method) accessor,
+              ToIntFunction.class,
+              "applyAsInt",
+              MethodType.methodType(int.class, Object.class),
+              MethodType.methodType(int.class, ((Method) accessor).getDeclaringClass()));
+    }
+
+    MethodHandle handle = handleOf(accessor, int.class);
+    return value -> {
+      try {
+        return (int) handle.invokeExact(value);
+      } catch (Throwable e) {
+        throw rethrow(e);
+      }
+    };
+  }
+
+  @SuppressWarnings("unchecked")
+  private static ToLongFunction<Object> longAccessor(Member accessor) {
+    if (isLinkable(accessor)) {
+      return (ToLongFunction<Object>)
+          linkAccessor(
+              (Method) accessor,
+              ToLongFunction.class,
+              "applyAsLong",
+              MethodType.methodType(long.class, Object.class),
+              MethodType.methodType(long.class, ((Method) accessor).getDeclaringClass()));
+    }
+
+    MethodHandle handle = handleOf(accessor, long.class);
+    return value -> {
+      try {
+        return (long) handle.invokeExact(value);
+      } catch (Throwable e) {
+        throw rethrow(e);
+      }
+    };
+  }
+
+  @SuppressWarnings("unchecked")
+  private static ToDoubleFunction<Object> doubleAccessor(Member accessor) {
+    if (isLinkable(accessor)) {
+      return (ToDoubleFunction<Object>)
+          linkAccessor(
+              (Method) accessor,
+              ToDoubleFunction.class,
+              "applyAsDouble",
+              MethodType.methodType(double.class, Object.class),
+              MethodType.methodType(double.class, ((Method) accessor).getDeclaringClass()));
+    }
+
+    MethodHandle handle = handleOf(accessor, double.class);
+    return value -> {
+      try {
+        return (double) handle.invokeExact(value);
+      } catch (Throwable e) {
+        throw rethrow(e);
+      }
+    };
+  }
+
+  /**
+   * Checks if accessor is a public getter of a public class visible to this library, which can be
+   * implemented by {@link LambdaMetafactory} from the lookup of this class
+   */
+  private static boolean isLinkable(Member accessor) {
+    if (!(accessor instanceof Method)) {
+      return false;
+    }
+
+    Class<?> declaringClass = accessor.getDeclaringClass();
+    if (!Modifier.isPublic(accessor.getModifiers())
+        || !Modifier.isPublic(declaringClass.getModifiers())) {
+      return false;
+    }
+    try {
+      return Class.forName(
+              declaringClass.getName(), false, ConstraintValidators.class.getClassLoader())
+          == declaringClass;
+    } catch (ClassNotFoundException e) {
+      return false;
+    }
+  }
+
+  private static Object linkAccessor(
+      Method method,
+      Class<?> functionalInterface,
+      String methodName,
+      MethodType erasedType,
+      MethodType instantiatedType) {
+    try {
+      CallSite site =
+          LambdaMetafactory.metafactory(
+              LOOKUP,
+              methodName,
+              MethodType.methodType(functionalInterface),
+              erasedType,
+              LOOKUP.unreflect(method),
+              instantiatedType);
+      return site.getTarget().invoke();
+    } catch (Throwable e) {
+      throw new IllegalStateException("Could not link accessor " + method, e);
+    }
+  }
+
+  private static MethodHandle handleOf(Member accessor, Class<?> returnType) {
+    try {
+      MethodHandle handle;
+      if (accessor instanceof Method) {
+        Method method = (Method) accessor;
+        method.setAccessible(true);
+        handle = LOOKUP.unreflect(method);
+      } else {
+        Field field = (Field) accessor;
+        field.setAccessible(true);
+        handle = LOOKUP.unreflectGetter(field);
+      }
+      return handle.asType(MethodType.methodType(returnType, Object.class));
+    } catch (IllegalAccessException e) {
+      throw new IllegalArgumentException("Could not access " + accessor, e);
+    }
+  }
+
+  private static RuntimeException rethrow(Throwable e) {
+    if (e instanceof RuntimeException) {
+      return (RuntimeException) e;
+    } else if (e instanceof Error) {
+      throw (Error) e;
+    }
+    return new UndeclaredThrowableException(e);
+  }
+
+  private enum NumberKind {
+    INT,
+    LONG,
+    DOUBLE;
+
+    static NumberKind of(Class<?> type) {
+      if (type == int.class
+          || type == short.class
+          || type == byte.class
+          || type == Integer.class
+          || type == Short.class
+          || type == Byte.class) {
+        return INT;
+      } else if (type == long.class || type == Long.class) {
+        return LONG;
+      } else if (type == double.class
+          || type == float.class
+          || type == Double.class
+          || type == Float.class) {
+        return DOUBLE;
+      }
+      return null;
+    }
+  }
+
+  private ConstraintValidators() {}
+}
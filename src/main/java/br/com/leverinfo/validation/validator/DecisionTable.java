@@ -0,0 +1,311 @@
+package br.com.leverinfo.validation.validator;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Validator of conditional rules declared as a table, whose rows are selected by the values of
+ * discriminating keys.
+ *
+ * <p>Each row matches a value of each key, or {@link #ANY} value, and declares the validators
+ * applied to matching objects. All matching rows are applied, in declared order, and otherwise
+ * validators are applied when no row matches:
+ *
+ * <pre>{@code
+ * DecisionTable<Customer> table =
+ *     DecisionTable.forType(Customer.class)
+ *         .key(Customer::getType)
+ *         .key(Customer::getCountry)
+ *         .when("PJ", DecisionTable.ANY).then(CNPJ_REQUIRED, CPF_MUST_BE_NULL)
+ *         .when("PF", "BR").then(CPF_REQUIRED)
+ *         .otherwise(INVALID_TYPE)
+ *         .build();
+ * }</pre>
+ *
+ * <p>Rows are compiled into a tree with one level per key. Each level dispatches on the key value
+ * through a hash table to the rows declaring that value, and keeps the rows declaring {@link #ANY}
+ * in a single shared branch, so each row is held by one node per level and the tree grows with the
+ * number of rows times the number of keys. An object follows the branch of its key value and the
+ * {@link #ANY} branch at each level, reaching only the leaves of its matching rows, whose
+ * validators are then applied in declared order. Key values are compared by {@code equals}, and
+ * null is a valid key value. Tables are immutable and safe for concurrent use.
+ *
+ * @param <T> Validated type
+ * @author franciscosousabr
+ */
+public final class DecisionTable<T> implements Validator<T> {
+
+  /** Wildcard matching any key value, including null */
+  public static final Object ANY =
+      new Object() {
+        @Override
+        public String toString() {
+          return "ANY";
+        }
+      };
+
+  private final Function<? super T, ?>[] keys;
+  private final Node root;
+  private final Validator<? super T>[] rows;
+  private final Validator<? super T> otherwise;
+
+  private DecisionTable(
+      Function<? super T, ?>[] keys,
+      Node root,
+      Validator<? super T>[] rows,
+      Validator<? super T> otherwise) {
+    this.keys = keys;
+    this.root = root;
+    this.rows = rows;
+    this.otherwise = otherwise;
+  }
+
+  /**
+   * Starts a decision table of given type
+   *
+   * @param type Validated type
+   * @param <T> Validated type
+   * @return Table builder
+   */
+  public static <T> Builder<T> forType(Class<T> type) {
+    Objects.requireNonNull(type, "type");
+    return new Builder<>();
+  }
+
+  @Override
+  public void validate(T value) {
+    Object[] values = new Object[keys.length];
+    for (int i = 0; i < keys.length; i++) {
+      values[i] = keys[i].apply(value);
+    }
+
+    long[] matched = new long[(rows.length + Long.SIZE - 1) / Long.SIZE];
+    if (root == null || !root.match(values, 0, matched)) {
+      if (otherwise != null) {
+        otherwise.validate(value);
+      }
+      return;
+    }
+
+    for (int word = 0; word < matched.length; word++) {
+      for (long bits = matched[word]; bits != 0; bits &= bits - 1) {
+        rows[word * Long.SIZE + Long.numberOfTrailingZeros(bits)].validate(value);
+      }
+    }
+  }
+
+  /** Counts nodes of the compiled tree */
+  int nodes() {
+    return root == null ? 0 : root.nodes();
+  }
+
+  /**
+   * Builder of decision tables
+   *
+   * @param <T> Validated type
+   */
+  public static final class Builder<T> {
+
+    private final List<Function<? super T, ?>> keys = new ArrayList<>();
+    private final List<Row<T>> rows = new ArrayList<>();
+    private Validator<? super T>[] otherwise;
+
+    private Builder() {}
+
+    /**
+     * Adds a discriminating key. Keys must be added before rows
+     *
+     * @param key Key accessor, like a getter method reference
+     * @return This builder
+     * @throws IllegalStateException If some row was already added
+     */
+    public Builder<T> key(Function<? super T, ?> key) {
+      Objects.requireNonNull(key, "key");
+      if (!rows.isEmpty()) {
+        throw new IllegalStateException("Keys must be added before rows");
+      }
+      keys.add(key);
+      return this;
+    }
+
+    /**
+     * Adds a row matching given key values, in the order keys were added
+     *
+     * @param values Value of each key, or {@link DecisionTable#ANY}
+     * @return Row builder, whose validators must be declared by {@link Row#then(Validator[])}
+     * @throws IllegalArgumentException If number of values is not the number of keys
+     * @throws IllegalStateException If previous row has no validators
+     */
+    public Row<T> when(Object... values) {
+      checkRowsComplete();
+      if (values.length != keys.size()) {
+        throw new IllegalArgumentException(
+            "Expected " + keys.size() + " key values, but got " + values.length);
+      }
+      Row<T> row = new Row<>(this, values.clone());
+      rows.add(row);
+      return row;
+    }
+
+    /**
+     * Declares validators applied when no row matches
+     *
+     * @param validators Validators to be applied
+     * @return This builder
+     */
+    @SafeVarargs
+    public final Builder<T> otherwise(Validator<? super T>... validators) {
+      checkRowsComplete();
+      otherwise = validators.clone();
+      return this;
+    }
+
+    /**
+     * Builds the decision table
+     *
+     * @return Built table
+     * @throws IllegalStateException If no key was added, or last row has no validators
+     */
+    public DecisionTable<T> build() {
+      if (keys.isEmpty()) {
+        throw new IllegalStateException("At least one key is required");
+      }
+      checkRowsComplete();
+
+      List<Validator<? super T>> rowValidators = new ArrayList<>(rows.size());
+      List<Integer> candidates = new ArrayList<>(rows.size());
+      for (Row<T> row : rows) {
+        rowValidators.add(validatorOf(row.validators));
+        candidates.add(candidates.size());
+      }
+      return new DecisionTable<>(
+          Validators.toArray(keys, Function.class),
+          compile(0, candidates),
+          Validators.toArray(rowValidators, Validator.class),
+          otherwise == null || otherwise.length == 0 ? null : validatorOf(otherwise));
+    }
+
+    private Node compile(int level, List<Integer> candidates) {
+      if (candidates.isEmpty()) {
+        return null;
+      }
+      if (level == keys.size()) {
+        long[] leafRows = new long[(rows.size() + Long.SIZE - 1) / Long.SIZE];
+        for (int row : candidates) {
+          leafRows[row / Long.SIZE] |= 1L << row;
+        }
+        return Node.leaf(leafRows);
+      }
+
+      Map<Object, List<Integer>> specific = new LinkedHashMap<>();
+      List<Integer> wildcards = new ArrayList<>();
+      for (int row : candidates) {
+        Object value = rows.get(row).values[level];
+        if (value == ANY) {
+          wildcards.add(row);
+        } else {
+          specific.computeIfAbsent(value, key -> new ArrayList<>()).add(row);
+        }
+      }
+
+      Map<Object, Node> children = new HashMap<>();
+      for (Map.Entry<Object, List<Integer>> entry : specific.entrySet()) {
+        children.put(entry.getKey(), compile(level + 1, entry.getValue()));
+      }
+      return Node.branch(children, compile(level + 1, wildcards));
+    }
+
+    private Validator<? super T> validatorOf(Validator<? super T>[] validators) {
+      return validators.length == 1 ? validators[0] : Validators.<T>allOf(validators);
+    }
+
+    private void checkRowsComplete() {
+      if (!rows.isEmpty() && rows.get(rows.size() - 1).validators == null) {
+        throw new IllegalStateException("Row has no validators");
+      }
+    }
+  }
+
+  /**
+   * Builder of a row, which declares the validators of matching objects
+   *
+   * @param <T> Validated type
+   */
+  public static final class Row<T> {
+
+    private final Builder<T> builder;
+    private final Object[] values;
+    private Validator<? super T>[] validators;
+
+    private Row(Builder<T> builder, Object[] values) {
+      this.builder = builder;
+      this.values = values;
+    }
+
+    /**
+     * Declares validators applied to objects matching this row
+     *
+     * @param validators Validators to be applied
+     * @return Table builder
+     * @throws IllegalStateException If row validators were already declared
+     */
+    @SafeVarargs
+    public final Builder<T> then(Validator<? super T>... validators) {
+      if (this.validators != null) {
+        throw new IllegalStateException("Row validators were already declared");
+      }
+      this.validators = validators.clone();
+      return builder;
+    }
+  }
+
+  private static final class Node {
+
+    private final Map<Object, Node> children;
+    private final Node other;
+    private final long[] rows;
+
+    private Node(Map<Object, Node> children, Node other, long[] rows) {
+      this.children = children;
+      this.other = other;
+      this.rows = rows;
+    }
+
+    static Node branch(Map<Object, Node> children, Node other) {
+      return new Node(children, other, null);
+    }
+
+    static Node leaf(long[] rows) {
+      return new Node(null, null, rows);
+    }
+
+    /** Marks rows matching key values from level on, returning whether some row matched */
+    boolean match(Object[] values, int level, long[] matched) {
+      if (rows != null) {
+        for (int i = 0; i < rows.length; i++) {
+          matched[i] |= rows[i];
+        }
+        return true;
+      }
+
+      Node child = children.get(values[level]);
+      boolean match = child != null && child.match(values, level + 1, matched);
+      return (other != null && other.match(values, level + 1, matched)) || match;
+    }
+
+    int nodes() {
+      int nodes = 1;
+      if (children != null) {
+        for (Node child : children.values()) {
+          nodes += child.nodes();
+        }
+      }
+      return other == null ? nodes : nodes + other.nodes();
+    }
+  }
+}
@@ -0,0 +1,25 @@
+package br.com.leverinfo.validation.validator;
+
+/**
+ * Validator which must run after the validator declared before it, recognized by {@link
+ * AdaptiveAllOfValidator}.
+ *
+ * @author franciscosousabr
+ */
+final class DependentValidator<T> implements Validator<T> {
+
+  private final Validator<? super T> validator;
+
+  DependentValidator(Validator<? super T> validator) {
+    this.validator = validator;
+  }
+
+  Validator<? super T> validator() {
+    return validator;
+  }
+
+  @Override
+  public void validate(T value) {
+    validator.validate(value);
+  }
+}
@@ -0,0 +1,55 @@
+package br.com.leverinfo.validation.validator;
+
+import br.com.leverinfo.validation.exception.ValidationException;
+import java.util.function.DoublePredicate;
+
+/**
+ * Reusable validation of {@code double} values, which never boxes validated values.
+ *
+ * <p>Validators of {@code float} values widen them to {@code double}.
+ *
+ * @author franciscosousabr
+ * @see Validator
+ */
+@FunctionalInterface
+public interface DoubleValidator {
+
+  /**
+   * Validates value
+   *
+   * @param value Desired value
+   * @throws ValidationException If value is not valid
+   */
+  void validate(double value);
+
+  /**
+   * Composes a validator which validates value with this validator and then with other
+   *
+   * @param other Other validator
+   * @return Composed validator
+   */
+  default DoubleValidator and(DoubleValidator other) {
+    return DoubleValidators.allOf(this, other);
+  }
+
+  /**
+   * Composes a validator which accepts values accepted by this validator or by other
+   *
+   * @param other Other validator
+   * @return Composed validator
+   * @see DoubleValidators#anyOf(DoubleValidator...)
+   */
+  default DoubleValidator or(DoubleValidator other) {
+    return DoubleValidators.anyOf(this, other);
+  }
+
+  /**
+   * Composes a validator which validates only values which satisfy condition
+   *
+   * @param condition Condition to validate value
+   * @return Composed validator
+   */
+  default DoubleValidator when(DoublePredicate condition) {
+    return DoubleValidators.when(condition, this);
+  }
+}
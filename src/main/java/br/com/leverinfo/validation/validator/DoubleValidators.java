@@ -0,0 +1,268 @@
+package br.com.leverinfo.validation.validator;
+
+import br.com.leverinfo.validation.ArgumentValidations;
+import br.com.leverinfo.validation.ValidationMessage;
+import br.com.leverinfo.validation.exception.InvalidArgumentException;
+import br.com.leverinfo.validation.exception.ValidationException;
+import java.util.function.DoublePredicate;
+
+/**
+ * Recommended to create {@link DoubleValidator} instances from argument validations.
+ *
+ * <p>Created validators throw the same exceptions, with the same params, as the corresponding
+ * {@link ArgumentValidations} methods. Values are boxed only to be passed as exception params.
+ * Since {@code float} values are widened to {@code double}, their params are {@link Double} instead
+ * of {@link Float}.
+ *
+ * @author franciscosousabr
+ */
+public final class DoubleValidators {
+
+  /**
+   * Creates a validator which throws {@link InvalidArgumentException} if value is not equal to
+   * other value. Like {@link Double#equals(Object)}, {@code NaN} is equal to itself
+   *
+   * @param other Value to compare
+   * @param message {@link ValidationMessage}
+   * @return Created validator
+   */
+  public static DoubleValidator isEqualTo(double other, ValidationMessage message) {
+    return value -> {
+      if (Double.compare(value, other) != 0) {
+        throw new InvalidArgumentException(message, value, other);
+      }
+    };
+  }
+
+  /**
+   * Creates a validator which throws {@link InvalidArgumentException} if value is equal to other
+   * value
+   *
+   * @param other Value to compare
+   * @param message {@link ValidationMessage}
+   * @return Created validator
+   */
+  public static DoubleValidator isNotEqualTo(double other, ValidationMessage message) {
+    return value -> {
+      if (Double.compare(value, other) == 0) {
+        throw new InvalidArgumentException(message, value, other);
+      }
+    };
+  }
+
+  /**
+   * Creates a validator which throws {@link InvalidArgumentException} if value is equal to zero
+   *
+   * @param message {@link ValidationMessage}
+   * @return Created validator
+   */
+  public static DoubleValidator isNotEqualToZero(ValidationMessage message) {
+    return value -> ArgumentValidations.isNotEqualToZero(value, message);
+  }
+
+  /**
+   * Creates a validator which throws {@link InvalidArgumentException} if value is greater than or
+   * equal to other value
+   *
+   * @param other Value to compare
+   * @param message {@link ValidationMessage}
+   * @return Created validator
+   */
+  public static DoubleValidator isLessThan(double other, ValidationMessage message) {
+    return value -> ArgumentValidations.isLessThan(value, other, message);
+  }
+
+  /**
+   * Creates a validator which throws {@link InvalidArgumentException} if value is greater than or
+   * equal to zero
+   *
+   * @param message {@link ValidationMessage}
+   * @return Created validator
+   */
+  public static DoubleValidator isLessThanZero(ValidationMessage message) {
+    return value -> ArgumentValidations.isLessThanZero(value, message);
+  }
+
+  /**
+   * Creates a validator which throws {@link InvalidArgumentException} if value is greater than
+   * other value
+   *
+   * @param other Value to compare
+   * @param message {@link ValidationMessage}
+   * @return Created validator
+   */
+  public static DoubleValidator isLessThanOrEqualTo(double other, ValidationMessage message) {
+    return value -> ArgumentValidations.isLessThanOrEqualTo(value, other, message);
+  }
+
+  /**
+   * Creates a validator which throws {@link InvalidArgumentException} if value is greater than zero
+   *
+   * @param message {@link ValidationMessage}
+   * @return Created validator
+   */
+  public static DoubleValidator isLessThanOrEqualToZero(ValidationMessage message) {
+    return value -> ArgumentValidations.isLessThanOrEqualToZero(value, message);
+  }
+
+  /**
+   * Creates a validator which throws {@link InvalidArgumentException} if value is less than or
+   * equal to other value
+   *
+   * @param other Value to compare
+   * @param message {@link ValidationMessage}
+   * @return Created validator
+   */
+  public static DoubleValidator isGreaterThan(double other, ValidationMessage message) {
+    return value -> ArgumentValidations.isGreaterThan(value, other, message);
+  }
+
+  /**
+   * Creates a validator which throws {@link InvalidArgumentException} if value is less than or
+   * equal to zero
+   *
+   * @param message {@link ValidationMessage}
+   * @return Created validator
+   */
+  public static DoubleValidator isGreaterThanZero(ValidationMessage message) {
+    return value -> ArgumentValidations.isGreaterThanZero(value, message);
+  }
+
+  /**
+   * Creates a validator which throws {@link InvalidArgumentException} if value is less than other
+   * value
+   *
+   * @param other Value to compare
+   * @param message {@link ValidationMessage}
+   * @return Created validator
+   */
+  public static DoubleValidator isGreaterThanOrEqualTo(double other, ValidationMessage message) {
+    return value -> ArgumentValidations.isGreaterThanOrEqualTo(value, other, message);
+  }
+
+  /**
+   * Creates a validator which throws {@link InvalidArgumentException} if value is less than zero
+   *
+   * @param message {@link ValidationMessage}
+   * @return Created validator
+   */
+  public static DoubleValidator isGreaterThanOrEqualToZero(ValidationMessage message) {
+    return value -> ArgumentValidations.isGreaterThanOrEqualToZero(value, message);
+  }
+
+  /**
+   * Creates a validator which throws {@link InvalidArgumentException} if value is not between
+   * limits
+   *
+   * @param startValue Initial limit
+   * @param endValue Final limit
+   * @param message {@link ValidationMessage}
+   * @return Created validator
+   */
+  public static DoubleValidator isBetween(
+      double startValue, double endValue, ValidationMessage message) {
+    return value -> ArgumentValidations.isBetween(value, startValue, endValue, message);
+  }
+
+  /**
+   * Creates a validator which throws {@link InvalidArgumentException} if value does not satisfy
+   * rule. Exception params contain the value
+   *
+   * @param rule Rule to be satisfied by value
+   * @param message {@link ValidationMessage}
+   * @return Created validator
+   */
+  public static DoubleValidator satisfies(DoublePredicate rule, ValidationMessage message) {
+    return value -> {
+      if (!rule.test(value)) {
+        throw new InvalidArgumentException(message, value);
+      }
+    };
+  }
+
+  /**
+   * Composes a validator which validates value with each validator, in order. Composed validators
+   * are flattened, like in {@link Validators#allOf(Validator[])}
+   *
+   * @param validators Validators to compose
+   * @return Composed validator
+   */
+  public static DoubleValidator allOf(DoubleValidator... validators) {
+    return new AllOf(
+        Validators.flatten(validators, AllOf.class, validator -> ((AllOf) validator).validators)
+            .toArray(new DoubleValidator[0]));
+  }
+
+  /**
+   * Composes a validator which accepts value once some validator accepts it, in order. If no
+   * validator accepts value, the exception of the first one is thrown, with exceptions of the
+   * others as suppressed. Composed validators are flattened, like in {@link
+   * Validators#anyOf(Validator[])}
+   *
+   * @param validators Validators to compose
+   * @return Composed validator
+   * @throws IllegalArgumentException If no validator is given
+   */
+  public static DoubleValidator anyOf(DoubleValidator... validators) {
+    Validators.requireAny(validators);
+    return new AnyOf(
+        Validators.flatten(validators, AnyOf.class, validator -> ((AnyOf) validator).validators)
+            .toArray(new DoubleValidator[0]));
+  }
+
+  /**
+   * Composes a validator which validates only values which satisfy condition
+   *
+   * @param condition Condition to validate value
+   * @param validator Validator to be applied
+   * @return Composed validator
+   */
+  public static DoubleValidator when(DoublePredicate condition, DoubleValidator validator) {
+    return value -> {
+      if (condition.test(value)) {
+        validator.validate(value);
+      }
+    };
+  }
+
+  private static final class AllOf implements DoubleValidator {
+
+    private final DoubleValidator[] validators;
+
+    AllOf(DoubleValidator[] validators) {
+      this.validators = validators;
+    }
+
+    @Override
+    public void validate(double value) {
+      for (DoubleValidator validator : validators) {
+        validator.validate(value);
+      }
+    }
+  }
+
+  private static final class AnyOf implements DoubleValidator {
+
+    private final DoubleValidator[] validators;
+
+    AnyOf(DoubleValidator[] validators) {
+      this.validators = validators;
+    }
+
+    @Override
+    public void validate(double value) {
+      ValidationException first = null;
+      for (DoubleValidator validator : validators) {
+        try {
+          validator.validate(value);
+          return;
+        } catch (ValidationException e) {
+          first = Validators.rejected(first, e);
+        }
+      }
+      throw first;
+    }
+  }
+
+  private DoubleValidators() {}
+}
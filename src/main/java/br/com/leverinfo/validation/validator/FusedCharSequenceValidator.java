@@ -0,0 +1,37 @@
+package br.com.leverinfo.validation.validator;
+
+/**
+ * Validator fusing adjacent {@link CharSequenceCheck} and {@link NotNullValidator} instances of a
+ * composition, so the value is checked for null and has its length read once.
+ *
+ * <p>Null values are passed to the original validators, in order, so failures are the same as if
+ * validators were not fused.
+ *
+ * @author franciscosousabr
+ */
+final class FusedCharSequenceValidator implements Validator<CharSequence> {
+
+  private final Validator<? super CharSequence>[] validators;
+  private final CharSequenceCheck[] checks;
+
+  FusedCharSequenceValidator(
+      Validator<? super CharSequence>[] validators, CharSequenceCheck[] checks) {
+    this.validators = validators;
+    this.checks = checks;
+  }
+
+  @Override
+  public void validate(CharSequence value) {
+    if (value == null) {
+      for (Validator<? super CharSequence> validator : validators) {
+        validator.validate(null);
+      }
+      return;
+    }
+
+    int length = value.length();
+    for (CharSequenceCheck check : checks) {
+      check.validate(value, length);
+    }
+  }
+}
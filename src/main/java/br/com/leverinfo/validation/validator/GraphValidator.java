@@ -0,0 +1,346 @@
+package br.com.leverinfo.validation.validator;
+
+import br.com.leverinfo.validation.ValidationMessage;
+import br.com.leverinfo.validation.exception.InvalidArgumentException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Validator of object graphs, like aggregates of orders with items and sub-items, which applies a
+ * validator to each object according to its type.
+ *
+ * <p>Graphs are walked iteratively, depth first and in the order children are returned, with an
+ * explicit work stack, so deep graphs do not overflow the thread stack. Objects reachable by
+ * several paths, including cycles, are validated once, tracked by identity. Objects of types which
+ * were not registered, and null children, are skipped. Optional depth and node budgets limit the
+ * work done for a single graph.
+ *
+ * <p>The work stack and the visited set are pooled per thread and reused between validations.
+ * Validators are immutable and safe for concurrent use.
+ *
+ * @param <T> Root type
+ * @author franciscosousabr
+ */
+public final class GraphValidator<T> implements Validator<T> {
+
+  private static final int MAX_POOLED_CAPACITY = 1 << 16;
+
+  private static final ThreadLocal<Walk> WALKS = ThreadLocal.withInitial(Walk::new);
+
+  private final ClassValue<NodeType<?>> nodeTypes;
+  private final int maxDepth;
+  private final ValidationMessage maxDepthMessage;
+  private final int maxNodes;
+  private final ValidationMessage maxNodesMessage;
+
+  private GraphValidator(Builder<T> builder) {
+    List<NodeType<?>> registered = new ArrayList<>(builder.nodeTypes);
+    this.nodeTypes =
+        new ClassValue<NodeType<?>>() {
+          @Override
+          protected NodeType<?> computeValue(Class<?> type) {
+            for (NodeType<?> nodeType : registered) {
+              if (nodeType.type.isAssignableFrom(type)) {
+                return nodeType;
+              }
+            }
+            return NodeType.NONE;
+          }
+        };
+    this.maxDepth = builder.maxDepth;
+    this.maxDepthMessage = builder.maxDepthMessage;
+    this.maxNodes = builder.maxNodes;
+    this.maxNodesMessage = builder.maxNodesMessage;
+  }
+
+  /**
+   * Starts a graph validator of given root type
+   *
+   * @param type Root type
+   * @param <T> Root type
+   * @return Graph validator builder
+   */
+  public static <T> Builder<T> forType(Class<T> type) {
+    Objects.requireNonNull(type, "type");
+    return new Builder<>();
+  }
+
+  /**
+   * Validates each object of the graph
+   *
+   * @param value Root of the graph, which is skipped if null
+   * @throws InvalidArgumentException If graph exceeds depth or node budget
+   */
+  @Override
+  public void validate(T value) {
+    if (value == null) {
+      return;
+    }
+
+    Walk walk = WALKS.get();
+    if (walk.inUse) {
+      walk(value, new Walk());
+      return;
+    }
+
+    walk.inUse = true;
+    try {
+      walk(value, walk);
+    } finally {
+      walk.clear();
+      walk.inUse = false;
+    }
+  }
+
+  private void walk(Object root, Walk walk) {
+    walk.visited(root);
+    walk.push(root, 0);
+    int nodes = 0;
+    while (walk.size > 0) {
+      walk.size--;
+      Object node = walk.nodes[walk.size];
+      int depth = walk.depths[walk.size];
+      walk.nodes[walk.size] = null;
+
+      if (++nodes > maxNodes) {
+        throw new InvalidArgumentException(maxNodesMessage, maxNodes);
+      }
+
+      NodeType<?> nodeType = nodeTypes.get(node.getClass());
+      nodeType.validate(node);
+
+      Iterable<?> children = nodeType.children(node);
+      if (children == null) {
+        continue;
+      }
+      int start = walk.size;
+      for (Object child : children) {
+        if (child != null && walk.visited(child)) {
+          if (depth + 1 > maxDepth) {
+            throw new InvalidArgumentException(maxDepthMessage, maxDepth);
+          }
+          walk.push(child, depth + 1);
+        }
+      }
+      walk.reverse(start);
+    }
+  }
+
+  /**
+   * Builder of graph validators
+   *
+   * @param <T> Root type
+   */
+  public static final class Builder<T> {
+
+    private final List<NodeType<?>> nodeTypes = new ArrayList<>();
+    private int maxDepth = Integer.MAX_VALUE;
+    private ValidationMessage maxDepthMessage;
+    private int maxNodes = Integer.MAX_VALUE;
+    private ValidationMessage maxNodesMessage;
+
+    private Builder() {}
+
+    /**
+     * Registers a type of objects without children
+     *
+     * @param type Object type, which also matches its subtypes
+     * @param validator Validator of objects of type
+     * @param <S> Object type
+     * @return This builder
+     * @throws IllegalArgumentException If type is already registered
+     */
+    public <S> Builder<T> node(Class<S> type, Validator<? super S> validator) {
+      return node(type, validator, null);
+    }
+
+    /**
+     * Registers a type of objects with children. Types are matched in the order they are
+     * registered, so subtypes must be registered before their supertypes
+     *
+     * @param type Object type, which also matches its subtypes
+     * @param validator Validator of objects of type
+     * @param children Children accessor, like a getter method reference, which may return null
+     * @param <S> Object type
+     * @return This builder
+     * @throws IllegalArgumentException If type is already registered
+     */
+    public <S> Builder<T> node(
+        Class<S> type,
+        Validator<? super S> validator,
+        Function<? super S, ? extends Iterable<?>> children) {
+      Objects.requireNonNull(type, "type");
+      Objects.requireNonNull(validator, "validator");
+      for (NodeType<?> nodeType : nodeTypes) {
+        if (nodeType.type == type) {
+          throw new IllegalArgumentException("Type already registered: " + type.getName());
+        }
+      }
+      nodeTypes.add(new NodeType<>(type, validator, children));
+      return this;
+    }
+
+    /**
+     * Limits depth of objects below the root
+     *
+     * @param maxDepth Maximum depth, where children of root have depth 1
+     * @param message {@link ValidationMessage} of the {@link InvalidArgumentException} thrown when
+     *     graph is deeper
+     * @return This builder
+     * @throws IllegalArgumentException If max depth is negative
+     */
+    public Builder<T> maxDepth(int maxDepth, ValidationMessage message) {
+      if (maxDepth < 0) {
+        throw new IllegalArgumentException("Max depth must not be negative");
+      }
+      this.maxDepth = maxDepth;
+      this.maxDepthMessage = message;
+      return this;
+    }
+
+    /**
+     * Limits number of objects validated in a graph
+     *
+     * @param maxNodes Maximum number of objects, including the root
+     * @param message {@link ValidationMessage} of the {@link InvalidArgumentException} thrown when
+     *     graph has more objects
+     * @return This builder
+     * @throws IllegalArgumentException If max nodes is not positive
+     */
+    public Builder<T> maxNodes(int maxNodes, ValidationMessage message) {
+      if (maxNodes <= 0) {
+        throw new IllegalArgumentException("Max nodes must be positive");
+      }
+      this.maxNodes = maxNodes;
+      this.maxNodesMessage = message;
+      return this;
+    }
+
+    /**
+     * Builds the graph validator
+     *
+     * @return Built validator
+     */
+    public GraphValidator<T> build() {
+      return new GraphValidator<>(this);
+    }
+  }
+
+  private static final class NodeType<S> {
+
+    static final NodeType<Object> NONE = new NodeType<>(Object.class, null, null);
+
+    private final Class<S> type;
+    private final Validator<? super S> validator;
+    private final Function<? super S, ? extends Iterable<?>> children;
+
+    NodeType(
+        Class<S> type,
+        Validator<? super S> validator,
+        Function<? super S, ? extends Iterable<?>> children) {
+      this.type = type;
+      this.validator = validator;
+      this.children = children;
+    }
+
+    void validate(Object node) {
+      if (validator != null) {
+        validator.validate(type.cast(node));
+      }
+    }
+
+    Iterable<?> children(Object node) {
+      return children == null ? null : children.apply(type.cast(node));
+    }
+  }
+
+  /** Work stack and visited set of a graph walk */
+  private static final class Walk {
+
+    private Object[] nodes = new Object[16];
+    private int[] depths = new int[16];
+    private int size;
+    private Object[] visited = new Object[64];
+    private int visitedSize;
+    private boolean inUse;
+
+    void push(Object node, int depth) {
+      if (size == nodes.length) {
+        nodes = Arrays.copyOf(nodes, size * 2);
+        depths = Arrays.copyOf(depths, size * 2);
+      }
+      nodes[size] = node;
+      depths[size] = depth;
+      size++;
+    }
+
+    /** Reverses nodes pushed since start, so they are popped in the order they were returned */
+    void reverse(int start) {
+      for (int i = start, j = size - 1; i < j; i++, j--) {
+        Object node = nodes[i];
+        nodes[i] = nodes[j];
+        nodes[j] = node;
+        int depth = depths[i];
+        depths[i] = depths[j];
+        depths[j] = depth;
+      }
+    }
+
+    /** Marks node as visited, returning false if it was already visited */
+    boolean visited(Object node) {
+      if (visitedSize * 2 >= visited.length) {
+        grow();
+      }
+      int mask = visited.length - 1;
+      int index = mix(System.identityHashCode(node)) & mask;
+      while (visited[index] != null) {
+        if (visited[index] == node) {
+          return false;
+        }
+        index = (index + 1) & mask;
+      }
+      visited[index] = node;
+      visitedSize++;
+      return true;
+    }
+
+    void clear() {
+      Arrays.fill(nodes, 0, size, null);
+      size = 0;
+      if (visited.length > MAX_POOLED_CAPACITY || nodes.length > MAX_POOLED_CAPACITY) {
+        nodes = new Object[16];
+        depths = new int[16];
+        visited = new Object[64];
+      } else if (visited.length > 64 && visitedSize * 8 < visited.length) {
+        // Shrinks table left by a larger graph, so clearing stays proportional to graph size
+        visited = new Object[Math.max(64, Integer.highestOneBit(visitedSize) * 4)];
+      } else if (visitedSize > 0) {
+        Arrays.fill(visited, null);
+      }
+      visitedSize = 0;
+    }
+
+    private void grow() {
+      Object[] previous = visited;
+      visited = new Object[previous.length * 2];
+      int mask = visited.length - 1;
+      for (Object node : previous) {
+        if (node != null) {
+          int index = mix(System.identityHashCode(node)) & mask;
+          while (visited[index] != null) {
+            index = (index + 1) & mask;
+          }
+          visited[index] = node;
+        }
+      }
+    }
+
+    private static int mix(int hash) {
+      int mixed = hash * 0x9E3779B9;
+      return mixed ^ (mixed >>> 16);
+    }
+  }
+}
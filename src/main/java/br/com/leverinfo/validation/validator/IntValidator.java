@@ -0,0 +1,55 @@
+package br.com.leverinfo.validation.validator;
+
+import br.com.leverinfo.validation.exception.ValidationException;
+import java.util.function.IntPredicate;
+
+/**
+ * Reusable validation of {@code int} values, which never boxes validated values.
+ *
+ * <p>Validators of {@code byte} and {@code short} values widen them to {@code int}.
+ *
+ * @author franciscosousabr
+ * @see Validator
+ */
+@FunctionalInterface
+public interface IntValidator {
+
+  /**
+   * Validates value
+   *
+   * @param value Desired value
+   * @throws ValidationException If value is not valid
+   */
+  void validate(int value);
+
+  /**
+   * Composes a validator which validates value with this validator and then with other
+   *
+   * @param other Other validator
+   * @return Composed validator
+   */
+  default IntValidator and(IntValidator other) {
+    return IntValidators.allOf(this, other);
+  }
+
+  /**
+   * Composes a validator which accepts values accepted by this validator or by other
+   *
+   * @param other Other validator
+   * @return Composed validator
+   * @see IntValidators#anyOf(IntValidator...)
+   */
+  default IntValidator or(IntValidator other) {
+    return IntValidators.anyOf(this, other);
+  }
+
+  /**
+   * Composes a validator which validates only values which satisfy condition
+   *
+   * @param condition Condition to validate value
+   * @return Composed validator
+   */
+  default IntValidator when(IntPredicate condition) {
+    return IntValidators.when(condition, this);
+  }
+}
@@ -0,0 +1,267 @@
+package br.com.leverinfo.validation.validator;
+
+import br.com.leverinfo.validation.ArgumentValidations;
+import br.com.leverinfo.validation.ValidationMessage;
+import br.com.leverinfo.validation.exception.InvalidArgumentException;
+import br.com.leverinfo.validation.exception.ValidationException;
+import java.util.function.IntPredicate;
+
+/**
+ * Recommended to create {@link IntValidator} instances from argument validations.
+ *
+ * <p>Created validators throw the same exceptions, with the same params, as the corresponding
+ * {@link ArgumentValidations} methods. Values are boxed only to be passed as exception params.
+ * Since {@code byte} and {@code short} values are widened to {@code int}, their params are {@link
+ * Integer} instead of {@link Byte} and {@link Short}.
+ *
+ * @author franciscosousabr
+ */
+public final class IntValidators {
+
+  /**
+   * Creates a validator which throws {@link InvalidArgumentException} if value is not equal to
+   * other value
+   *
+   * @param other Value to compare
+   * @param message {@link ValidationMessage}
+   * @return Created validator
+   */
+  public static IntValidator isEqualTo(int other, ValidationMessage message) {
+    return value -> {
+      if (value != other) {
+        throw new InvalidArgumentException(message, value, other);
+      }
+    };
+  }
+
+  /**
+   * Creates a validator which throws {@link InvalidArgumentException} if value is equal to other
+   * value
+   *
+   * @param other Value to compare
+   * @param message {@link ValidationMessage}
+   * @return Created validator
+   */
+  public static IntValidator isNotEqualTo(int other, ValidationMessage message) {
+    return value -> {
+      if (value == other) {
+        throw new InvalidArgumentException(message, value, other);
+      }
+    };
+  }
+
+  /**
+   * Creates a validator which throws {@link InvalidArgumentException} if value is equal to zero
+   *
+   * @param message {@link ValidationMessage}
+   * @return Created validator
+   */
+  public static IntValidator isNotEqualToZero(ValidationMessage message) {
+    return value -> ArgumentValidations.isNotEqualToZero(value, message);
+  }
+
+  /**
+   * Creates a validator which throws {@link InvalidArgumentException} if value is greater than or
+   * equal to other value
+   *
+   * @param other Value to compare
+   * @param message {@link ValidationMessage}
+   * @return Created validator
+   */
+  public static IntValidator isLessThan(int other, ValidationMessage message) {
+    return value -> ArgumentValidations.isLessThan(value, other, message);
+  }
+
+  /**
+   * Creates a validator which throws {@link InvalidArgumentException} if value is greater than or
+   * equal to zero
+   *
+   * @param message {@link ValidationMessage}
+   * @return Created validator
+   */
+  public static IntValidator isLessThanZero(ValidationMessage message) {
+    return value -> ArgumentValidations.isLessThanZero(value, message);
+  }
+
+  /**
+   * Creates a validator which throws {@link InvalidArgumentException} if value is greater than
+   * other value
+   *
+   * @param other Value to compare
+   * @param message {@link ValidationMessage}
+   * @return Created validator
+   */
+  public static IntValidator isLessThanOrEqualTo(int other, ValidationMessage message) {
+    return value -> ArgumentValidations.isLessThanOrEqualTo(value, other, message);
+  }
+
+  /**
+   * Creates a validator which throws {@link InvalidArgumentException} if value is greater than zero
+   *
+   * @param message {@link ValidationMessage}
+   * @return Created validator
+   */
+  public static IntValidator isLessThanOrEqualToZero(ValidationMessage message) {
+    return value -> ArgumentValidations.isLessThanOrEqualToZero(value, message);
+  }
+
+  /**
+   * Creates a validator which throws {@link InvalidArgumentException} if value is less than or
+   * equal to other value
+   *
+   * @param other Value to compare
+   * @param message {@link ValidationMessage}
+   * @return Created validator
+   */
+  public static IntValidator isGreaterThan(int other, ValidationMessage message) {
+    return value -> ArgumentValidations.isGreaterThan(value, other, message);
+  }
+
+  /**
+   * Creates a validator which throws {@link InvalidArgumentException} if value is less than or
+   * equal to zero
+   *
+   * @param message {@link ValidationMessage}
+   * @return Created validator
+   */
+  public static IntValidator isGreaterThanZero(ValidationMessage message) {
+    return value -> ArgumentValidations.isGreaterThanZero(value, message);
+  }
+
+  /**
+   * Creates a validator which throws {@link InvalidArgumentException} if value is less than other
+   * value
+   *
+   * @param other Value to compare
+   * @param message {@link ValidationMessage}
+   * @return Created validator
+   */
+  public static IntValidator isGreaterThanOrEqualTo(int other, ValidationMessage message) {
+    return value -> ArgumentValidations.isGreaterThanOrEqualTo(value, other, message);
+  }
+
+  /**
+   * Creates a validator which throws {@link InvalidArgumentException} if value is less than zero
+   *
+   * @param message {@link ValidationMessage}
+   * @return Created validator
+   */
+  public static IntValidator isGreaterThanOrEqualToZero(ValidationMessage message) {
+    return value -> ArgumentValidations.isGreaterThanOrEqualToZero(value, message);
+  }
+
+  /**
+   * Creates a validator which throws {@link InvalidArgumentException} if value is not between
+   * limits
+   *
+   * @param startValue Initial limit
+   * @param endValue Final limit
+   * @param message {@link ValidationMessage}
+   * @return Created validator
+   */
+  public static IntValidator isBetween(int startValue, int endValue, ValidationMessage message) {
+    return value -> ArgumentValidations.isBetween(value, startValue, endValue, message);
+  }
+
+  /**
+   * Creates a validator which throws {@link InvalidArgumentException} if value does not satisfy
+   * rule. Exception params contain the value
+   *
+   * @param rule Rule to be satisfied by value
+   * @param message {@link ValidationMessage}
+   * @return Created validator
+   */
+  public static IntValidator satisfies(IntPredicate rule, ValidationMessage message) {
+    return value -> {
+      if (!rule.test(value)) {
+        throw new InvalidArgumentException(message, value);
+      }
+    };
+  }
+
+  /**
+   * Composes a validator which validates value with each validator, in order. Composed validators
+   * are flattened, like in {@link Validators#allOf(Validator[])}
+   *
+   * @param validators Validators to compose
+   * @return Composed validator
+   */
+  public static IntValidator allOf(IntValidator... validators) {
+    return new AllOf(
+        Validators.flatten(validators, AllOf.class, validator -> ((AllOf) validator).validators)
+            .toArray(new IntValidator[0]));
+  }
+
+  /**
+   * Composes a validator which accepts value once some validator accepts it, in order. If no
+   * validator accepts value, the exception of the first one is thrown, with exceptions of the
+   * others as suppressed. Composed validators are flattened, like in {@link
+   * Validators#anyOf(Validator[])}
+   *
+   * @param validators Validators to compose
+   * @return Composed validator
+   * @throws IllegalArgumentException If no validator is given
+   */
+  public static IntValidator anyOf(IntValidator... validators) {
+    Validators.requireAny(validators);
+    return new AnyOf(
+        Validators.flatten(validators, AnyOf.class, validator -> ((AnyOf) validator).validators)
+            .toArray(new IntValidator[0]));
+  }
+
+  /**
+   * Composes a validator which validates only values which satisfy condition
+   *
+   * @param condition Condition to validate value
+   * @param validator Validator to be applied
+   * @return Composed validator
+   */
+  public static IntValidator when(IntPredicate condition, IntValidator validator) {
+    return value -> {
+      if (condition.test(value)) {
+        validator.validate(value);
+      }
+    };
+  }
+
+  private static final class AllOf implements IntValidator {
+
+    private final IntValidator[] validators;
+
+    AllOf(IntValidator[] validators) {
+      this.validators = validators;
+    }
+
+    @Override
+    public void validate(int value) {
+      for (IntValidator validator : validators) {
+        validator.validate(value);
+      }
+    }
+  }
+
+  private static final class AnyOf implements IntValidator {
+
+    private final IntValidator[] validators;
+
+    AnyOf(IntValidator[] validators) {
+      this.validators = validators;
+    }
+
+    @Override
+    public void validate(int value) {
+      ValidationException first = null;
+      for (IntValidator validator : validators) {
+        try {
+          validator.validate(value);
+          return;
+        } catch (ValidationException e) {
+          first = Validators.rejected(first, e);
+        }
+      }
+      throw first;
+    }
+  }
+
+  private IntValidators() {}
+}
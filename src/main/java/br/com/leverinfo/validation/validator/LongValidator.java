@@ -0,0 +1,53 @@
+package br.com.leverinfo.validation.validator;
+
+import br.com.leverinfo.validation.exception.ValidationException;
+import java.util.function.LongPredicate;
+
+/**
+ * Reusable validation of {@code long} values, which never boxes validated values.
+ *
+ * @author franciscosousabr
+ * @see Validator
+ */
+@FunctionalInterface
+public interface LongValidator {
+
+  /**
+   * Validates value
+   *
+   * @param value Desired value
+   * @throws ValidationException If value is not valid
+   */
+  void validate(long value);
+
+  /**
+   * Composes a validator which validates value with this validator and then with other
+   *
+   * @param other Other validator
+   * @return Composed validator
+   */
+  default LongValidator and(LongValidator other) {
+    return LongValidators.allOf(this, other);
+  }
+
+  /**
+   * Composes a validator which accepts values accepted by this validator or by other
+   *
+   * @param other Other validator
+   * @return Composed validator
+   * @see LongValidators#anyOf(LongValidator...)
+   */
+  default LongValidator or(LongValidator other) {
+    return LongValidators.anyOf(this, other);
+  }
+
+  /**
+   * Composes a validator which validates only values which satisfy condition
+   *
+   * @param condition Condition to validate value
+   * @return Composed validator
+   */
+  default LongValidator when(LongPredicate condition) {
+    return LongValidators.when(condition, this);
+  }
+}
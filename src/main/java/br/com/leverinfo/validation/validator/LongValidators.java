@@ -0,0 +1,265 @@
+package br.com.leverinfo.validation.validator;
+
+import br.com.leverinfo.validation.ArgumentValidations;
+import br.com.leverinfo.validation.ValidationMessage;
+import br.com.leverinfo.validation.exception.InvalidArgumentException;
+import br.com.leverinfo.validation.exception.ValidationException;
+import java.util.function.LongPredicate;
+
+/**
+ * Recommended to create {@link LongValidator} instances from argument validations.
+ *
+ * <p>Created validators throw the same exceptions, with the same params, as the corresponding
+ * {@link ArgumentValidations} methods. Values are boxed only to be passed as exception params.
+ *
+ * @author franciscosousabr
+ */
+public final class LongValidators {
+
+  /**
+   * Creates a validator which throws {@link InvalidArgumentException} if value is not equal to
+   * other value
+   *
+   * @param other Value to compare
+   * @param message {@link ValidationMessage}
+   * @return Created validator
+   */
+  public static LongValidator isEqualTo(long other, ValidationMessage message) {
+    return value -> {
+      if (value != other) {
+        throw new InvalidArgumentException(message, value, other);
+      }
+    };
+  }
+
+  /**
+   * Creates a validator which throws {@link InvalidArgumentException} if value is equal to other
+   * value
+   *
+   * @param other Value to compare
+   * @param message {@link ValidationMessage}
+   * @return Created validator
+   */
+  public static LongValidator isNotEqualTo(long other, ValidationMessage message) {
+    return value -> {
+      if (value == other) {
+        throw new InvalidArgumentException(message, value, other);
+      }
+    };
+  }
+
+  /**
+   * Creates a validator which throws {@link InvalidArgumentException} if value is equal to zero
+   *
+   * @param message {@link ValidationMessage}
+   * @return Created validator
+   */
+  public static LongValidator isNotEqualToZero(ValidationMessage message) {
+    return value -> ArgumentValidations.isNotEqualToZero(value, message);
+  }
+
+  /**
+   * Creates a validator which throws {@link InvalidArgumentException} if value is greater than or
+   * equal to other value
+   *
+   * @param other Value to compare
+   * @param message {@link ValidationMessage}
+   * @return Created validator
+   */
+  public static LongValidator isLessThan(long other, ValidationMessage message) {
+    return value -> ArgumentValidations.isLessThan(value, other, message);
+  }
+
+  /**
+   * Creates a validator which throws {@link InvalidArgumentException} if value is greater than or
+   * equal to zero
+   *
+   * @param message {@link ValidationMessage}
+   * @return Created validator
+   */
+  public static LongValidator isLessThanZero(ValidationMessage message) {
+    return value -> ArgumentValidations.isLessThanZero(value, message);
+  }
+
+  /**
+   * Creates a validator which throws {@link InvalidArgumentException} if value is greater than
+   * other value
+   *
+   * @param other Value to compare
+   * @param message {@link ValidationMessage}
+   * @return Created validator
+   */
+  public static LongValidator isLessThanOrEqualTo(long other, ValidationMessage message) {
+    return value -> ArgumentValidations.isLessThanOrEqualTo(value, other, message);
+  }
+
+  /**
+   * Creates a validator which throws {@link InvalidArgumentException} if value is greater than zero
+   *
+   * @param message {@link ValidationMessage}
+   * @return Created validator
+   */
+  public static LongValidator isLessThanOrEqualToZero(ValidationMessage message) {
+    return value -> ArgumentValidations.isLessThanOrEqualToZero(value, message);
+  }
+
+  /**
+   * Creates a validator which throws {@link InvalidArgumentException} if value is less than or
+   * equal to other value
+   *
+   * @param other Value to compare
+   * @param message {@link ValidationMessage}
+   * @return Created validator
+   */
+  public static LongValidator isGreaterThan(long other, ValidationMessage message) {
+    return value -> ArgumentValidations.isGreaterThan(value, other, message);
+  }
+
+  /**
+   * Creates a validator which throws {@link InvalidArgumentException} if value is less than or
+   * equal to zero
+   *
+   * @param message {@link ValidationMessage}
+   * @return Created validator
+   */
+  public static LongValidator isGreaterThanZero(ValidationMessage message) {
+    return value -> ArgumentValidations.isGreaterThanZero(value, message);
+  }
+
+  /**
+   * Creates a validator which throws {@link InvalidArgumentException} if value is less than other
+   * value
+   *
+   * @param other Value to compare
+   * @param message {@link ValidationMessage}
+   * @return Created validator
+   */
+  public static LongValidator isGreaterThanOrEqualTo(long other, ValidationMessage message) {
+    return value -> ArgumentValidations.isGreaterThanOrEqualTo(value, other, message);
+  }
+
+  /**
+   * Creates a validator which throws {@link InvalidArgumentException} if value is less than zero
+   *
+   * @param message {@link ValidationMessage}
+   * @return Created validator
+   */
+  public static LongValidator isGreaterThanOrEqualToZero(ValidationMessage message) {
+    return value -> ArgumentValidations.isGreaterThanOrEqualToZero(value, message);
+  }
+
+  /**
+   * Creates a validator which throws {@link InvalidArgumentException} if value is not between
+   * limits
+   *
+   * @param startValue Initial limit
+   * @param endValue Final limit
+   * @param message {@link ValidationMessage}
+   * @return Created validator
+   */
+  public static LongValidator isBetween(long startValue, long endValue, ValidationMessage message) {
+    return value -> ArgumentValidations.isBetween(value, startValue, endValue, message);
+  }
+
+  /**
+   * Creates a validator which throws {@link InvalidArgumentException} if value does not satisfy
+   * rule. Exception params contain the value
+   *
+   * @param rule Rule to be satisfied by value
+   * @param message {@link ValidationMessage}
+   * @return Created validator
+   */
+  public static LongValidator satisfies(LongPredicate rule, ValidationMessage message) {
+    return value -> {
+      if (!rule.test(value)) {
+        throw new InvalidArgumentException(message, value);
+      }
+    };
+  }
+
+  /**
+   * Composes a validator which validates value with each validator, in order. Composed validators
+   * are flattened, like in {@link Validators#allOf(Validator[])}
+   *
+   * @param validators Validators to compose
+   * @return Composed validator
+   */
+  public static LongValidator allOf(LongValidator... validators) {
+    return new AllOf(
+        Validators.flatten(validators, AllOf.class, validator -> ((AllOf) validator).validators)
+            .toArray(new LongValidator[0]));
+  }
+
+  /**
+   * Composes a validator which accepts value once some validator accepts it, in order. If no
+   * validator accepts value, the exception of the first one is thrown, with exceptions of the
+   * others as suppressed. Composed validators are flattened, like in {@link
+   * Validators#anyOf(Validator[])}
+   *
+   * @param validators Validators to compose
+   * @return Composed validator
+   * @throws IllegalArgumentException If no validator is given
+   */
+  public static LongValidator anyOf(LongValidator... validators) {
+    Validators.requireAny(validators);
+    return new AnyOf(
+        Validators.flatten(validators, AnyOf.class, validator -> ((AnyOf) validator).validators)
+            .toArray(new LongValidator[0]));
+  }
+
+  /**
+   * Composes a validator which validates only values which satisfy condition
+   *
+   * @param condition Condition to validate value
+   * @param validator Validator to be applied
+   * @return Composed validator
+   */
+  public static LongValidator when(LongPredicate condition, LongValidator validator) {
+    return value -> {
+      if (condition.test(value)) {
+        validator.validate(value);
+      }
+    };
+  }
+
+  private static final class AllOf implements LongValidator {
+
+    private final LongValidator[] validators;
+
+    AllOf(LongValidator[] validators) {
+      this.validators = validators;
+    }
+
+    @Override
+    public void validate(long value) {
+      for (LongValidator validator : validators) {
+        validator.validate(value);
+      }
+    }
+  }
+
+  private static final class AnyOf implements LongValidator {
+
+    private final LongValidator[] validators;
+
+    AnyOf(LongValidator[] validators) {
+      this.validators = validators;
+    }
+
+    @Override
+    public void validate(long value) {
+      ValidationException first = null;
+      for (LongValidator validator : validators) {
+        try {
+          validator.validate(value);
+          return;
+        } catch (ValidationException e) {
+          first = Validators.rejected(first, e);
+        }
+      }
+      throw first;
+    }
+  }
+
+  private LongValidators() {}
+}
@@ -0,0 +1,23 @@
+package br.com.leverinfo.validation.validator;
+
+import br.com.leverinfo.validation.ArgumentValidations;
+import br.com.leverinfo.validation.ValidationMessage;
+
+/**
+ * Validator which requires value to be not null, recognized by {@link FusedCharSequenceValidator}.
+ *
+ * @author franciscosousabr
+ */
+final class NotNullValidator<T> implements Validator<T> {
+
+  private final ValidationMessage message;
+
+  NotNullValidator(ValidationMessage message) {
+    this.message = message;
+  }
+
+  @Override
+  public void validate(T value) {
+    ArgumentValidations.isNotNull(value, message);
+  }
+}
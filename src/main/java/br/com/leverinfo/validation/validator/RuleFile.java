@@ -0,0 +1,187 @@
+package br.com.leverinfo.validation.validator;
+
+import br.com.leverinfo.validation.ValidationMessage;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Rule file whose {@link RuleSet} is reloaded when the file changes.
+ *
+ * <p>Changes are detected by a {@link WatchService} on the file directory, and each reload parses
+ * the whole file before swapping the current rule set atomically, so a validation always uses a
+ * single complete rule set. If the file is not valid, declares no rules, or no longer declares some
+ * rule of the current rule set, like a truncated or mistyped file would, the current rule set is
+ * kept and the error is passed to the error handler. So rules can be added by a reload, but not
+ * removed or renamed. Files should be replaced by an atomic move, so a reload never reads a
+ * partially written file.
+ *
+ * @author franciscosousabr
+ */
+public final class RuleFile implements AutoCloseable {
+
+  private static final long SETTLE_MILLIS = 50;
+
+  private final Path file;
+  private final Class<? extends ValidationMessage> messages;
+  private final Consumer<Exception> errorHandler;
+  private final WatchService watchService;
+  private volatile RuleSet rules;
+
+  private RuleFile(
+      Path file,
+      Class<? extends ValidationMessage> messages,
+      Consumer<Exception> errorHandler,
+      RuleSet rules,
+      WatchService watchService) {
+    this.file = file;
+    this.messages = messages;
+    this.errorHandler = errorHandler;
+    this.watchService = watchService;
+    this.rules = rules;
+  }
+
+  /**
+   * Loads a rule file and watches it for changes, ignoring invalid changes
+   *
+   * @param file Rule file
+   * @param messages Type declaring the messages referenced by rules, like an enum
+   * @return Watched rule file
+   * @throws IOException If file cannot be read or watched
+   * @throws IllegalArgumentException If some rule is not valid, or file declares no rules
+   * @see RuleSet
+   */
+  public static RuleFile watch(Path file, Class<? extends ValidationMessage> messages)
+      throws IOException {
+    return watch(file, messages, error -> {});
+  }
+
+  /**
+   * Loads a rule file and watches it for changes
+   *
+   * @param file Rule file
+   * @param messages Type declaring the messages referenced by rules, like an enum
+   * @param errorHandler Handler of errors reloading rules, called from the watching thread
+   * @return Watched rule file
+   * @throws IOException If file cannot be read or watched
+   * @throws IllegalArgumentException If some rule is not valid, or file declares no rules
+   * @see RuleSet
+   */
+  public static RuleFile watch(
+      Path file, Class<? extends ValidationMessage> messages, Consumer<Exception> errorHandler)
+      throws IOException {
+    Path absoluteFile = file.toAbsolutePath();
+    RuleSet rules = RuleSet.load(absoluteFile, messages);
+    if (rules.names().isEmpty()) {
+      throw new IllegalArgumentException("Rule file declares no rules: " + absoluteFile);
+    }
+
+    WatchService watchService = absoluteFile.getFileSystem().newWatchService();
+    try {
+      absoluteFile
+          .getParent()
+          .register(
+              watchService,
+              StandardWatchEventKinds.ENTRY_CREATE,
+              StandardWatchEventKinds.ENTRY_MODIFY);
+    } catch (IOException | RuntimeException e) {
+      watchService.close();
+      throw e;
+    }
+
+    RuleFile ruleFile = new RuleFile(absoluteFile, messages, errorHandler, rules, watchService);
+    Thread thread = new Thread(ruleFile::watchChanges, "rule-file-" + absoluteFile.getFileName());
+    thread.setDaemon(true);
+    thread.start();
+    return ruleFile;
+  }
+
+  /**
+   * Gets current rule set
+   *
+   * @return Current rule set
+   */
+  public RuleSet current() {
+    return rules;
+  }
+
+  /**
+   * Gets validator of a rule which always uses the current rule set
+   *
+   * @param name Rule name
+   * @return Validator of rule, which throws {@link IllegalArgumentException} if rule is not
+   *     declared
+   */
+  public Validator<Object> validator(String name) {
+    return value -> rules.validator(name).validate(value);
+  }
+
+  /**
+   * Reloads rule file, keeping current rule set if file is not valid. Reloads are serialized with
+   * the ones triggered by changes, so rules read from an older file never replace newer ones
+   *
+   * @throws IOException If file cannot be read
+   * @throws IllegalArgumentException If some rule is not valid, or some rule of the current rule
+   *     set is no longer declared
+   */
+  public synchronized void reload() throws IOException {
+    RuleSet reloaded = RuleSet.load(file, messages);
+    Set<String> dropped = new TreeSet<>(rules.names());
+    dropped.removeAll(reloaded.names());
+    if (!dropped.isEmpty()) {
+      throw new IllegalArgumentException("Rule file no longer declares rules: " + dropped);
+    }
+    rules = reloaded;
+  }
+
+  /** Stops watching the rule file */
+  @Override
+  public void close() throws IOException {
+    watchService.close();
+  }
+
+  private void watchChanges() {
+    try {
+      while (true) {
+        WatchKey key = watchService.take();
+        boolean changed = changed(key);
+        WatchKey next;
+        while ((next = watchService.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+          changed |= changed(next);
+        }
+
+        if (changed) {
+          try {
+            reload();
+          } catch (IOException | RuntimeException e) {
+            errorHandler.accept(e);
+          }
+        }
+      }
+    } catch (ClosedWatchServiceException e) {
+      // Rule file closed
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private boolean changed(WatchKey key) {
+    boolean changed = false;
+    for (WatchEvent<?> event : key.pollEvents()) {
+      if (event.kind() == StandardWatchEventKinds.OVERFLOW
+          || file.getFileName().equals(event.context())) {
+        changed = true;
+      }
+    }
+    key.reset();
+    return changed;
+  }
+}
@@ -0,0 +1,427 @@
+package br.com.leverinfo.validation.validator;
+
+import br.com.leverinfo.validation.ArgumentValidations;
+import br.com.leverinfo.validation.ValidationMessage;
+import br.com.leverinfo.validation.exception.InvalidArgumentException;
+import br.com.leverinfo.validation.lookup.CompactStringSet;
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * Immutable set of named validators compiled from a rule file in {@link Properties} format.
+ *
+ * <p>Each entry declares one check of a named rule, as {@code <rule>.<check> = <MESSAGE_CODE>
+ * [argument]}, where the message is found by its {@link ValidationMessage#getCode() code}. Checks
+ * of a rule run in the order they are declared:
+ *
+ * <pre>
+ * code.isNotBlank = CODE_REQUIRED
+ * code.hasSizeBetween = INVALID_CODE 2,10
+ * code.matchesPattern = INVALID_CODE [A-Z]\\d+
+ * quantity.isBetween = INVALID_QUANTITY 1,100
+ * country.isIn = INVALID_COUNTRY BR,PT,US
+ * </pre>
+ *
+ * <p>Available checks are {@code isNotNull}, {@code isNotBlank}, {@code hasSize}, {@code
+ * hasSizeBetween}, {@code matchesPattern}, {@code isIn}, {@code isGreaterThanOrEqualTo}, {@code
+ * isLessThanOrEqualTo} and {@code isBetween}, with the same exceptions as the {@link
+ * ArgumentValidations} methods. Checks other than {@code isNotNull} and {@code isNotBlank} skip
+ * null values. Values of a type the check does not apply to, like a number checked by {@code
+ * isNotBlank} or a string checked by {@code isBetween}, throw {@link InvalidArgumentException} with
+ * the value as param.
+ *
+ * @author franciscosousabr
+ */
+public final class RuleSet {
+
+  private final Map<String, Validator<Object>> validators;
+
+  private RuleSet(Map<String, Validator<Object>> validators) {
+    this.validators = validators;
+  }
+
+  /**
+   * Loads a rule set from a file encoded in UTF-8
+   *
+   * @param file Rule file
+   * @param messages Type declaring the messages referenced by rules, like an enum
+   * @return Loaded rule set
+   * @throws IOException If file cannot be read
+   * @throws IllegalArgumentException If some rule is not valid
+   */
+  public static RuleSet load(Path file, Class<? extends ValidationMessage> messages)
+      throws IOException {
+    try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+      return parse(reader, messages);
+    }
+  }
+
+  /**
+   * Parses a rule set
+   *
+   * @param reader Reader of rules
+   * @param messages Type declaring the messages referenced by rules, like an enum
+   * @return Parsed rule set
+   * @throws IOException If rules cannot be read
+   * @throws IllegalArgumentException If some rule is not valid
+   */
+  public static RuleSet parse(Reader reader, Class<? extends ValidationMessage> messages)
+      throws IOException {
+    Map<String, String> entries = new LinkedHashMap<>();
+    Properties properties =
+        new Properties() {
+          @Override
+          public synchronized Object put(Object key, Object value) {
+            entries.put((String) key, (String) value);
+            return super.put(key, value);
+          }
+        };
+    properties.load(reader);
+
+    Map<String, ValidationMessage> messagesByCode = messagesByCode(messages);
+    Map<String, List<Validator<Object>>> checks = new LinkedHashMap<>();
+    for (Map.Entry<String, String> entry : entries.entrySet()) {
+      String key = entry.getKey();
+      int separator = key.lastIndexOf('.');
+      if (separator <= 0 || separator == key.length() - 1) {
+        throw new IllegalArgumentException("Invalid rule key: " + key);
+      }
+
+      String value = entry.getValue().trim();
+      int space = indexOfWhitespace(value);
+      String code = space < 0 ? value : value.substring(0, space);
+      String argument = space < 0 ? null : value.substring(space + 1).trim();
+      ValidationMessage message = messagesByCode.get(code);
+      if (message == null) {
+        throw new IllegalArgumentException("Unknown message code in rule " + key + ": " + code);
+      }
+
+      try {
+        checks
+            .computeIfAbsent(key.substring(0, separator), name -> new ArrayList<>())
+            .add(check(key.substring(separator + 1), argument, message));
+      } catch (IllegalArgumentException e) {
+        throw new IllegalArgumentException("Invalid rule " + key + ": " + e.getMessage(), e);
+      }
+    }
+
+    Map<String, Validator<Object>> validators = new HashMap<>();
+    for (Map.Entry<String, List<Validator<Object>>> rule : checks.entrySet()) {
+      List<Validator<Object>> ruleChecks = rule.getValue();
+      validators.put(
+          rule.getKey(),
+          ruleChecks.size() == 1
+              ? ruleChecks.get(0)
+              : Validators.allOf(Validators.toArray(ruleChecks, Validator.class)));
+    }
+    return new RuleSet(Collections.unmodifiableMap(validators));
+  }
+
+  /**
+   * Gets names of rules
+   *
+   * @return Names of rules
+   */
+  public Set<String> names() {
+    return validators.keySet();
+  }
+
+  /**
+   * Gets validator of a rule
+   *
+   * @param name Rule name
+   * @return Validator of rule
+   * @throws IllegalArgumentException If rule is not declared
+   */
+  public Validator<Object> validator(String name) {
+    Validator<Object> validator = validators.get(name);
+    if (validator == null) {
+      throw new IllegalArgumentException("Rule not declared: " + name);
+    }
+    return validator;
+  }
+
+  private static Validator<Object> check(String check, String argument, ValidationMessage message) {
+    switch (check) {
+      case "isNotNull":
+        noArgument(argument);
+        return Validators.isNotNull(message);
+      case "isNotBlank":
+        noArgument(argument);
+        return value -> ArgumentValidations.isNotBlank(charSequence(value, message), message);
+      case "hasSize":
+        int size = parseInt(argument);
+        return nullable(sizeCheck(size, size, true, message));
+      case "hasSizeBetween":
+        int[] sizes = parseInts(argument);
+        return nullable(sizeCheck(sizes[0], sizes[1], false, message));
+      case "matchesPattern":
+        Validator<CharSequence> pattern = Validators.matchesPattern(required(argument), message);
+        return nullable(value -> pattern.validate(charSequence(value, message)));
+      case "isIn":
+        CompactStringSet set =
+            CompactStringSet.of(Arrays.asList(required(argument).split("\\s*,\\s*")));
+        return nullable(
+            value ->
+                ArgumentValidations.contains(
+                    value instanceof CharSequence ? (CharSequence) value : value.toString(),
+                    set,
+                    message));
+      case "isGreaterThanOrEqualTo":
+        return nullable(new NumberRange(parseDecimal(required(argument)), null, message));
+      case "isLessThanOrEqualTo":
+        return nullable(new NumberRange(null, parseDecimal(required(argument)), message));
+      case "isBetween":
+        String[] limits = required(argument).split("\\s*,\\s*");
+        if (limits.length != 2) {
+          throw new IllegalArgumentException("Expected two limits: " + argument);
+        }
+        return nullable(new NumberRange(parseDecimal(limits[0]), parseDecimal(limits[1]), message));
+      default:
+        throw new IllegalArgumentException("Unknown check: " + check);
+    }
+  }
+
+  private static Validator<Object> sizeCheck(
+      int minSize, int maxSize, boolean exact, ValidationMessage message) {
+    return value -> {
+      if (value instanceof CharSequence) {
+        if (exact) {
+          ArgumentValidations.hasSize((CharSequence) value, minSize, message);
+        } else {
+          ArgumentValidations.hasSizeBetween((CharSequence) value, minSize, maxSize, message);
+        }
+      } else if (value instanceof Collection) {
+        if (exact) {
+          ArgumentValidations.hasSize((Collection<?>) value, minSize, message);
+        } else {
+          ArgumentValidations.hasSizeBetween((Collection<?>) value, minSize, maxSize, message);
+        }
+      } else if (value instanceof Map) {
+        if (exact) {
+          ArgumentValidations.hasSize((Map<?, ?>) value, minSize, message);
+        } else {
+          ArgumentValidations.hasSizeBetween((Map<?, ?>) value, minSize, maxSize, message);
+        }
+      } else {
+        throw new InvalidArgumentException(message, value);
+      }
+    };
+  }
+
+  private static CharSequence charSequence(Object value, ValidationMessage message) {
+    if (value != null && !(value instanceof CharSequence)) {
+      throw new InvalidArgumentException(message, value);
+    }
+    return (CharSequence) value;
+  }
+
+  private static Validator<Object> nullable(Validator<Object> validator) {
+    return value -> {
+      if (value != null) {
+        validator.validate(value);
+      }
+    };
+  }
+
+  private static Map<String, ValidationMessage> messagesByCode(
+      Class<? extends ValidationMessage> messages) {
+    Map<String, ValidationMessage> messagesByCode = new HashMap<>();
+    if (messages.isEnum()) {
+      for (ValidationMessage message : messages.getEnumConstants()) {
+        messagesByCode.put(message.getCode(), message);
+      }
+      return messagesByCode;
+    }
+
+    for (Field field : messages.getFields()) {
+      if (Modifier.isStatic(field.getModifiers())
+          && ValidationMessage.class.isAssignableFrom(field.getType())) {
+        try {
+          ValidationMessage message = (ValidationMessage) field.get(null);
+          if (message != null) {
+            messagesByCode.put(message.getCode(), message);
+          }
+        } catch (IllegalAccessException e) {
+          throw new IllegalArgumentException("Could not read message " + field, e);
+        }
+      }
+    }
+    return messagesByCode;
+  }
+
+  private static int indexOfWhitespace(String value) {
+    for (int i = 0; i < value.length(); i++) {
+      if (Character.isWhitespace(value.charAt(i))) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static void noArgument(String argument) {
+    if (argument != null) {
+      throw new IllegalArgumentException("Unexpected argument: " + argument);
+    }
+  }
+
+  private static String required(String argument) {
+    if (argument == null || argument.isEmpty()) {
+      throw new IllegalArgumentException("Missing argument");
+    }
+    return argument;
+  }
+
+  private static int parseInt(String argument) {
+    try {
+      int value = Integer.parseInt(required(argument));
+      if (value < 0) {
+        throw new IllegalArgumentException("Size must not be negative: " + argument);
+      }
+      return value;
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Invalid size: " + argument, e);
+    }
+  }
+
+  private static int[] parseInts(String argument) {
+    String[] values = required(argument).split("\\s*,\\s*");
+    if (values.length != 2) {
+      throw new IllegalArgumentException("Expected two sizes: " + argument);
+    }
+    int[] sizes = {parseInt(values[0]), parseInt(values[1])};
+    if (sizes[0] > sizes[1]) {
+      throw new IllegalArgumentException("Sizes must not be reversed: " + argument);
+    }
+    return sizes;
+  }
+
+  private static BigDecimal parseDecimal(String argument) {
+    try {
+      return new BigDecimal(argument);
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Invalid number: " + argument, e);
+    }
+  }
+
+  /**
+   * Validator of number limits, calling the {@link ArgumentValidations} overload of the value type.
+   * Integral values are compared as {@code int} or {@code long} when limits are integral and fit in
+   * the type, {@code float} and {@code double} values as {@code double}, and other numbers as
+   * {@link BigDecimal}.
+   */
+  private static final class NumberRange implements Validator<Object> {
+
+    private final BigDecimal min;
+    private final BigDecimal max;
+    private final ValidationMessage message;
+    private final boolean intLimits;
+    private final boolean longLimits;
+
+    NumberRange(BigDecimal min, BigDecimal max, ValidationMessage message) {
+      if (min != null && max != null && min.compareTo(max) > 0) {
+        throw new IllegalArgumentException("Limits must not be reversed");
+      }
+      this.min = min;
+      this.max = max;
+      this.message = message;
+      this.longLimits = fitsLong(min) && fitsLong(max);
+      this.intLimits =
+          longLimits
+              && fitsInt(min == null ? 0 : min.longValue())
+              && fitsInt(max == null ? 0 : max.longValue());
+    }
+
+    @Override
+    public void validate(Object value) {
+      if ((value instanceof Integer || value instanceof Short || value instanceof Byte)
+          && intLimits) {
+        int number = ((Number) value).intValue();
+        if (min == null) {
+          ArgumentValidations.isLessThanOrEqualTo(number, max.intValue(), message);
+        } else if (max == null) {
+          ArgumentValidations.isGreaterThanOrEqualTo(number, min.intValue(), message);
+        } else {
+          ArgumentValidations.isBetween(number, min.intValue(), max.intValue(), message);
+        }
+      } else if ((value instanceof Long
+              || value instanceof Integer
+              || value instanceof Short
+              || value instanceof Byte)
+          && longLimits) {
+        long number = ((Number) value).longValue();
+        if (min == null) {
+          ArgumentValidations.isLessThanOrEqualTo(number, max.longValue(), message);
+        } else if (max == null) {
+          ArgumentValidations.isGreaterThanOrEqualTo(number, min.longValue(), message);
+        } else {
+          ArgumentValidations.isBetween(number, min.longValue(), max.longValue(), message);
+        }
+      } else if (value instanceof Double || value instanceof Float) {
+        double number = ((Number) value).doubleValue();
+        if (min == null) {
+          ArgumentValidations.isLessThanOrEqualTo(number, max.doubleValue(), message);
+        } else if (max == null) {
+          ArgumentValidations.isGreaterThanOrEqualTo(number, min.doubleValue(), message);
+        } else {
+          ArgumentValidations.isBetween(number, min.doubleValue(), max.doubleValue(), message);
+        }
+      } else {
+        BigDecimal number = decimal(value);
+        if (min == null) {
+          ArgumentValidations.isLessThanOrEqualTo(number, max, message);
+        } else if (max == null) {
+          ArgumentValidations.isGreaterThanOrEqualTo(number, min, message);
+        } else {
+          ArgumentValidations.isBetween(number, min, max, message);
+        }
+      }
+    }
+
+    private BigDecimal decimal(Object value) {
+      if (value instanceof BigDecimal) {
+        return (BigDecimal) value;
+      }
+      if (value instanceof Number) {
+        try {
+          return new BigDecimal(value.toString());
+        } catch (NumberFormatException e) {
+          // Numbers like infinite doubles have no decimal representation
+        }
+      }
+      throw new InvalidArgumentException(message, value);
+    }
+
+    private static boolean fitsLong(BigDecimal limit) {
+      if (limit == null) {
+        return true;
+      }
+      try {
+        limit.longValueExact();
+        return true;
+      } catch (ArithmeticException e) {
+        return false;
+      }
+    }
+
+    private static boolean fitsInt(long limit) {
+      return limit >= Integer.MIN_VALUE && limit <= Integer.MAX_VALUE;
+    }
+  }
+}
@@ -0,0 +1,915 @@
+package br.com.leverinfo.validation.validator;
+
+import br.com.leverinfo.validation.ValidationMessage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.DoublePredicate;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Validator of objects field by field, built by a fluent {@link Builder}.
+ *
+ * <p>Building a schema compiles each field into a single step, which reads field value once and
+ * validates it with a flattened composition of the field checks. Primitive fields are read and
+ * validated without boxing. Validating an object walks the steps in one loop, with no reflection
+ * and no allocation unless some check fails.
+ *
+ * <pre>{@code
+ * private static final Schema<Order> ORDER_SCHEMA =
+ *     Schema.forType(Order.class)
+ *         .stringField(Order::getCode).isNotBlank(Messages.CODE_REQUIRED)
+ *         .intField(Order::getQuantity).isBetween(1, 100, Messages.INVALID_QUANTITY)
+ *         .doubleField(Order::getAmount).isGreaterThanZero(Messages.INVALID_AMOUNT)
+ *         .build();
+ * }</pre>
+ *
+ * @param <T> Validated type
+ * @author franciscosousabr
+ */
+public final class Schema<T> implements Validator<T> {
+
+  private final Class<T> type;
+  private final Validator<? super T>[] steps;
+
+  private Schema(Class<T> type, Validator<? super T>[] steps) {
+    this.type = type;
+    this.steps = steps;
+  }
+
+  /**
+   * Starts building a schema
+   *
+   * @param type Validated type
+   * @param <T> Validated type
+   * @return Schema builder
+   */
+  public static <T> Builder<T> forType(Class<T> type) {
+    return new Builder<>(type);
+  }
+
+  /**
+   * Validates fields of value, in the order they were added, throwing on the first failed check.
+   * Value must not be null; compose with {@link Validators#isNotNull(ValidationMessage)} to
+   * validate it.
+   *
+   * @param value Desired value
+   * @throws br.com.leverinfo.validation.exception.ValidationException If some field is not valid
+   */
+  @Override
+  public void validate(T value) {
+    for (Validator<? super T> step : steps) {
+      step.validate(value);
+    }
+  }
+
+  /**
+   * Gets validated type
+   *
+   * @return Validated type
+   */
+  public Class<T> getType() {
+    return type;
+  }
+
+  @Override
+  public String toString() {
+    return "Schema{type=" + type.getName() + ", fields=" + steps.length + '}';
+  }
+
+  /**
+   * Fluent builder of {@link Schema}. Builders are not safe for concurrent use, but built schemas
+   * are immutable.
+   *
+   * @param <T> Validated type
+   */
+  public static final class Builder<T> {
+
+    private final Class<T> type;
+    private final List<Validator<? super T>> steps = new ArrayList<>();
+    private Field<T> current;
+
+    private Builder(Class<T> type) {
+      this.type = type;
+    }
+
+    /**
+     * Adds a field
+     *
+     * @param accessor Field accessor, like a getter method reference
+     * @param <F> Field type
+     * @return Field builder
+     */
+    public <F> ObjectField<T, F> field(Function<? super T, ? extends F> accessor) {
+      return start(new ObjectField<>(this, accessor));
+    }
+
+    /**
+     * Adds a {@link CharSequence} field
+     *
+     * @param accessor Field accessor, like a getter method reference
+     * @return Field builder
+     */
+    public StringField<T> stringField(Function<? super T, ? extends CharSequence> accessor) {
+      return start(new StringField<>(this, accessor));
+    }
+
+    /**
+     * Adds an {@code int} field. Also used for {@code byte} and {@code short} fields.
+     *
+     * @param accessor Field accessor, like a getter method reference
+     * @return Field builder
+     */
+    public IntField<T> intField(ToIntFunction<? super T> accessor) {
+      return start(new IntField<>(this, accessor));
+    }
+
+    /**
+     * Adds a {@code long} field
+     *
+     * @param accessor Field accessor, like a getter method reference
+     * @return Field builder
+     */
+    public LongField<T> longField(ToLongFunction<? super T> accessor) {
+      return start(new LongField<>(this, accessor));
+    }
+
+    /**
+     * Adds a {@code double} field. Also used for {@code float} fields.
+     *
+     * @param accessor Field accessor, like a getter method reference
+     * @return Field builder
+     */
+    public DoubleField<T> doubleField(ToDoubleFunction<? super T> accessor) {
+      return start(new DoubleField<>(this, accessor));
+    }
+
+    /**
+     * Adds a validation of the whole value, like a rule over more than one field
+     *
+     * @param validator Validator to be applied
+     * @return This builder
+     */
+    public Builder<T> check(Validator<? super T> validator) {
+      finishField();
+      steps.add(validator);
+      return this;
+    }
+
+    /**
+     * Builds the schema. Builder may keep being used after, without changing built schema.
+     *
+     * @return Built schema
+     */
+    public Schema<T> build() {
+      finishField();
+      return new Schema<>(type, Validators.toArray(steps, Validator.class));
+    }
+
+    private <S extends Field<T>> S start(S field) {
+      finishField();
+      current = field;
+      return field;
+    }
+
+    private void finishField() {
+      if (current != null) {
+        Validator<? super T> step = current.compile();
+        if (step != null) {
+          steps.add(step);
+        }
+        current.closed = true;
+        current = null;
+      }
+    }
+  }
+
+  /**
+   * Base of field builders, which can move to the next field or build the schema.
+   *
+   * @param <T> Validated type
+   */
+  public abstract static class Field<T> {
+
+    private final Builder<T> builder;
+    private boolean closed;
+
+    private Field(Builder<T> builder) {
+      this.builder = builder;
+    }
+
+    /**
+     * Adds a field
+     *
+     * @param accessor Field accessor, like a getter method reference
+     * @param <F> Field type
+     * @return Field builder
+     * @see Builder#field(Function)
+     */
+    public <F> ObjectField<T, F> field(Function<? super T, ? extends F> accessor) {
+      return builder.field(accessor);
+    }
+
+    /**
+     * Adds a {@link CharSequence} field
+     *
+     * @param accessor Field accessor, like a getter method reference
+     * @return Field builder
+     * @see Builder#stringField(Function)
+     */
+    public StringField<T> stringField(Function<? super T, ? extends CharSequence> accessor) {
+      return builder.stringField(accessor);
+    }
+
+    /**
+     * Adds an {@code int} field
+     *
+     * @param accessor Field accessor, like a getter method reference
+     * @return Field builder
+     * @see Builder#intField(ToIntFunction)
+     */
+    public IntField<T> intField(ToIntFunction<? super T> accessor) {
+      return builder.intField(accessor);
+    }
+
+    /**
+     * Adds a {@code long} field
+     *
+     * @param accessor Field accessor, like a getter method reference
+     * @return Field builder
+     * @see Builder#longField(ToLongFunction)
+     */
+    public LongField<T> longField(ToLongFunction<? super T> accessor) {
+      return builder.longField(accessor);
+    }
+
+    /**
+     * Adds a {@code double} field
+     *
+     * @param accessor Field accessor, like a getter method reference
+     * @return Field builder
+     * @see Builder#doubleField(ToDoubleFunction)
+     */
+    public DoubleField<T> doubleField(ToDoubleFunction<? super T> accessor) {
+      return builder.doubleField(accessor);
+    }
+
+    /**
+     * Adds a validation of the whole value
+     *
+     * @param validator Validator to be applied
+     * @return Schema builder
+     * @see Builder#check(Validator)
+     */
+    public Builder<T> check(Validator<? super T> validator) {
+      return builder.check(validator);
+    }
+
+    /**
+     * Builds the schema
+     *
+     * @return Built schema
+     * @see Builder#build()
+     */
+    public Schema<T> build() {
+      return builder.build();
+    }
+
+    void checkNotClosed() {
+      if (closed) {
+        throw new IllegalStateException("Field was already added to the schema");
+      }
+    }
+
+    abstract Validator<? super T> compile();
+  }
+
+  /**
+   * Builder of field checks
+   *
+   * @param <T> Validated type
+   * @param <F> Field type
+   */
+  public static final class ObjectField<T, F> extends Field<T> {
+
+    private final Function<? super T, ? extends F> accessor;
+    private final List<Validator<? super F>> validators = new ArrayList<>();
+
+    private ObjectField(Builder<T> builder, Function<? super T, ? extends F> accessor) {
+      super(builder);
+      this.accessor = accessor;
+    }
+
+    /**
+     * Adds a validator of field value
+     *
+     * @param validator Validator to be applied
+     * @return This field builder
+     */
+    public ObjectField<T, F> validatedBy(Validator<? super F> validator) {
+      checkNotClosed();
+      validators.add(validator);
+      return this;
+    }
+
+    /**
+     * Validates field with {@link Validators#isNotNull(ValidationMessage)}
+     *
+     * @param message {@link ValidationMessage}
+     * @return This field builder
+     */
+    public ObjectField<T, F> isNotNull(ValidationMessage message) {
+      return validatedBy(Validators.isNotNull(message));
+    }
+
+    /**
+     * Validates field with {@link Validators#isNull(ValidationMessage)}
+     *
+     * @param message {@link ValidationMessage}
+     * @return This field builder
+     */
+    public ObjectField<T, F> isNull(ValidationMessage message) {
+      return validatedBy(Validators.isNull(message));
+    }
+
+    /**
+     * Validates field with {@link Validators#isEqualTo(Object, ValidationMessage)}
+     *
+     * @param other Value to compare
+     * @param message {@link ValidationMessage}
+     * @return This field builder
+     */
+    public ObjectField<T, F> isEqualTo(F other, ValidationMessage message) {
+      return validatedBy(Validators.isEqualTo(other, message));
+    }
+
+    /**
+     * Validates field with {@link Validators#isNotEqualTo(Object, ValidationMessage)}
+     *
+     * @param other Value to compare
+     * @param message {@link ValidationMessage}
+     * @return This field builder
+     */
+    public ObjectField<T, F> isNotEqualTo(F other, ValidationMessage message) {
+      return validatedBy(Validators.isNotEqualTo(other, message));
+    }
+
+    /**
+     * Validates field with {@link Validators#satisfies(Predicate, ValidationMessage)}
+     *
+     * @param rule Rule to be satisfied by field value
+     * @param message {@link ValidationMessage}
+     * @return This field builder
+     */
+    public ObjectField<T, F> satisfies(Predicate<? super F> rule, ValidationMessage message) {
+      return validatedBy(Validators.satisfies(rule, message));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    Validator<? super T> compile() {
+      if (validators.isEmpty()) {
+        return null;
+      }
+
+      Validator<F> validator =
+          validators.size() == 1
+              ? (Validator<F>) validators.get(0)
+              : Validators.<F>allOf(Validators.toArray(validators, Validator.class));
+      Function<? super T, ? extends F> fieldAccessor = accessor;
+      return value -> validator.validate(fieldAccessor.apply(value));
+    }
+  }
+
+  /**
+   * Builder of {@link CharSequence} field checks
+   *
+   * @param <T> Validated type
+   */
+  public static final class StringField<T> extends Field<T> {
+
+    private final Function<? super T, ? extends CharSequence> accessor;
+    private final List<Validator<? super CharSequence>> validators = new ArrayList<>();
+
+    private StringField(Builder<T> builder, Function<? super T, ? extends CharSequence> accessor) {
+      super(builder);
+      this.accessor = accessor;
+    }
+
+    /**
+     * Adds a validator of field value
+     *
+     * @param validator Validator to be applied
+     * @return This field builder
+     */
+    public StringField<T> validatedBy(Validator<? super CharSequence> validator) {
+      checkNotClosed();
+      validators.add(validator);
+      return this;
+    }
+
+    /**
+     * Validates field with {@link Validators#isNotNull(ValidationMessage)}
+     *
+     * @param message {@link ValidationMessage}
+     * @return This field builder
+     */
+    public StringField<T> isNotNull(ValidationMessage message) {
+      return validatedBy(Validators.isNotNull(message));
+    }
+
+    /**
+     * Validates field with {@link Validators#isNotBlank(ValidationMessage)}
+     *
+     * @param message {@link ValidationMessage}
+     * @return This field builder
+     */
+    public StringField<T> isNotBlank(ValidationMessage message) {
+      return validatedBy(Validators.isNotBlank(message));
+    }
+
+    /**
+     * Validates field with {@link Validators#hasSize(int, ValidationMessage)}
+     *
+     * @param size Size to validate
+     * @param message {@link ValidationMessage}
+     * @return This field builder
+     */
+    public StringField<T> hasSize(int size, ValidationMessage message) {
+      return validatedBy(Validators.hasSize(size, message));
+    }
+
+    /**
+     * Validates field with {@link Validators#hasSizeBetween(int, int, ValidationMessage)}
+     *
+     * @param minSize Initial limit
+     * @param maxSize Final limit
+     * @param message {@link ValidationMessage}
+     * @return This field builder
+     */
+    public StringField<T> hasSizeBetween(int minSize, int maxSize, ValidationMessage message) {
+      return validatedBy(Validators.hasSizeBetween(minSize, maxSize, message));
+    }
+
+    /**
+     * Validates field with {@link Validators#matchesPattern(String, ValidationMessage)}
+     *
+     * @param pattern Regular expression
+     * @param message {@link ValidationMessage}
+     * @return This field builder
+     */
+    public StringField<T> matchesPattern(String pattern, ValidationMessage message) {
+      return validatedBy(Validators.matchesPattern(pattern, message));
+    }
+
+    /**
+     * Validates field with {@link Validators#satisfies(Predicate, ValidationMessage)}
+     *
+     * @param rule Rule to be satisfied by field value
+     * @param message {@link ValidationMessage}
+     * @return This field builder
+     */
+    public StringField<T> satisfies(
+        Predicate<? super CharSequence> rule, ValidationMessage message) {
+      return validatedBy(Validators.satisfies(rule, message));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    Validator<? super T> compile() {
+      if (validators.isEmpty()) {
+        return null;
+      }
+
+      Validator<CharSequence> validator =
+          validators.size() == 1
+              ? (Validator<CharSequence>) validators.get(0)
+              : Validators.<CharSequence>allOf(Validators.toArray(validators, Validator.class));
+      Function<? super T, ? extends CharSequence> fieldAccessor = accessor;
+      return value -> validator.validate(fieldAccessor.apply(value));
+    }
+  }
+
+  /**
+   * Builder of {@code int} field checks
+   *
+   * @param <T> Validated type
+   */
+  public static final class IntField<T> extends Field<T> {
+
+    private final ToIntFunction<? super T> accessor;
+    private final List<IntValidator> validators = new ArrayList<>();
+
+    private IntField(Builder<T> builder, ToIntFunction<? super T> accessor) {
+      super(builder);
+      this.accessor = accessor;
+    }
+
+    /**
+     * Adds a validator of field value
+     *
+     * @param validator Validator to be applied
+     * @return This field builder
+     */
+    public IntField<T> validatedBy(IntValidator validator) {
+      checkNotClosed();
+      validators.add(validator);
+      return this;
+    }
+
+    /**
+     * Validates field with {@link IntValidators#isNotEqualToZero(ValidationMessage)}
+     *
+     * @param message {@link ValidationMessage}
+     * @return This field builder
+     */
+    public IntField<T> isNotEqualToZero(ValidationMessage message) {
+      return validatedBy(IntValidators.isNotEqualToZero(message));
+    }
+
+    /**
+     * Validates field with {@link IntValidators#isLessThan(int, ValidationMessage)}
+     *
+     * @param other Value to compare
+     * @param message {@link ValidationMessage}
+     * @return This field builder
+     */
+    public IntField<T> isLessThan(int other, ValidationMessage message) {
+      return validatedBy(IntValidators.isLessThan(other, message));
+    }
+
+    /**
+     * Validates field with {@link IntValidators#isLessThanOrEqualTo(int, ValidationMessage)}
+     *
+     * @param other Value to compare
+     * @param message {@link ValidationMessage}
+     * @return This field builder
+     */
+    public IntField<T> isLessThanOrEqualTo(int other, ValidationMessage message) {
+      return validatedBy(IntValidators.isLessThanOrEqualTo(other, message));
+    }
+
+    /**
+     * Validates field with {@link IntValidators#isGreaterThan(int, ValidationMessage)}
+     *
+     * @param other Value to compare
+     * @param message {@link ValidationMessage}
+     * @return This field builder
+     */
+    public IntField<T> isGreaterThan(int other, ValidationMessage message) {
+      return validatedBy(IntValidators.isGreaterThan(other, message));
+    }
+
+    /**
+     * Validates field with {@link IntValidators#isGreaterThanZero(ValidationMessage)}
+     *
+     * @param message {@link ValidationMessage}
+     * @return This field builder
+     */
+    public IntField<T> isGreaterThanZero(ValidationMessage message) {
+      return validatedBy(IntValidators.isGreaterThanZero(message));
+    }
+
+    /**
+     * Validates field with {@link IntValidators#isGreaterThanOrEqualTo(int, ValidationMessage)}
+     *
+     * @param other Value to compare
+     * @param message {@link ValidationMessage}
+     * @return This field builder
+     */
+    public IntField<T> isGreaterThanOrEqualTo(int other, ValidationMessage message) {
+      return validatedBy(IntValidators.isGreaterThanOrEqualTo(other, message));
+    }
+
+    /**
+     * Validates field with {@link IntValidators#isGreaterThanOrEqualToZero(ValidationMessage)}
+     *
+     * @param message {@link ValidationMessage}
+     * @return This field builder
+     */
+    public IntField<T> isGreaterThanOrEqualToZero(ValidationMessage message) {
+      return validatedBy(IntValidators.isGreaterThanOrEqualToZero(message));
+    }
+
+    /**
+     * Validates field with {@link IntValidators#isBetween(int, int, ValidationMessage)}
+     *
+     * @param startValue Initial limit
+     * @param endValue Final limit
+     * @param message {@link ValidationMessage}
+     * @return This field builder
+     */
+    public IntField<T> isBetween(int startValue, int endValue, ValidationMessage message) {
+      return validatedBy(IntValidators.isBetween(startValue, endValue, message));
+    }
+
+    /**
+     * Validates field with {@link IntValidators#satisfies(IntPredicate, ValidationMessage)}
+     *
+     * @param rule Rule to be satisfied by field value
+     * @param message {@link ValidationMessage}
+     * @return This field builder
+     */
+    public IntField<T> satisfies(IntPredicate rule, ValidationMessage message) {
+      return validatedBy(IntValidators.satisfies(rule, message));
+    }
+
+    @Override
+    Validator<? super T> compile() {
+      if (validators.isEmpty()) {
+        return null;
+      }
+
+      IntValidator validator =
+          validators.size() == 1
+              ? validators.get(0)
+              : IntValidators.allOf(validators.toArray(new IntValidator[0]));
+      ToIntFunction<? super T> fieldAccessor = accessor;
+      return value -> validator.validate(fieldAccessor.applyAsInt(value));
+    }
+  }
+
+  /**
+   * Builder of {@code long} field checks
+   *
+   * @param <T> Validated type
+   */
+  public static final class LongField<T> extends Field<T> {
+
+    private final ToLongFunction<? super T> accessor;
+    private final List<LongValidator> validators = new ArrayList<>();
+
+    private LongField(Builder<T> builder, ToLongFunction<? super T> accessor) {
+      super(builder);
+      this.accessor = accessor;
+    }
+
+    /**
+     * Adds a validator of field value
+     *
+     * @param validator Validator to be applied
+     * @return This field builder
+     */
+    public LongField<T> validatedBy(LongValidator validator) {
+      checkNotClosed();
+      validators.add(validator);
+      return this;
+    }
+
+    /**
+     * Validates field with {@link LongValidators#isNotEqualToZero(ValidationMessage)}
+     *
+     * @param message {@link ValidationMessage}
+     * @return This field builder
+     */
+    public LongField<T> isNotEqualToZero(ValidationMessage message) {
+      return validatedBy(LongValidators.isNotEqualToZero(message));
+    }
+
+    /**
+     * Validates field with {@link LongValidators#isLessThan(long, ValidationMessage)}
+     *
+     * @param other Value to compare
+     * @param message {@link ValidationMessage}
+     * @return This field builder
+     */
+    public LongField<T> isLessThan(long other, ValidationMessage message) {
+      return validatedBy(LongValidators.isLessThan(other, message));
+    }
+
+    /**
+     * Validates field with {@link LongValidators#isLessThanOrEqualTo(long, ValidationMessage)}
+     *
+     * @param other Value to compare
+     * @param message {@link ValidationMessage}
+     * @return This field builder
+     */
+    public LongField<T> isLessThanOrEqualTo(long other, ValidationMessage message) {
+      return validatedBy(LongValidators.isLessThanOrEqualTo(other, message));
+    }
+
+    /**
+     * Validates field with {@link LongValidators#isGreaterThan(long, ValidationMessage)}
+     *
+     * @param other Value to compare
+     * @param message {@link ValidationMessage}
+     * @return This field builder
+     */
+    public LongField<T> isGreaterThan(long other, ValidationMessage message) {
+      return validatedBy(LongValidators.isGreaterThan(other, message));
+    }
+
+    /**
+     * Validates field with {@link LongValidators#isGreaterThanZero(ValidationMessage)}
+     *
+     * @param message {@link ValidationMessage}
+     * @return This field builder
+     */
+    public LongField<T> isGreaterThanZero(ValidationMessage message) {
+      return validatedBy(LongValidators.isGreaterThanZero(message));
+    }
+
+    /**
+     * Validates field with {@link LongValidators#isGreaterThanOrEqualTo(long, ValidationMessage)}
+     *
+     * @param other Value to compare
+     * @param message {@link ValidationMessage}
+     * @return This field builder
+     */
+    public LongField<T> isGreaterThanOrEqualTo(long other, ValidationMessage message) {
+      return validatedBy(LongValidators.isGreaterThanOrEqualTo(other, message));
+    }
+
+    /**
+     * Validates field with {@link LongValidators#isGreaterThanOrEqualToZero(ValidationMessage)}
+     *
+     * @param message {@link ValidationMessage}
+     * @return This field builder
+     */
+    public LongField<T> isGreaterThanOrEqualToZero(ValidationMessage message) {
+      return validatedBy(LongValidators.isGreaterThanOrEqualToZero(message));
+    }
+
+    /**
+     * Validates field with {@link LongValidators#isBetween(long, long, ValidationMessage)}
+     *
+     * @param startValue Initial limit
+     * @param endValue Final limit
+     * @param message {@link ValidationMessage}
+     * @return This field builder
+     */
+    public LongField<T> isBetween(long startValue, long endValue, ValidationMessage message) {
+      return validatedBy(LongValidators.isBetween(startValue, endValue, message));
+    }
+
+    /**
+     * Validates field with {@link LongValidators#satisfies(LongPredicate, ValidationMessage)}
+     *
+     * @param rule Rule to be satisfied by field value
+     * @param message {@link ValidationMessage}
+     * @return This field builder
+     */
+    public LongField<T> satisfies(LongPredicate rule, ValidationMessage message) {
+      return validatedBy(LongValidators.satisfies(rule, message));
+    }
+
+    @Override
+    Validator<? super T> compile() {
+      if (validators.isEmpty()) {
+        return null;
+      }
+
+      LongValidator validator =
+          validators.size() == 1
+              ? validators.get(0)
+              : LongValidators.allOf(validators.toArray(new LongValidator[0]));
+      ToLongFunction<? super T> fieldAccessor = accessor;
+      return value -> validator.validate(fieldAccessor.applyAsLong(value));
+    }
+  }
+
+  /**
+   * Builder of {@code double} field checks
+   *
+   * @param <T> Validated type
+   */
+  public static final class DoubleField<T> extends Field<T> {
+
+    private final ToDoubleFunction<? super T> accessor;
+    private final List<DoubleValidator> validators = new ArrayList<>();
+
+    private DoubleField(Builder<T> builder, ToDoubleFunction<? super T> accessor) {
+      super(builder);
+      this.accessor = accessor;
+    }
+
+    /**
+     * Adds a validator of field value
+     *
+     * @param validator Validator to be applied
+     * @return This field builder
+     */
+    public DoubleField<T> validatedBy(DoubleValidator validator) {
+      checkNotClosed();
+      validators.add(validator);
+      return this;
+    }
+
+    /**
+     * Validates field with {@link DoubleValidators#isNotEqualToZero(ValidationMessage)}
+     *
+     * @param message {@link ValidationMessage}
+     * @return This field builder
+     */
+    public DoubleField<T> isNotEqualToZero(ValidationMessage message) {
+      return validatedBy(DoubleValidators.isNotEqualToZero(message));
+    }
+
+    /**
+     * Validates field with {@link DoubleValidators#isLessThan(double, ValidationMessage)}
+     *
+     * @param other Value to compare
+     * @param message {@link ValidationMessage}
+     * @return This field builder
+     */
+    public DoubleField<T> isLessThan(double other, ValidationMessage message) {
+      return validatedBy(DoubleValidators.isLessThan(other, message));
+    }
+
+    /**
+     * Validates field with {@link DoubleValidators#isLessThanOrEqualTo(double, ValidationMessage)}
+     *
+     * @param other Value to compare
+     * @param message {@link ValidationMessage}
+     * @return This field builder
+     */
+    public DoubleField<T> isLessThanOrEqualTo(double other, ValidationMessage message) {
+      return validatedBy(DoubleValidators.isLessThanOrEqualTo(other, message));
+    }
+
+    /**
+     * Validates field with {@link DoubleValidators#isGreaterThan(double, ValidationMessage)}
+     *
+     * @param other Value to compare
+     * @param message {@link ValidationMessage}
+     * @return This field builder
+     */
+    public DoubleField<T> isGreaterThan(double other, ValidationMessage message) {
+      return validatedBy(DoubleValidators.isGreaterThan(other, message));
+    }
+
+    /**
+     * Validates field with {@link DoubleValidators#isGreaterThanZero(ValidationMessage)}
+     *
+     * @param message {@link ValidationMessage}
+     * @return This field builder
+     */
+    public DoubleField<T> isGreaterThanZero(ValidationMessage message) {
+      return validatedBy(DoubleValidators.isGreaterThanZero(message));
+    }
+
+    /**
+     * Validates field with {@link DoubleValidators#isGreaterThanOrEqualTo(double,
+     * ValidationMessage)}
+     *
+     * @param other Value to compare
+     * @param message {@link ValidationMessage}
+     * @return This field builder
+     */
+    public DoubleField<T> isGreaterThanOrEqualTo(double other, ValidationMessage message) {
+      return validatedBy(DoubleValidators.isGreaterThanOrEqualTo(other, message));
+    }
+
+    /**
+     * Validates field with {@link DoubleValidators#isGreaterThanOrEqualToZero(ValidationMessage)}
+     *
+     * @param message {@link ValidationMessage}
+     * @return This field builder
+     */
+    public DoubleField<T> isGreaterThanOrEqualToZero(ValidationMessage message) {
+      return validatedBy(DoubleValidators.isGreaterThanOrEqualToZero(message));
+    }
+
+    /**
+     * Validates field with {@link DoubleValidators#isBetween(double, double, ValidationMessage)}
+     *
+     * @param startValue Initial limit
+     * @param endValue Final limit
+     * @param message {@link ValidationMessage}
+     * @return This field builder
+     */
+    public DoubleField<T> isBetween(double startValue, double endValue, ValidationMessage message) {
+      return validatedBy(DoubleValidators.isBetween(startValue, endValue, message));
+    }
+
+    /**
+     * Validates field with {@link DoubleValidators#satisfies(DoublePredicate, ValidationMessage)}
+     *
+     * @param rule Rule to be satisfied by field value
+     * @param message {@link ValidationMessage}
+     * @return This field builder
+     */
+    public DoubleField<T> satisfies(DoublePredicate rule, ValidationMessage message) {
+      return validatedBy(DoubleValidators.satisfies(rule, message));
+    }
+
+    @Override
+    Validator<? super T> compile() {
+      if (validators.isEmpty()) {
+        return null;
+      }
+
+      DoubleValidator validator =
+          validators.size() == 1
+              ? validators.get(0)
+              : DoubleValidators.allOf(validators.toArray(new DoubleValidator[0]));
+      ToDoubleFunction<? super T> fieldAccessor = accessor;
+      return value -> validator.validate(fieldAccessor.applyAsDouble(value));
+    }
+  }
+}
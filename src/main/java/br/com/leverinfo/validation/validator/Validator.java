@@ -0,0 +1,58 @@
+package br.com.leverinfo.validation.validator;
+
+import br.com.leverinfo.validation.exception.ValidationException;
+import java.util.function.Predicate;
+
+/**
+ * Reusable validation of values of a type.
+ *
+ * <p>Validators capture a rule together with its {@link
+ * br.com.leverinfo.validation.ValidationMessage} and parameters once, and can be shared and called
+ * concurrently. Validators created by {@link Validators} are immutable, and composed validators
+ * keep their rules in a flat array instead of nesting them.
+ *
+ * @param <T> Value type
+ * @author franciscosousabr
+ */
+@FunctionalInterface
+public interface Validator<T> {
+
+  /**
+   * Validates value
+   *
+   * @param value Desired value
+   * @throws ValidationException If value is not valid
+   */
+  void validate(T value);
+
+  /**
+   * Composes a validator which validates value with this validator and then with other
+   *
+   * @param other Other validator
+   * @return Composed validator
+   */
+  default Validator<T> and(Validator<? super T> other) {
+    return Validators.allOf(this, other);
+  }
+
+  /**
+   * Composes a validator which accepts values accepted by this validator or by other
+   *
+   * @param other Other validator
+   * @return Composed validator
+   * @see Validators#anyOf(Validator[])
+   */
+  default Validator<T> or(Validator<? super T> other) {
+    return Validators.anyOf(this, other);
+  }
+
+  /**
+   * Composes a validator which validates only values which satisfy condition
+   *
+   * @param condition Condition to validate value
+   * @return Composed validator
+   */
+  default Validator<T> when(Predicate<? super T> condition) {
+    return Validators.when(condition, this);
+  }
+}
@@ -0,0 +1,420 @@
+package br.com.leverinfo.validation.validator;
+
+import br.com.leverinfo.validation.ArgumentValidations;
+import br.com.leverinfo.validation.ValidationMessage;
+import br.com.leverinfo.validation.exception.InvalidArgumentException;
+import br.com.leverinfo.validation.exception.RequiredArgumentException;
+import br.com.leverinfo.validation.exception.ValidationException;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Recommended to create {@link Validator} instances from argument validations.
+ *
+ * <p>Created validators throw the same exceptions, with the same params, as the corresponding
+ * {@link ArgumentValidations} methods.
+ *
+ * @author franciscosousabr
+ */
+public final class Validators {
+
+  /**
+   * Creates a validator which throws {@link InvalidArgumentException} if value is not null
+   *
+   * @param message {@link ValidationMessage}
+   * @param <T> Value type
+   * @return Created validator
+   */
+  public static <T> Validator<T> isNull(ValidationMessage message) {
+    return value -> ArgumentValidations.isNull(value, message);
+  }
+
+  /**
+   * Creates a validator which throws {@link RequiredArgumentException} if value is null
+   *
+   * @param message {@link ValidationMessage}
+   * @param <T> Value type
+   * @return Created validator
+   */
+  public static <T> Validator<T> isNotNull(ValidationMessage message) {
+    return new NotNullValidator<>(message);
+  }
+
+  /**
+   * Creates a validator which throws {@link RequiredArgumentException} if value is null, or {@link
+   * InvalidArgumentException} if value is empty
+   *
+   * @param message {@link ValidationMessage}
+   * @return Created validator
+   */
+  public static Validator<CharSequence> isNotBlank(ValidationMessage message) {
+    return CharSequenceCheck.isNotBlank(message);
+  }
+
+  /**
+   * Creates a validator which throws {@link InvalidArgumentException} if value is not equal to
+   * other value
+   *
+   * @param other Value to compare
+   * @param message {@link ValidationMessage}
+   * @param <T> Value type
+   * @return Created validator
+   */
+  public static <T> Validator<T> isEqualTo(T other, ValidationMessage message) {
+    return value -> ArgumentValidations.isEqualTo(value, other, message);
+  }
+
+  /**
+   * Creates a validator which throws {@link InvalidArgumentException} if value is equal to other
+   * value
+   *
+   * @param other Value to compare
+   * @param message {@link ValidationMessage}
+   * @param <T> Value type
+   * @return Created validator
+   */
+  public static <T> Validator<T> isNotEqualTo(T other, ValidationMessage message) {
+    return value -> ArgumentValidations.isNotEqualTo(value, other, message);
+  }
+
+  /**
+   * Creates a validator which throws {@link InvalidArgumentException} if value is greater than or
+   * equal to other value
+   *
+   * @param other Value to compare
+   * @param message {@link ValidationMessage}
+   * @param <T> Value type
+   * @return Created validator
+   */
+  public static <T extends Comparable<T>> Validator<T> isLessThan(
+      T other, ValidationMessage message) {
+    return value -> ArgumentValidations.isLessThan(value, other, message);
+  }
+
+  /**
+   * Creates a validator which throws {@link InvalidArgumentException} if value is greater than
+   * other value
+   *
+   * @param other Value to compare
+   * @param message {@link ValidationMessage}
+   * @param <T> Value type
+   * @return Created validator
+   */
+  public static <T extends Comparable<T>> Validator<T> isLessThanOrEqualTo(
+      T other, ValidationMessage message) {
+    return value -> ArgumentValidations.isLessThanOrEqualTo(value, other, message);
+  }
+
+  /**
+   * Creates a validator which throws {@link InvalidArgumentException} if value is less than or
+   * equal to other value
+   *
+   * @param other Value to compare
+   * @param message {@link ValidationMessage}
+   * @param <T> Value type
+   * @return Created validator
+   */
+  public static <T extends Comparable<T>> Validator<T> isGreaterThan(
+      T other, ValidationMessage message) {
+    return value -> ArgumentValidations.isGreaterThan(value, other, message);
+  }
+
+  /**
+   * Creates a validator which throws {@link InvalidArgumentException} if value is less than other
+   * value
+   *
+   * @param other Value to compare
+   * @param message {@link ValidationMessage}
+   * @param <T> Value type
+   * @return Created validator
+   */
+  public static <T extends Comparable<T>> Validator<T> isGreaterThanOrEqualTo(
+      T other, ValidationMessage message) {
+    return value -> ArgumentValidations.isGreaterThanOrEqualTo(value, other, message);
+  }
+
+  /**
+   * Creates a validator which throws {@link InvalidArgumentException} if value is not between
+   * limits
+   *
+   * @param startValue Initial limit
+   * @param endValue Final limit
+   * @param message {@link ValidationMessage}
+   * @param <T> Value type
+   * @return Created validator
+   */
+  public static <T extends Comparable<T>> Validator<T> isBetween(
+      T startValue, T endValue, ValidationMessage message) {
+    return value -> {
+      if (!(value.compareTo(startValue) >= 0 && value.compareTo(endValue) <= 0)) {
+        throw new InvalidArgumentException(message, value, startValue, endValue);
+      }
+    };
+  }
+
+  /**
+   * Creates a validator which throws {@link InvalidArgumentException} if value does not match with
+   * pattern. Pattern is compiled once, when validator is created
+   *
+   * @param pattern Regular expression
+   * @param message {@link ValidationMessage}
+   * @return Created validator
+   */
+  public static Validator<CharSequence> matchesPattern(String pattern, ValidationMessage message) {
+    return CharSequenceCheck.matchesPattern(pattern, message);
+  }
+
+  /**
+   * Creates a validator which throws {@link InvalidArgumentException} if value has not desired size
+   *
+   * @param size Size to validate
+   * @param message {@link ValidationMessage}
+   * @return Created validator
+   */
+  public static Validator<CharSequence> hasSize(int size, ValidationMessage message) {
+    return CharSequenceCheck.hasSize(size, message);
+  }
+
+  /**
+   * Creates a validator which throws {@link InvalidArgumentException} if value has not desired size
+   * range
+   *
+   * @param minSize Initial limit
+   * @param maxSize Final limit
+   * @param message {@link ValidationMessage}
+   * @return Created validator
+   */
+  public static Validator<CharSequence> hasSizeBetween(
+      int minSize, int maxSize, ValidationMessage message) {
+    return CharSequenceCheck.hasSizeBetween(minSize, maxSize, message);
+  }
+
+  /**
+   * Creates a validator which throws {@link InvalidArgumentException} if value is not of desired
+   * type
+   *
+   * @param type Desired type
+   * @param message {@link ValidationMessage}
+   * @param <T> Value type
+   * @return Created validator
+   */
+  public static <T> Validator<T> isInstanceOf(Class<?> type, ValidationMessage message) {
+    return value -> ArgumentValidations.isInstanceOf(value, type, message);
+  }
+
+  /**
+   * Creates a validator which throws {@link InvalidArgumentException} if value does not satisfy
+   * rule. Exception params contain the value
+   *
+   * @param rule Rule to be satisfied by value
+   * @param message {@link ValidationMessage}
+   * @param <T> Value type
+   * @return Created validator
+   */
+  public static <T> Validator<T> satisfies(Predicate<? super T> rule, ValidationMessage message) {
+    return value -> {
+      if (!rule.test(value)) {
+        throw new InvalidArgumentException(message, value);
+      }
+    };
+  }
+
+  /**
+   * Composes a validator which validates value with each validator, in order. Composed validators
+   * are flattened, so validators are called from a single array regardless of how they were
+   * composed.
+   *
+   * <p>Adjacent {@code isNotNull}, {@code isNotBlank}, {@code hasSize}, {@code hasSizeBetween} and
+   * {@code matchesPattern} validators of this class are fused into a single pass over the value,
+   * which checks it for null and reads its length once, throwing the same exceptions as the
+   * separate validators
+   *
+   * @param validators Validators to compose
+   * @param <T> Value type
+   * @return Composed validator
+   */
+  @SafeVarargs
+  public static <T> Validator<T> allOf(Validator<? super T>... validators) {
+    List<Validator<? super T>> flattened =
+        flatten(
+            validators,
+            AllOfValidator.class,
+            validator -> ((AllOfValidator<? super T>) validator).validators());
+    return new AllOfValidator<T>(toArray(fuse(flattened), Validator.class));
+  }
+
+  /**
+   * Composes a validator which validates value with each validator, running first the validators
+   * which are cheap and often fail. Cost and outcome of validators are sampled in some validations,
+   * and validators are periodically reordered by average cost divided by failure rate.
+   *
+   * <p>Validators wrapped by {@link #dependent(Validator)} always run right after the validator
+   * declared before them, so they can rely on it. When several validators fail, which exception is
+   * thrown depends on the current order, so validators must not depend on each other otherwise.
+   * Composed validators are not flattened, and keep their order
+   *
+   * @param validators Validators to compose
+   * @param <T> Value type
+   * @return Composed validator
+   */
+  @SafeVarargs
+  public static <T> Validator<T> adaptiveAllOf(Validator<? super T>... validators) {
+    return new AdaptiveAllOfValidator<>(
+        validators.clone(),
+        AdaptiveAllOfValidator.DEFAULT_SAMPLE_INTERVAL,
+        AdaptiveAllOfValidator.DEFAULT_REORDER_INTERVAL);
+  }
+
+  /**
+   * Marks a validator as dependent on the validator declared before it, so {@link
+   * #adaptiveAllOf(Validator[])} never runs it first. In other compositions, the returned validator
+   * behaves like the given one
+   *
+   * @param validator Dependent validator
+   * @param <T> Value type
+   * @return Marked validator
+   */
+  public static <T> Validator<T> dependent(Validator<? super T> validator) {
+    return new DependentValidator<>(validator);
+  }
+
+  /**
+   * Composes a validator which accepts value once some validator accepts it, in order. If no
+   * validator accepts value, the exception of the first one is thrown, with exceptions of the
+   * others as suppressed. Composed validators are flattened, like in {@link #allOf(Validator[])}
+   *
+   * @param validators Validators to compose
+   * @param <T> Value type
+   * @return Composed validator
+   * @throws IllegalArgumentException If no validator is given
+   */
+  @SafeVarargs
+  public static <T> Validator<T> anyOf(Validator<? super T>... validators) {
+    requireAny(validators);
+    List<Validator<? super T>> flattened =
+        flatten(
+            validators,
+            AnyOfValidator.class,
+            validator -> ((AnyOfValidator<? super T>) validator).validators());
+    return new AnyOfValidator<T>(toArray(flattened, Validator.class));
+  }
+
+  /**
+   * Composes a validator which validates only values which satisfy condition
+   *
+   * @param condition Condition to validate value
+   * @param validator Validator to be applied
+   * @param <T> Value type
+   * @return Composed validator
+   */
+  public static <T> Validator<T> when(
+      Predicate<? super T> condition, Validator<? super T> validator) {
+    return new ConditionalValidator<>(condition, validator);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> List<Validator<? super T>> fuse(List<Validator<? super T>> validators) {
+    List<Validator<? super T>> fused = new ArrayList<>(validators.size());
+    int start = 0;
+    while (start < validators.size()) {
+      int end = start;
+      int checks = 0;
+      while (end < validators.size()
+          && (validators.get(end) instanceof CharSequenceCheck
+              || validators.get(end) instanceof NotNullValidator)) {
+        if (validators.get(end) instanceof CharSequenceCheck) {
+          checks++;
+        }
+        end++;
+      }
+
+      if (checks == 0 || end - start < 2) {
+        fused.add(validators.get(start));
+        start++;
+        continue;
+      }
+
+      List<Validator<? super CharSequence>> run = new ArrayList<>(end - start);
+      List<CharSequenceCheck> runChecks = new ArrayList<>(checks);
+      for (Validator<? super T> validator : validators.subList(start, end)) {
+        run.add((Validator<? super CharSequence>) validator);
+        if (validator instanceof CharSequenceCheck) {
+          runChecks.add((CharSequenceCheck) validator);
+        }
+      }
+      fused.add(
+          (Validator<? super T>)
+              new FusedCharSequenceValidator(
+                  toArray(run, Validator.class), runChecks.toArray(new CharSequenceCheck[0])));
+      start = end;
+    }
+    return fused;
+  }
+
+  /**
+   * Flattens validators of any type, replacing the composed ones by the validators they compose, as
+   * done by {@code allOf} and {@code anyOf} of this class, {@link IntValidators}, {@link
+   * LongValidators} and {@link DoubleValidators}
+   *
+   * @param validators Validators to flatten
+   * @param compositeType Type of composed validators to be replaced
+   * @param nested Validators composed by a validator of composite type
+   */
+  static <V> List<V> flatten(V[] validators, Class<?> compositeType, Function<V, V[]> nested) {
+    List<V> flattened = new ArrayList<>(validators.length);
+    for (V validator : validators) {
+      if (compositeType.isInstance(validator)) {
+        Collections.addAll(flattened, nested.apply(validator));
+      } else {
+        flattened.add(validator);
+      }
+    }
+    return flattened;
+  }
+
+  /**
+   * Checks that some alternative validator is given to {@code anyOf}
+   *
+   * @param validators Alternative validators
+   * @throws IllegalArgumentException If no validator is given
+   */
+  static void requireAny(Object[] validators) {
+    if (validators.length == 0) {
+      throw new IllegalArgumentException("At least one validator is required");
+    }
+  }
+
+  /**
+   * Records that an alternative validator of {@code anyOf} rejected the value
+   *
+   * @param first Exception of the first rejecting validator, or null
+   * @param failure Exception of the rejecting validator
+   * @return Exception to be thrown if no validator accepts the value, with the others as suppressed
+   */
+  static ValidationException rejected(ValidationException first, ValidationException failure) {
+    if (first == null) {
+      return failure;
+    }
+    first.addSuppressed(failure);
+    return first;
+  }
+
+  /**
+   * Copies elements into an array of generic component type, like {@code Validator<? super T>[]},
+   * which can only be created from its raw class
+   *
+   * @param elements Elements to be copied
+   * @param componentType Raw class of elements type
+   */
+  @SuppressWarnings("unchecked")
+  static <E> E[] toArray(Collection<E> elements, Class<?> componentType) {
+    return elements.toArray((E[]) Array.newInstance(componentType, elements.size()));
+  }
+
+  private Validators() {}
+}
@@ -0,0 +1,75 @@
+package br.com.leverinfo.validation;
+
+/**
+ * Bulk column checks used by {@link ColumnValidations}.
+ *
+ * <p>Checks run on {@link VectorColumnKernels} when module {@code jdk.incubator.vector} is in the
+ * boot layer (for instance, with {@code --add-modules jdk.incubator.vector}) and system property
+ * {@code br.com.leverinfo.validation.vectorize} is not {@code false}. Otherwise, they run on {@link
+ * ScalarColumnKernels}.
+ *
+ * @author franciscosousabr
+ */
+final class ColumnKernels {
+
+  static final boolean VECTORIZED =
+      ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()
+          && Boolean.parseBoolean(
+              System.getProperty("br.com.leverinfo.validation.vectorize", "true"));
+
+  static void outsideRange(int[] values, int startValue, int endValue, long[] words) {
+    if (VECTORIZED) {
+      VectorColumnKernels.outsideRange(values, startValue, endValue, words);
+    } else {
+      ScalarColumnKernels.outsideRange(values, 0, startValue, endValue, words);
+    }
+  }
+
+  static void outsideRange(long[] values, long startValue, long endValue, long[] words) {
+    if (VECTORIZED) {
+      VectorColumnKernels.outsideRange(values, startValue, endValue, words);
+    } else {
+      ScalarColumnKernels.outsideRange(values, 0, startValue, endValue, words);
+    }
+  }
+
+  static void outsideRange(double[] values, double startValue, double endValue, long[] words) {
+    if (VECTORIZED) {
+      VectorColumnKernels.outsideRange(values, startValue, endValue, words);
+    } else {
+      ScalarColumnKernels.outsideRange(values, 0, startValue, endValue, words);
+    }
+  }
+
+  static void notPositive(int[] values, long[] words) {
+    if (VECTORIZED) {
+      VectorColumnKernels.notPositive(values, words);
+    } else {
+      ScalarColumnKernels.notPositive(values, 0, words);
+    }
+  }
+
+  static void notPositive(long[] values, long[] words) {
+    if (VECTORIZED) {
+      VectorColumnKernels.notPositive(values, words);
+    } else {
+      ScalarColumnKernels.notPositive(values, 0, words);
+    }
+  }
+
+  static void notPositive(double[] values, long[] words) {
+    if (VECTORIZED) {
+      VectorColumnKernels.notPositive(values, words);
+    } else {
+      ScalarColumnKernels.notPositive(values, 0, words);
+    }
+  }
+
+  static boolean isAsciiDigits(CharSequence value, char[] buffer) {
+    return VECTORIZED
+        ? VectorColumnKernels.isAsciiDigits(value, buffer)
+        : ScalarColumnKernels.isAsciiDigits(value, 0);
+  }
+
+  private ColumnKernels() {}
+}
@@ -0,0 +1,119 @@
+package br.com.leverinfo.validation;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API implementation of bulk column checks.
+ *
+ * <p>Loops compare a whole vector of rows at once and OR the resulting lane mask into words.
+ * Preferred species have a power of two number of lanes up to 64, so lanes of a vector never span
+ * two words. Rows left over after the last full vector are checked by {@link ScalarColumnKernels}.
+ *
+ * @author franciscosousabr
+ */
+final class VectorColumnKernels {
+
+  private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+  private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+  private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+  private static final VectorSpecies<Short> SHORTS = ShortVector.SPECIES_PREFERRED;
+
+  static void outsideRange(int[] values, int startValue, int endValue, long[] words) {
+    int i = 0;
+    for (int bound = INTS.loopBound(values.length); i < bound; i += INTS.length()) {
+      IntVector vector = IntVector.fromArray(INTS, values, i);
+      VectorMask<Integer> invalid =
+          vector
+              .compare(VectorOperators.LT, startValue)
+              .or(vector.compare(VectorOperators.GT, endValue));
+      words[i >>> 6] |= invalid.toLong() << i;
+    }
+    ScalarColumnKernels.outsideRange(values, i, startValue, endValue, words);
+  }
+
+  static void outsideRange(long[] values, long startValue, long endValue, long[] words) {
+    int i = 0;
+    for (int bound = LONGS.loopBound(values.length); i < bound; i += LONGS.length()) {
+      LongVector vector = LongVector.fromArray(LONGS, values, i);
+      VectorMask<Long> invalid =
+          vector
+              .compare(VectorOperators.LT, startValue)
+              .or(vector.compare(VectorOperators.GT, endValue));
+      words[i >>> 6] |= invalid.toLong() << i;
+    }
+    ScalarColumnKernels.outsideRange(values, i, startValue, endValue, words);
+  }
+
+  static void outsideRange(double[] values, double startValue, double endValue, long[] words) {
+    int i = 0;
+    for (int bound = DOUBLES.loopBound(values.length); i < bound; i += DOUBLES.length()) {
+      DoubleVector vector = DoubleVector.fromArray(DOUBLES, values, i);
+      VectorMask<Double> valid =
+          vector
+              .compare(VectorOperators.GE, startValue)
+              .and(vector.compare(VectorOperators.LE, endValue));
+      words[i >>> 6] |= valid.not().toLong() << i;
+    }
+    ScalarColumnKernels.outsideRange(values, i, startValue, endValue, words);
+  }
+
+  static void notPositive(int[] values, long[] words) {
+    int i = 0;
+    for (int bound = INTS.loopBound(values.length); i < bound; i += INTS.length()) {
+      IntVector vector = IntVector.fromArray(INTS, values, i);
+      words[i >>> 6] |= vector.compare(VectorOperators.LE, 0).toLong() << i;
+    }
+    ScalarColumnKernels.notPositive(values, i, words);
+  }
+
+  static void notPositive(long[] values, long[] words) {
+    int i = 0;
+    for (int bound = LONGS.loopBound(values.length); i < bound; i += LONGS.length()) {
+      LongVector vector = LongVector.fromArray(LONGS, values, i);
+      words[i >>> 6] |= vector.compare(VectorOperators.LE, 0).toLong() << i;
+    }
+    ScalarColumnKernels.notPositive(values, i, words);
+  }
+
+  static void notPositive(double[] values, long[] words) {
+    int i = 0;
+    for (int bound = DOUBLES.loopBound(values.length); i < bound; i += DOUBLES.length()) {
+      DoubleVector vector = DoubleVector.fromArray(DOUBLES, values, i);
+      words[i >>> 6] |= vector.compare(VectorOperators.LE, 0).toLong() << i;
+    }
+    ScalarColumnKernels.notPositive(values, i, words);
+  }
+
+  /**
+   * Checks if value has only ASCII digits. Strings of at least two vectors are copied into buffer
+   * and checked a vector of characters at once, since copying outweighs the vector check of shorter
+   * strings. Characters from U+8000 on are negative shorts, so they fail the lower limit.
+   */
+  static boolean isAsciiDigits(CharSequence value, char[] buffer) {
+    int length = value.length();
+    if (!(value instanceof String) || length < 2 * SHORTS.length()) {
+      return ScalarColumnKernels.isAsciiDigits(value, 0);
+    }
+
+    ((String) value).getChars(0, length, buffer, 0);
+    int i = 0;
+    for (int bound = SHORTS.loopBound(length); i < bound; i += SHORTS.length()) {
+      ShortVector vector = ShortVector.fromCharArray(SHORTS, buffer, i);
+      if (vector
+          .compare(VectorOperators.LT, (short) '0')
+          .or(vector.compare(VectorOperators.GT, (short) '9'))
+          .anyTrue()) {
+        return false;
+      }
+    }
+    return ScalarColumnKernels.isAsciiDigits(value, i);
+  }
+
+  private VectorColumnKernels() {}
+}
@@ -4,10 +4,19 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.catchThrowableOfType;
 
+import br.com.leverinfo.validation.exception.DuplicatedException;
 import br.com.leverinfo.validation.exception.InvalidArgumentException;
 import br.com.leverinfo.validation.exception.RequiredArgumentException;
+import br.com.leverinfo.validation.lookup.CharSequenceSet;
+import br.com.leverinfo.validation.lookup.CompactStringSet;
+import br.com.leverinfo.validation.lookup.IpRangeSet;
+import br.com.leverinfo.validation.lookup.LongSet;
+import br.com.leverinfo.validation.lookup.RecentlySeenSet;
+import br.com.leverinfo.validation.lookup.TermMatcher;
 import java.math.BigDecimal;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 
 class ArgumentValidationsTest {
@@ -252,6 +261,454 @@ class ArgumentValidationsTest {
         .isEqualTo(Validations.ANY_VALIDATION);
   }
 
+  @Test
+  void testAnyIsNotNull_Array_Success() {
+    Object[] values = {null, new Object()};
+
+    assertThatCode(() -> ArgumentValidations.anyIsNotNull(values, Validations.ANY_VALIDATION))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testAnyIsNotNull_Array_Error() {
+    Object[] nullValues = {null, null};
+
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(
+            () -> ArgumentValidations.anyIsNotNull(nullValues, Validations.ANY_VALIDATION),
+            InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getValidationMessage())
+        .isEqualTo(Validations.ANY_VALIDATION);
+  }
+
+  @Test
+  void testAllAreNotNull_Iterable_Success() {
+    List<Object> values = new LinkedList<>(Arrays.asList("a", "b"));
+
+    assertThatCode(() -> ArgumentValidations.allAreNotNull(values, Validations.ANY_VALIDATION))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testAllAreNotNull_Iterable_Error() {
+    List<Object> nullValues = new LinkedList<>(Arrays.asList("a", null, null));
+
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(
+            () -> ArgumentValidations.allAreNotNull(nullValues, Validations.ANY_VALIDATION),
+            InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getValidationMessage())
+        .isEqualTo(Validations.ANY_VALIDATION);
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {1});
+  }
+
+  @Test
+  void testAllAreNotNull_Array_Success() {
+    Object[] values = {"a", "b"};
+
+    assertThatCode(() -> ArgumentValidations.allAreNotNull(values, Validations.ANY_VALIDATION))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testAllAreNotNull_Array_Error() {
+    Object[] nullValues = {"a", "b", null};
+
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(
+            () -> ArgumentValidations.allAreNotNull(nullValues, Validations.ANY_VALIDATION),
+            InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getValidationMessage())
+        .isEqualTo(Validations.ANY_VALIDATION);
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {2});
+  }
+
+  @Test
+  void testOnlyOneIsNotNull_Array_Success() {
+    Object[] values = {null, "a", null};
+
+    assertThatCode(() -> ArgumentValidations.onlyOneIsNotNull(values, Validations.ANY_VALIDATION))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testOnlyOneIsNotNull_Array_Error() {
+    Object[] notNullValues = {"a", "b", null};
+
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(
+            () -> ArgumentValidations.onlyOneIsNotNull(notNullValues, Validations.ANY_VALIDATION),
+            InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getValidationMessage())
+        .isEqualTo(Validations.ANY_VALIDATION);
+  }
+
+  @Test
+  void testAtLeastNAreNotNull_Iterable_Success() {
+    List<Object> values = Arrays.asList("a", null, "b");
+
+    assertThatCode(
+            () -> ArgumentValidations.atLeastNAreNotNull(values, 2, Validations.ANY_VALIDATION))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testAtLeastNAreNotNull_Iterable_Error() {
+    List<Object> values = Arrays.asList("a", null, "b");
+
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(
+            () -> ArgumentValidations.atLeastNAreNotNull(values, 3, Validations.ANY_VALIDATION),
+            InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getValidationMessage())
+        .isEqualTo(Validations.ANY_VALIDATION);
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {3});
+  }
+
+  @Test
+  void testAtLeastNAreNotNull_Array_Success() {
+    Object[] values = {"a", null, "b"};
+
+    assertThatCode(
+            () -> ArgumentValidations.atLeastNAreNotNull(values, 2, Validations.ANY_VALIDATION))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testAtLeastNAreNotNull_Array_Error() {
+    Object[] values = {"a", null, "b"};
+
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(
+            () -> ArgumentValidations.atLeastNAreNotNull(values, 3, Validations.ANY_VALIDATION),
+            InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getValidationMessage())
+        .isEqualTo(Validations.ANY_VALIDATION);
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {3});
+  }
+
+  @Test
+  void testAtMostNAreNotNull_Iterable_Success() {
+    List<Object> values = new LinkedList<>(Arrays.asList("a", null, "b"));
+
+    assertThatCode(
+            () -> ArgumentValidations.atMostNAreNotNull(values, 2, Validations.ANY_VALIDATION))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testAtMostNAreNotNull_Iterable_Error() {
+    List<Object> values = new LinkedList<>(Arrays.asList("a", null, "b"));
+
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(
+            () -> ArgumentValidations.atMostNAreNotNull(values, 1, Validations.ANY_VALIDATION),
+            InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getValidationMessage())
+        .isEqualTo(Validations.ANY_VALIDATION);
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {1});
+  }
+
+  @Test
+  void testAtMostNAreNotNull_Array_Success() {
+    Object[] values = {"a", null, "b"};
+
+    assertThatCode(
+            () -> ArgumentValidations.atMostNAreNotNull(values, 2, Validations.ANY_VALIDATION))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testAtMostNAreNotNull_Array_Error() {
+    Object[] values = {"a", null, "b"};
+
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(
+            () -> ArgumentValidations.atMostNAreNotNull(values, 1, Validations.ANY_VALIDATION),
+            InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getValidationMessage())
+        .isEqualTo(Validations.ANY_VALIDATION);
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {1});
+  }
+
+  @Test
+  void testExactlyNAreNotNull_Iterable_Success() {
+    List<Object> values = Arrays.asList("a", null, "b");
+
+    assertThatCode(
+            () -> ArgumentValidations.exactlyNAreNotNull(values, 2, Validations.ANY_VALIDATION))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testExactlyNAreNotNull_Iterable_Error() {
+    List<Object> values = Arrays.asList("a", null, "b");
+
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(
+            () -> ArgumentValidations.exactlyNAreNotNull(values, 3, Validations.ANY_VALIDATION),
+            InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getValidationMessage())
+        .isEqualTo(Validations.ANY_VALIDATION);
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {3});
+  }
+
+  @Test
+  void testExactlyNAreNotNull_Array_Success() {
+    Object[] values = {"a", null, "b"};
+
+    assertThatCode(
+            () -> ArgumentValidations.exactlyNAreNotNull(values, 2, Validations.ANY_VALIDATION))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testExactlyNAreNotNull_Array_Error() {
+    Object[] values = {"a", null, "b"};
+
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(
+            () -> ArgumentValidations.exactlyNAreNotNull(values, 1, Validations.ANY_VALIDATION),
+            InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getValidationMessage())
+        .isEqualTo(Validations.ANY_VALIDATION);
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {1});
+  }
+
+  @Test
+  void testAnyIsNotBlank_Array_Success() {
+    CharSequence[] values = {null, " ", "a"};
+
+    assertThatCode(() -> ArgumentValidations.anyIsNotBlank(values, Validations.ANY_VALIDATION))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testAnyIsNotBlank_Array_Error() {
+    CharSequence[] blankValues = {null, " ", ""};
+
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(
+            () -> ArgumentValidations.anyIsNotBlank(blankValues, Validations.ANY_VALIDATION),
+            InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getValidationMessage())
+        .isEqualTo(Validations.ANY_VALIDATION);
+  }
+
+  @Test
+  void testAllAreNotBlank_Iterable_Success() {
+    List<String> values = new LinkedList<>(Arrays.asList("a", "b"));
+
+    assertThatCode(() -> ArgumentValidations.allAreNotBlank(values, Validations.ANY_VALIDATION))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testAllAreNotBlank_Iterable_Error() {
+    List<String> blankValues = new LinkedList<>(Arrays.asList("a", " ", null));
+
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(
+            () -> ArgumentValidations.allAreNotBlank(blankValues, Validations.ANY_VALIDATION),
+            InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getValidationMessage())
+        .isEqualTo(Validations.ANY_VALIDATION);
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {1});
+  }
+
+  @Test
+  void testAllAreNotBlank_Array_Success() {
+    CharSequence[] values = {"a", "b"};
+
+    assertThatCode(() -> ArgumentValidations.allAreNotBlank(values, Validations.ANY_VALIDATION))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testAllAreNotBlank_Array_Error() {
+    CharSequence[] blankValues = {"a", "b", null};
+
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(
+            () -> ArgumentValidations.allAreNotBlank(blankValues, Validations.ANY_VALIDATION),
+            InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getValidationMessage())
+        .isEqualTo(Validations.ANY_VALIDATION);
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {2});
+  }
+
+  @Test
+  void testOnlyOneIsNotBlank_Array_Success() {
+    CharSequence[] values = {null, "a", " "};
+
+    assertThatCode(() -> ArgumentValidations.onlyOneIsNotBlank(values, Validations.ANY_VALIDATION))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testOnlyOneIsNotBlank_Array_Error() {
+    CharSequence[] notBlankValues = {"a", "b", " "};
+
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(
+            () -> ArgumentValidations.onlyOneIsNotBlank(notBlankValues, Validations.ANY_VALIDATION),
+            InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getValidationMessage())
+        .isEqualTo(Validations.ANY_VALIDATION);
+  }
+
+  @Test
+  void testAtLeastNAreNotBlank_Iterable_Success() {
+    List<String> values = Arrays.asList("a", " ", "b");
+
+    assertThatCode(
+            () -> ArgumentValidations.atLeastNAreNotBlank(values, 2, Validations.ANY_VALIDATION))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testAtLeastNAreNotBlank_Iterable_Error() {
+    List<String> values = Arrays.asList("a", " ", "b");
+
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(
+            () -> ArgumentValidations.atLeastNAreNotBlank(values, 3, Validations.ANY_VALIDATION),
+            InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getValidationMessage())
+        .isEqualTo(Validations.ANY_VALIDATION);
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {3});
+  }
+
+  @Test
+  void testAtLeastNAreNotBlank_Array_Success() {
+    CharSequence[] values = {"a", " ", "b"};
+
+    assertThatCode(
+            () -> ArgumentValidations.atLeastNAreNotBlank(values, 2, Validations.ANY_VALIDATION))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testAtLeastNAreNotBlank_Array_Error() {
+    CharSequence[] values = {"a", " ", "b"};
+
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(
+            () -> ArgumentValidations.atLeastNAreNotBlank(values, 3, Validations.ANY_VALIDATION),
+            InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getValidationMessage())
+        .isEqualTo(Validations.ANY_VALIDATION);
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {3});
+  }
+
+  @Test
+  void testAtMostNAreNotBlank_Iterable_Success() {
+    List<String> values = new LinkedList<>(Arrays.asList("a", null, "b"));
+
+    assertThatCode(
+            () -> ArgumentValidations.atMostNAreNotBlank(values, 2, Validations.ANY_VALIDATION))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testAtMostNAreNotBlank_Iterable_Error() {
+    List<String> values = new LinkedList<>(Arrays.asList("a", null, "b"));
+
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(
+            () -> ArgumentValidations.atMostNAreNotBlank(values, 1, Validations.ANY_VALIDATION),
+            InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getValidationMessage())
+        .isEqualTo(Validations.ANY_VALIDATION);
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {1});
+  }
+
+  @Test
+  void testAtMostNAreNotBlank_Array_Success() {
+    CharSequence[] values = {"a", "", "b"};
+
+    assertThatCode(
+            () -> ArgumentValidations.atMostNAreNotBlank(values, 2, Validations.ANY_VALIDATION))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testAtMostNAreNotBlank_Array_Error() {
+    CharSequence[] values = {"a", "", "b"};
+
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(
+            () -> ArgumentValidations.atMostNAreNotBlank(values, 1, Validations.ANY_VALIDATION),
+            InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getValidationMessage())
+        .isEqualTo(Validations.ANY_VALIDATION);
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {1});
+  }
+
+  @Test
+  void testExactlyNAreNotBlank_Iterable_Success() {
+    List<String> values = Arrays.asList("a", " ", "b");
+
+    assertThatCode(
+            () -> ArgumentValidations.exactlyNAreNotBlank(values, 2, Validations.ANY_VALIDATION))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testExactlyNAreNotBlank_Iterable_Error() {
+    List<String> values = Arrays.asList("a", " ", "b");
+
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(
+            () -> ArgumentValidations.exactlyNAreNotBlank(values, 3, Validations.ANY_VALIDATION),
+            InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getValidationMessage())
+        .isEqualTo(Validations.ANY_VALIDATION);
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {3});
+  }
+
+  @Test
+  void testExactlyNAreNotBlank_Array_Success() {
+    CharSequence[] values = {"a", " ", "b"};
+
+    assertThatCode(
+            () -> ArgumentValidations.exactlyNAreNotBlank(values, 2, Validations.ANY_VALIDATION))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testExactlyNAreNotBlank_Array_Error() {
+    CharSequence[] values = {"a", " ", "b"};
+
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(
+            () -> ArgumentValidations.exactlyNAreNotBlank(values, 1, Validations.ANY_VALIDATION),
+            InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getValidationMessage())
+        .isEqualTo(Validations.ANY_VALIDATION);
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {1});
+  }
+
   @Test
   void testIsEmpty_Map_Success() {
     assertThatCode(() -> ArgumentValidations.isEmpty(new HashMap<>(), Validations.ANY_VALIDATION))
@@ -2488,6 +2945,240 @@ class ArgumentValidationsTest {
     assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {"Any string"});
   }
 
+  @Test
+  void testContains_LongSet_Success() {
+    LongSet set = value -> value == 10L;
+
+    assertThatCode(() -> ArgumentValidations.contains(10L, set, Validations.ANY_VALIDATION))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testContains_LongSet_Error() {
+    LongSet set = value -> value == 10L;
+
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(
+            () -> ArgumentValidations.contains(20L, set, Validations.ANY_VALIDATION),
+            InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getValidationMessage())
+        .isEqualTo(Validations.ANY_VALIDATION);
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {20L});
+  }
+
+  @Test
+  void testDoesNotContain_LongSet_Success() {
+    LongSet set = value -> value == 10L;
+
+    assertThatCode(() -> ArgumentValidations.doesNotContain(20L, set, Validations.ANY_VALIDATION))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testDoesNotContain_LongSet_Error() {
+    LongSet set = value -> value == 10L;
+
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(
+            () -> ArgumentValidations.doesNotContain(10L, set, Validations.ANY_VALIDATION),
+            InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getValidationMessage())
+        .isEqualTo(Validations.ANY_VALIDATION);
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {10L});
+  }
+
+  @Test
+  void testContains_CharSequenceSet_Success() {
+    CharSequenceSet set = CompactStringSet.of(Arrays.asList("SP", "RJ"));
+
+    assertThatCode(
+            () ->
+                ArgumentValidations.contains(
+                    new StringBuilder("SP"), set, Validations.ANY_VALIDATION))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testContains_CharSequenceSet_Error() {
+    CharSequenceSet set = CompactStringSet.of(Arrays.asList("SP", "RJ"));
+
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(
+            () -> ArgumentValidations.contains("MG", set, Validations.ANY_VALIDATION),
+            InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getValidationMessage())
+        .isEqualTo(Validations.ANY_VALIDATION);
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {"MG"});
+  }
+
+  @Test
+  void testDoesNotContain_CharSequenceSet_Success() {
+    CharSequenceSet set = CompactStringSet.of(Arrays.asList("123456", "password"));
+
+    assertThatCode(
+            () -> ArgumentValidations.doesNotContain("s3cr3t!", set, Validations.ANY_VALIDATION))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testDoesNotContain_CharSequenceSet_Error() {
+    CharSequenceSet set = CompactStringSet.of(Arrays.asList("123456", "password"));
+
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(
+            () -> ArgumentValidations.doesNotContain("password", set, Validations.ANY_VALIDATION),
+            InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getValidationMessage())
+        .isEqualTo(Validations.ANY_VALIDATION);
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {"password"});
+  }
+
+  @Test
+  void testStartsWithAny_Success() {
+    CompactStringSet prefixes = CompactStringSet.of(Arrays.asList("5511", "5521", "55119"));
+
+    assertThatCode(
+            () ->
+                ArgumentValidations.startsWithAny(
+                    "5511987654321", prefixes, Validations.ANY_VALIDATION))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testStartsWithAny_Error() {
+    CompactStringSet prefixes = CompactStringSet.of(Arrays.asList("5511", "5521", "55119"));
+
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(
+            () ->
+                ArgumentValidations.startsWithAny(
+                    "5531987654321", prefixes, Validations.ANY_VALIDATION),
+            InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getValidationMessage())
+        .isEqualTo(Validations.ANY_VALIDATION);
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {"5531987654321"});
+  }
+
+  @Test
+  void testContainsNoneOf_Success() {
+    TermMatcher terms = TermMatcher.of(Arrays.asList("spam", "scam"), true);
+
+    assertThatCode(
+            () ->
+                ArgumentValidations.containsNoneOf(
+                    "Any comment", terms, Validations.ANY_VALIDATION))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testContainsNoneOf_Error() {
+    TermMatcher terms = TermMatcher.of(Arrays.asList("spam", "scam"), true);
+
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(
+            () ->
+                ArgumentValidations.containsNoneOf(
+                    "Not a SCAM", terms, Validations.ANY_VALIDATION),
+            InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getValidationMessage())
+        .isEqualTo(Validations.ANY_VALIDATION);
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {"Not a SCAM", "scam"});
+  }
+
+  @Test
+  void testIsInIpRanges_Success() {
+    IpRangeSet ranges = IpRangeSet.of(Arrays.asList("10.0.0.0/8", "2001:db8::/32"));
+
+    assertThatCode(
+            () -> ArgumentValidations.isInIpRanges("10.1.2.3", ranges, Validations.ANY_VALIDATION))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testIsInIpRanges_Error() {
+    IpRangeSet ranges = IpRangeSet.of(Arrays.asList("10.0.0.0/8", "2001:db8::/32"));
+
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(
+            () ->
+                ArgumentValidations.isInIpRanges("2001:db9::1", ranges, Validations.ANY_VALIDATION),
+            InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getValidationMessage())
+        .isEqualTo(Validations.ANY_VALIDATION);
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {"2001:db9::1"});
+  }
+
+  @Test
+  void testIsNotInIpRanges_Success() {
+    IpRangeSet ranges = IpRangeSet.of(Arrays.asList("10.0.0.0/8", "2001:db8::/32"));
+
+    assertThatCode(
+            () ->
+                ArgumentValidations.isNotInIpRanges("11.1.2.3", ranges, Validations.ANY_VALIDATION))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testIsNotInIpRanges_Error() {
+    IpRangeSet ranges = IpRangeSet.of(Arrays.asList("10.0.0.0/8", "2001:db8::/32"));
+
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(
+            () ->
+                ArgumentValidations.isNotInIpRanges("10.1.2.3", ranges, Validations.ANY_VALIDATION),
+            InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getValidationMessage())
+        .isEqualTo(Validations.ANY_VALIDATION);
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {"10.1.2.3"});
+
+    invalidArgumentException =
+        catchThrowableOfType(
+            () ->
+                ArgumentValidations.isNotInIpRanges(
+                    "not an address", ranges, Validations.ANY_VALIDATION),
+            InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {"not an address"});
+  }
+
+  @Test
+  void testIsNotRecentlySeen_Success() {
+    RecentlySeenSet<String> recentlySeen = RecentlySeenSet.create(1, TimeUnit.MINUTES, 1000);
+
+    assertThatCode(
+            () -> {
+              ArgumentValidations.isNotRecentlySeen(
+                  "Any key", recentlySeen, Validations.ANY_VALIDATION);
+              ArgumentValidations.isNotRecentlySeen(
+                  "Another key", recentlySeen, Validations.ANY_VALIDATION);
+            })
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testIsNotRecentlySeen_Error() {
+    RecentlySeenSet<String> recentlySeen = RecentlySeenSet.create(1, TimeUnit.MINUTES, 1000);
+    ArgumentValidations.isNotRecentlySeen("Any key", recentlySeen, Validations.ANY_VALIDATION);
+
+    DuplicatedException duplicatedException =
+        catchThrowableOfType(
+            () ->
+                ArgumentValidations.isNotRecentlySeen(
+                    "Any key", recentlySeen, Validations.ANY_VALIDATION),
+            DuplicatedException.class);
+
+    assertThat(duplicatedException.getValidationMessage()).isEqualTo(Validations.ANY_VALIDATION);
+    assertThat(duplicatedException.getParams()).isEqualTo(new Object[] {"Any key"});
+  }
+
   @Test
   void testHasSize_CharSequence_Success() {
     assertThatCode(() -> ArgumentValidations.hasSize("Any string", 10, Validations.ANY_VALIDATION))
@@ -2554,6 +3245,79 @@ class ArgumentValidationsTest {
     assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {2});
   }
 
+  @Test
+  void testHasSize_Iterable_Success() {
+    Iterable<String> iterable = () -> Arrays.asList("Any string", "Another string").iterator();
+
+    assertThatCode(() -> ArgumentValidations.hasSize(iterable, 2, Validations.ANY_VALIDATION))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testHasSize_Iterable_Error() {
+    Iterable<String> iterable = () -> Arrays.asList("Any string", "Another string").iterator();
+
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(
+            () -> ArgumentValidations.hasSize(iterable, 1, Validations.ANY_VALIDATION),
+            InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getValidationMessage())
+        .isEqualTo(Validations.ANY_VALIDATION);
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {1});
+  }
+
+  @Test
+  void testHasSize_Iterator_Success() {
+    Iterator<String> iterator = Arrays.asList("Any string", "Another string").iterator();
+
+    assertThatCode(() -> ArgumentValidations.hasSize(iterator, 2, Validations.ANY_VALIDATION))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testHasSize_Iterator_Error() {
+    Iterator<Integer> iterator = Stream.iterate(0, i -> i + 1).iterator();
+
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(
+            () -> ArgumentValidations.hasSize(iterator, 3, Validations.ANY_VALIDATION),
+            InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getValidationMessage())
+        .isEqualTo(Validations.ANY_VALIDATION);
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {3});
+    assertThat(iterator.next()).isEqualTo(4);
+  }
+
+  @Test
+  void testHasSize_Stream_Success() {
+    assertThatCode(
+            () ->
+                ArgumentValidations.hasSize(
+                    Stream.of("Any string", "Another string"), 2, Validations.ANY_VALIDATION))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testHasSize_Stream_Error() {
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(
+            () ->
+                ArgumentValidations.hasSize(
+                    Stream.iterate(0, i -> i + 1), 3, Validations.ANY_VALIDATION),
+            InvalidArgumentException.class);
+    InvalidArgumentException negativeSizeException =
+        catchThrowableOfType(
+            () -> ArgumentValidations.hasSize(Stream.of(1), -2, Validations.ANY_VALIDATION),
+            InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getValidationMessage())
+        .isEqualTo(Validations.ANY_VALIDATION);
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {3});
+    assertThat(negativeSizeException.getParams()).isEqualTo(new Object[] {-2});
+  }
+
   @Test
   void testHasSizeBetween_CharSequence_Success() {
     assertThatCode(
@@ -2623,6 +3387,83 @@ class ArgumentValidationsTest {
     assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {2, 3});
   }
 
+  @Test
+  void testHasSizeBetween_Iterable_Success() {
+    Iterable<String> iterable = () -> Arrays.asList("Any string", "Another string").iterator();
+
+    assertThatCode(
+            () -> ArgumentValidations.hasSizeBetween(iterable, 1, 2, Validations.ANY_VALIDATION))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testHasSizeBetween_Iterable_Error() {
+    Iterable<String> iterable = () -> Arrays.asList("Any string", "Another string").iterator();
+
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(
+            () -> ArgumentValidations.hasSizeBetween(iterable, 3, 4, Validations.ANY_VALIDATION),
+            InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getValidationMessage())
+        .isEqualTo(Validations.ANY_VALIDATION);
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {3, 4});
+  }
+
+  @Test
+  void testHasSizeBetween_Iterator_Success() {
+    Iterator<String> iterator = Arrays.asList("Any string", "Another string").iterator();
+
+    assertThatCode(
+            () -> ArgumentValidations.hasSizeBetween(iterator, 2, 5, Validations.ANY_VALIDATION))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testHasSizeBetween_Iterator_Error() {
+    Iterator<Integer> iterator = Stream.iterate(0, i -> i + 1).iterator();
+
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(
+            () -> ArgumentValidations.hasSizeBetween(iterator, 1, 3, Validations.ANY_VALIDATION),
+            InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getValidationMessage())
+        .isEqualTo(Validations.ANY_VALIDATION);
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {1, 3});
+    assertThat(iterator.next()).isEqualTo(4);
+  }
+
+  @Test
+  void testHasSizeBetween_Stream_Success() {
+    assertThatCode(
+            () ->
+                ArgumentValidations.hasSizeBetween(
+                    Stream.of("Any string", "Another string"), 1, 2, Validations.ANY_VALIDATION))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testHasSizeBetween_Stream_Error() {
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(
+            () ->
+                ArgumentValidations.hasSizeBetween(
+                    Stream.iterate(0, i -> i + 1), 1, 3, Validations.ANY_VALIDATION),
+            InvalidArgumentException.class);
+    InvalidArgumentException negativeSizeException =
+        catchThrowableOfType(
+            () ->
+                ArgumentValidations.hasSizeBetween(
+                    Stream.of(1), -5, -2, Validations.ANY_VALIDATION),
+            InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getValidationMessage())
+        .isEqualTo(Validations.ANY_VALIDATION);
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {1, 3});
+    assertThat(negativeSizeException.getParams()).isEqualTo(new Object[] {-5, -2});
+  }
+
   @Test
   void testIsInstanceOf_Success() {
     String anyString = "Any string";
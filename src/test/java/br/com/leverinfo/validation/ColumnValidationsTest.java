@@ -0,0 +1,193 @@
+package br.com.leverinfo.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+
+class ColumnValidationsTest {
+
+  @Test
+  void testIsBetween_Int_Success() {
+    int[] values = {1, 5, 10};
+
+    assertThat(ColumnValidations.isBetween(values, 1, 10)).isEqualTo(new BitSet());
+  }
+
+  @Test
+  void testIsBetween_Int_Error() {
+    int[] values = new int[130];
+    values[3] = -1;
+    values[64] = 11;
+    values[129] = Integer.MIN_VALUE;
+
+    assertThat(ColumnValidations.isBetween(values, 0, 10)).isEqualTo(bits(3, 64, 129));
+  }
+
+  @Test
+  void testIsBetween_Long_Success() {
+    long[] values = {1L, 5L, 10L};
+
+    assertThat(ColumnValidations.isBetween(values, 1L, 10L)).isEqualTo(new BitSet());
+  }
+
+  @Test
+  void testIsBetween_Long_Error() {
+    long[] values = {0L, 1L, 11L, Long.MAX_VALUE};
+
+    assertThat(ColumnValidations.isBetween(values, 1L, 10L)).isEqualTo(bits(0, 2, 3));
+
+    long[] column = new long[130];
+    Arrays.fill(column, 5L);
+    column[3] = 0L;
+    column[64] = 11L;
+    column[129] = Long.MIN_VALUE;
+
+    assertThat(ColumnValidations.isBetween(column, 1L, 10L)).isEqualTo(bits(3, 64, 129));
+  }
+
+  @Test
+  void testIsBetween_Double_Success() {
+    double[] values = {1.0, 5.5, 10.0};
+
+    assertThat(ColumnValidations.isBetween(values, 1.0, 10.0)).isEqualTo(new BitSet());
+  }
+
+  @Test
+  void testIsBetween_Double_Error() {
+    double[] values = {0.9, 1.0, Double.NaN, 10.1};
+
+    assertThat(ColumnValidations.isBetween(values, 1.0, 10.0)).isEqualTo(bits(0, 2, 3));
+
+    double[] column = new double[130];
+    Arrays.fill(column, 5.0);
+    column[3] = 0.9;
+    column[64] = Double.NaN;
+    column[129] = 10.1;
+
+    assertThat(ColumnValidations.isBetween(column, 1.0, 10.0)).isEqualTo(bits(3, 64, 129));
+  }
+
+  @Test
+  void testIsGreaterThanZero_Int_Success() {
+    assertThat(ColumnValidations.isGreaterThanZero(new int[] {1, Integer.MAX_VALUE}))
+        .isEqualTo(new BitSet());
+  }
+
+  @Test
+  void testIsGreaterThanZero_Int_Error() {
+    int[] values = {1, 0, -1, 2};
+
+    assertThat(ColumnValidations.isGreaterThanZero(values)).isEqualTo(bits(1, 2));
+
+    int[] column = new int[130];
+    Arrays.fill(column, 1);
+    column[3] = 0;
+    column[64] = -1;
+    column[129] = Integer.MIN_VALUE;
+
+    assertThat(ColumnValidations.isGreaterThanZero(column)).isEqualTo(bits(3, 64, 129));
+  }
+
+  @Test
+  void testIsGreaterThanZero_Long_Success() {
+    assertThat(ColumnValidations.isGreaterThanZero(new long[] {1L, Long.MAX_VALUE}))
+        .isEqualTo(new BitSet());
+  }
+
+  @Test
+  void testIsGreaterThanZero_Long_Error() {
+    long[] values = {Long.MIN_VALUE, 1L, 0L};
+
+    assertThat(ColumnValidations.isGreaterThanZero(values)).isEqualTo(bits(0, 2));
+
+    long[] column = new long[130];
+    Arrays.fill(column, 1L);
+    column[3] = 0L;
+    column[64] = -1L;
+    column[129] = Long.MIN_VALUE;
+
+    assertThat(ColumnValidations.isGreaterThanZero(column)).isEqualTo(bits(3, 64, 129));
+  }
+
+  @Test
+  void testIsGreaterThanZero_Double_Success() {
+    assertThat(ColumnValidations.isGreaterThanZero(new double[] {0.1, 1.0}))
+        .isEqualTo(new BitSet());
+  }
+
+  @Test
+  void testIsGreaterThanZero_Double_Error() {
+    double[] values = {0.1, 0.0, -0.0, -1.0};
+
+    assertThat(ColumnValidations.isGreaterThanZero(values)).isEqualTo(bits(1, 2, 3));
+
+    double[] column = new double[130];
+    Arrays.fill(column, 1.0);
+    column[3] = 0.0;
+    column[64] = -0.0;
+    column[129] = -1.0;
+
+    assertThat(ColumnValidations.isGreaterThanZero(column)).isEqualTo(bits(3, 64, 129));
+  }
+
+  @Test
+  void testIsNotNull_Success() {
+    assertThat(ColumnValidations.isNotNull(new Object[] {"Any value", 1})).isEqualTo(new BitSet());
+  }
+
+  @Test
+  void testIsNotNull_Error() {
+    Object[] values = {"Any value", null, 1, null};
+
+    assertThat(ColumnValidations.isNotNull(values)).isEqualTo(bits(1, 3));
+  }
+
+  @Test
+  void testHasSizeBetween_Success() {
+    CharSequence[] values = {"A", "Any", "Any s"};
+
+    assertThat(ColumnValidations.hasSizeBetween(values, 1, 5)).isEqualTo(new BitSet());
+  }
+
+  @Test
+  void testHasSizeBetween_Error() {
+    CharSequence[] values = {"", "Any", null, "Any string"};
+
+    assertThat(ColumnValidations.hasSizeBetween(values, 1, 5)).isEqualTo(bits(0, 2, 3));
+    assertThat(ColumnValidations.hasSizeBetween(values, 0, 10)).isEqualTo(bits(2));
+  }
+
+  @Test
+  void testHasOnlyDigits_Success() {
+    CharSequence[] values = {"0", "0123456789", StringUtils.repeat("9", 100)};
+
+    assertThat(ColumnValidations.hasOnlyDigits(values)).isEqualTo(new BitSet());
+  }
+
+  @Test
+  void testHasOnlyDigits_Error() {
+    CharSequence[] values = {
+      "",
+      null,
+      "12a",
+      "１２",
+      "-1",
+      StringUtils.repeat("9", 100) + "/",
+      new StringBuilder("42"),
+      "/" + StringUtils.repeat("9", 100)
+    };
+
+    assertThat(ColumnValidations.hasOnlyDigits(values)).isEqualTo(bits(0, 1, 2, 3, 4, 5, 7));
+  }
+
+  private static BitSet bits(int... indexes) {
+    BitSet bits = new BitSet();
+    for (int index : indexes) {
+      bits.set(index);
+    }
+    return bits;
+  }
+}
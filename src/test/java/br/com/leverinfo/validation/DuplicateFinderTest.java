@@ -0,0 +1,50 @@
+package br.com.leverinfo.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class DuplicateFinderTest {
+
+  @Test
+  void testFind_HashMapFallback() {
+    int[] ints = {5, 7, -1, 9, 7, 5};
+    long[] longs = {5L, Long.MAX_VALUE, -1L, Long.MAX_VALUE};
+    CharSequence[] charSequences = {"a", null, new StringBuilder("b"), "c", "b", null};
+    CharSequence[] nulls = {"a", null, "c", null};
+
+    assertThat(DuplicateFinder.find(ints, 1)).isEqualTo(DuplicateFinder.find(ints));
+    assertThat(DuplicateFinder.firstIndex(DuplicateFinder.find(ints, 1))).isEqualTo(1);
+    assertThat(DuplicateFinder.secondIndex(DuplicateFinder.find(ints, 1))).isEqualTo(4);
+    assertThat(DuplicateFinder.find(longs, 1)).isEqualTo(DuplicateFinder.find(longs));
+    assertThat(DuplicateFinder.secondIndex(DuplicateFinder.find(longs, 1))).isEqualTo(3);
+    assertThat(DuplicateFinder.find(charSequences, 1))
+        .isEqualTo(DuplicateFinder.find(charSequences));
+    assertThat(DuplicateFinder.secondIndex(DuplicateFinder.find(charSequences, 1))).isEqualTo(4);
+    assertThat(DuplicateFinder.find(nulls, 1)).isEqualTo(DuplicateFinder.find(nulls));
+    assertThat(DuplicateFinder.find(new int[] {1, 2, 3}, 1)).isEqualTo(-1);
+    assertThat(DuplicateFinder.find(new long[] {1L, 2L, 3L}, 1)).isEqualTo(-1);
+    assertThat(DuplicateFinder.find(new CharSequence[] {"a", "b", null}, 1)).isEqualTo(-1);
+  }
+
+  @Test
+  void testFind_HashMapFallback_Random() {
+    Random random = new Random(39);
+    for (int i = 0; i < 200; i++) {
+      int[] ints = new int[1 + random.nextInt(200)];
+      long[] longs = new long[ints.length];
+      CharSequence[] charSequences = new CharSequence[ints.length];
+      for (int j = 0; j < ints.length; j++) {
+        ints[j] = random.nextInt(1_000);
+        longs[j] = (long) ints[j] << 40;
+        charSequences[j] = Integer.toString(ints[j]);
+      }
+
+      assertThat(DuplicateFinder.find(ints, 1)).isEqualTo(DuplicateFinder.find(ints));
+      assertThat(DuplicateFinder.find(longs, 1)).isEqualTo(DuplicateFinder.find(longs));
+      assertThat(DuplicateFinder.find(charSequences, 1))
+          .isEqualTo(DuplicateFinder.find(charSequences));
+    }
+  }
+}
@@ -0,0 +1,452 @@
+package br.com.leverinfo.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+import br.com.leverinfo.validation.exception.DuplicatedException;
+import br.com.leverinfo.validation.exception.InvalidArgumentException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+
+class ElementValidationsTest {
+
+  @Test
+  void testEach_Collection_Success() {
+    List<String> values = Arrays.asList("Any string", "Another string");
+
+    assertThatCode(
+            () ->
+                ElementValidations.each(
+                    values, StringUtils::isNotBlank, Validations.ANY_VALIDATION))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testEach_Collection_Error() {
+    List<String> values = Arrays.asList("Any string", "", " ");
+
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(
+            () ->
+                ElementValidations.each(
+                    values, StringUtils::isNotBlank, Validations.ANY_VALIDATION),
+            InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getValidationMessage())
+        .isEqualTo(Validations.ANY_VALIDATION);
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {1, ""});
+
+    List<String> linkedValues = new LinkedList<>(values);
+    invalidArgumentException =
+        catchThrowableOfType(
+            () ->
+                ElementValidations.each(
+                    linkedValues, StringUtils::isNotBlank, Validations.ANY_VALIDATION),
+            InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {1, ""});
+  }
+
+  @Test
+  void testEach_Array_Success() {
+    Integer[] values = {1, 2, 3};
+
+    assertThatCode(
+            () -> ElementValidations.each(values, value -> value > 0, Validations.ANY_VALIDATION))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testEach_Array_Error() {
+    Integer[] values = {1, -2, -3};
+
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(
+            () -> ElementValidations.each(values, value -> value > 0, Validations.ANY_VALIDATION),
+            InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getValidationMessage())
+        .isEqualTo(Validations.ANY_VALIDATION);
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {1, -2});
+  }
+
+  @Test
+  void testEach_Map_Success() {
+    Map<String, Integer> values = new LinkedHashMap<>();
+    values.put("A", 1);
+    values.put("B", 2);
+
+    assertThatCode(
+            () ->
+                ElementValidations.each(
+                    values, (key, value) -> value > 0, Validations.ANY_VALIDATION))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testEach_Map_Error() {
+    Map<String, Integer> values = new LinkedHashMap<>();
+    values.put("A", 1);
+    values.put("B", -2);
+
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(
+            () ->
+                ElementValidations.each(
+                    values, (key, value) -> value > 0, Validations.ANY_VALIDATION),
+            InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getValidationMessage())
+        .isEqualTo(Validations.ANY_VALIDATION);
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {"B", -2});
+  }
+
+  @Test
+  void testEachCollectingAll_Collection_Success() {
+    List<String> values = new LinkedList<>(Arrays.asList("Any string", "Another string"));
+
+    assertThatCode(
+            () ->
+                ElementValidations.eachCollectingAll(
+                    values, StringUtils::isNotBlank, Validations.ANY_VALIDATION))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testEachCollectingAll_Collection_Error() {
+    List<String> values = Arrays.asList("", "Any string", " ", null);
+
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(
+            () ->
+                ElementValidations.eachCollectingAll(
+                    values, StringUtils::isNotBlank, Validations.ANY_VALIDATION),
+            InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getValidationMessage())
+        .isEqualTo(Validations.ANY_VALIDATION);
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {0, 2, 3});
+  }
+
+  @Test
+  void testEachCollectingAll_Array_Success() {
+    Integer[] values = {1, 2, 3};
+
+    assertThatCode(
+            () ->
+                ElementValidations.eachCollectingAll(
+                    values, value -> value > 0, Validations.ANY_VALIDATION))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testEachCollectingAll_Array_Error() {
+    Integer[] values = {1, -2, -3};
+
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(
+            () ->
+                ElementValidations.eachCollectingAll(
+                    values, value -> value > 0, Validations.ANY_VALIDATION),
+            InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getValidationMessage())
+        .isEqualTo(Validations.ANY_VALIDATION);
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {1, 2});
+  }
+
+  @Test
+  void testEachCollectingAll_Map_Success() {
+    Map<String, Integer> values = new LinkedHashMap<>();
+    values.put("A", 1);
+    values.put("B", 2);
+
+    assertThatCode(
+            () ->
+                ElementValidations.eachCollectingAll(
+                    values, (key, value) -> value > 0, Validations.ANY_VALIDATION))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testEachCollectingAll_Map_Error() {
+    Map<String, Integer> values = new LinkedHashMap<>();
+    values.put("A", -1);
+    values.put("B", 2);
+    values.put("C", -3);
+
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(
+            () ->
+                ElementValidations.eachCollectingAll(
+                    values, (key, value) -> value > 0, Validations.ANY_VALIDATION),
+            InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getValidationMessage())
+        .isEqualTo(Validations.ANY_VALIDATION);
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {"A", "C"});
+  }
+
+  @Test
+  void testAllUnique_Collection_Success() {
+    List<String> values = Arrays.asList("Any string", "Another string", null);
+
+    assertThatCode(() -> ElementValidations.allUnique(values, Validations.ANY_VALIDATION))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testAllUnique_Collection_Error() {
+    List<String> values = Arrays.asList("A", "B", "C", "B", "A");
+
+    DuplicatedException duplicatedException =
+        catchThrowableOfType(
+            () -> ElementValidations.allUnique(values, Validations.ANY_VALIDATION),
+            DuplicatedException.class);
+
+    assertThat(duplicatedException.getValidationMessage()).isEqualTo(Validations.ANY_VALIDATION);
+    assertThat(duplicatedException.getParams()).isEqualTo(new Object[] {"B", 1, 3});
+  }
+
+  @Test
+  void testAllUnique_Collection_Key_Success() {
+    List<String> values = Arrays.asList("A", "BB", "CCC");
+
+    assertThatCode(
+            () -> ElementValidations.allUnique(values, String::length, Validations.ANY_VALIDATION))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testAllUnique_Collection_Key_Error() {
+    List<String> values = new LinkedList<>(Arrays.asList("A", "BB", "C"));
+
+    DuplicatedException duplicatedException =
+        catchThrowableOfType(
+            () -> ElementValidations.allUnique(values, String::length, Validations.ANY_VALIDATION),
+            DuplicatedException.class);
+
+    assertThat(duplicatedException.getValidationMessage()).isEqualTo(Validations.ANY_VALIDATION);
+    assertThat(duplicatedException.getParams()).isEqualTo(new Object[] {1, 0, 2});
+  }
+
+  @Test
+  void testAllUnique_Array_Success() {
+    Integer[] values = {1, 2, 3};
+
+    assertThatCode(() -> ElementValidations.allUnique(values, Validations.ANY_VALIDATION))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testAllUnique_Array_Error() {
+    Integer[] values = {1, 2, 3, 2};
+
+    DuplicatedException duplicatedException =
+        catchThrowableOfType(
+            () -> ElementValidations.allUnique(values, Validations.ANY_VALIDATION),
+            DuplicatedException.class);
+
+    assertThat(duplicatedException.getValidationMessage()).isEqualTo(Validations.ANY_VALIDATION);
+    assertThat(duplicatedException.getParams()).isEqualTo(new Object[] {2, 1, 3});
+  }
+
+  @Test
+  void testAllUnique_Array_Key_Error() {
+    Integer[] values = {1, 2, 3, 4};
+
+    DuplicatedException duplicatedException =
+        catchThrowableOfType(
+            () ->
+                ElementValidations.allUnique(
+                    values, value -> value % 3, Validations.ANY_VALIDATION),
+            DuplicatedException.class);
+
+    assertThat(duplicatedException.getParams()).isEqualTo(new Object[] {1, 0, 3});
+  }
+
+  @Test
+  void testAllUnique_Int_Success() {
+    int[] values = IntStream.range(-50_000, 50_000).map(value -> value * 1_000_003).toArray();
+
+    assertThatCode(() -> ElementValidations.allUnique(values, Validations.ANY_VALIDATION))
+        .doesNotThrowAnyException();
+    assertThatCode(() -> ElementValidations.allUnique(new int[0], Validations.ANY_VALIDATION))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testAllUnique_Int_Error() {
+    int[] values = IntStream.range(0, 100_000).toArray();
+    values[99_999] = 0;
+
+    DuplicatedException duplicatedException =
+        catchThrowableOfType(
+            () -> ElementValidations.allUnique(values, Validations.ANY_VALIDATION),
+            DuplicatedException.class);
+
+    assertThat(duplicatedException.getValidationMessage()).isEqualTo(Validations.ANY_VALIDATION);
+    assertThat(duplicatedException.getParams()).isEqualTo(new Object[] {0, 0, 99_999});
+  }
+
+  @Test
+  void testAllUnique_Long_Success() {
+    long[] values = LongStream.range(0, 100_000).map(value -> value << 40).toArray();
+
+    assertThatCode(() -> ElementValidations.allUnique(values, Validations.ANY_VALIDATION))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testAllUnique_Long_Error() {
+    long[] values = {Long.MIN_VALUE, 0L, Long.MAX_VALUE, -1L, Long.MAX_VALUE};
+
+    DuplicatedException duplicatedException =
+        catchThrowableOfType(
+            () -> ElementValidations.allUnique(values, Validations.ANY_VALIDATION),
+            DuplicatedException.class);
+
+    assertThat(duplicatedException.getValidationMessage()).isEqualTo(Validations.ANY_VALIDATION);
+    assertThat(duplicatedException.getParams()).isEqualTo(new Object[] {Long.MAX_VALUE, 2, 4});
+  }
+
+  @Test
+  void testAllUnique_CharSequence_Success() {
+    String[] values = IntStream.range(0, 100_000).mapToObj(String::valueOf).toArray(String[]::new);
+
+    assertThatCode(() -> ElementValidations.allUnique(values, Validations.ANY_VALIDATION))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testAllUnique_CharSequence_Error() {
+    StringBuilder duplicated = new StringBuilder("Any string");
+    CharSequence[] values = {null, "Any string", "Another string", duplicated};
+
+    DuplicatedException duplicatedException =
+        catchThrowableOfType(
+            () -> ElementValidations.allUnique(values, Validations.ANY_VALIDATION),
+            DuplicatedException.class);
+
+    assertThat(duplicatedException.getValidationMessage()).isEqualTo(Validations.ANY_VALIDATION);
+    assertThat(duplicatedException.getParams()).isEqualTo(new Object[] {duplicated, 1, 3});
+
+    CharSequence[] nullValues = {"Any string", null, null};
+    duplicatedException =
+        catchThrowableOfType(
+            () -> ElementValidations.allUnique(nullValues, Validations.ANY_VALIDATION),
+            DuplicatedException.class);
+
+    assertThat(duplicatedException.getParams()).isEqualTo(new Object[] {null, 1, 2});
+  }
+
+  @Test
+  void testEachInParallel_Collection_Success() {
+    List<Integer> values = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+
+    assertThatCode(
+            () ->
+                ElementValidations.eachInParallel(
+                    values, value -> value >= 0, Validations.ANY_VALIDATION))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testEachInParallel_Collection_Error() {
+    List<Integer> values = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      for (int i = 0; i < 20; i++) {
+        InvalidArgumentException invalidArgumentException =
+            catchThrowableOfType(
+                () ->
+                    ElementValidations.eachInParallel(
+                        values,
+                        value -> value % 7919 != 7918,
+                        pool,
+                        100,
+                        Validations.ANY_VALIDATION),
+                InvalidArgumentException.class);
+
+        assertThat(invalidArgumentException.getValidationMessage())
+            .isEqualTo(Validations.ANY_VALIDATION);
+        assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {7918, 7918});
+      }
+    } finally {
+      pool.shutdown();
+    }
+
+    List<Integer> linkedValues = new LinkedList<>(values.subList(0, 10));
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(
+            () ->
+                ElementValidations.eachInParallel(
+                    linkedValues, value -> value < 5, Validations.ANY_VALIDATION),
+            InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {5, 5});
+  }
+
+  @Test
+  void testEachInParallel_Array_Success() {
+    Integer[] values = IntStream.range(0, 100_000).boxed().toArray(Integer[]::new);
+
+    assertThatCode(
+            () ->
+                ElementValidations.eachInParallel(
+                    values, value -> value >= 0, Validations.ANY_VALIDATION))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testEachInParallel_Array_Error() {
+    Integer[] values = IntStream.range(0, 100_000).boxed().toArray(Integer[]::new);
+
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(
+            () ->
+                ElementValidations.eachInParallel(
+                    values,
+                    value -> value < 50_000 || value % 2 == 0,
+                    ForkJoinPool.commonPool(),
+                    1,
+                    Validations.ANY_VALIDATION),
+            InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getValidationMessage())
+        .isEqualTo(Validations.ANY_VALIDATION);
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {50_001, 50_001});
+  }
+
+  private enum Validations implements ValidationMessage {
+    ANY_VALIDATION("0", "Any validation message");
+
+    private final String code;
+    private final String message;
+
+    Validations(String code, String message) {
+      this.code = code;
+      this.message = message;
+    }
+
+    @Override
+    public String getCode() {
+      return code;
+    }
+
+    @Override
+    public String getMessage() {
+      return message;
+    }
+  }
+}
@@ -0,0 +1,195 @@
+package br.com.leverinfo.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+import br.com.leverinfo.validation.exception.InvalidArgumentException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.junit.jupiter.api.Test;
+
+class StreamValidationsTest {
+
+  @Test
+  void testValidating_Stream_Success() {
+    Stream<Integer> values =
+        StreamValidations.validating(
+            Stream.of(1, 2, 3), value -> value > 0, Validations.ANY_VALIDATION);
+
+    assertThat(values.collect(Collectors.toList())).containsExactly(1, 2, 3);
+  }
+
+  @Test
+  void testValidating_Stream_Error() {
+    Stream<Integer> values =
+        StreamValidations.validating(
+            Stream.of(1, -2, 3), value -> value > 0, Validations.ANY_VALIDATION);
+
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(
+            () -> values.collect(Collectors.toList()), InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getValidationMessage())
+        .isEqualTo(Validations.ANY_VALIDATION);
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {-2});
+  }
+
+  @Test
+  void testValidating_Stream_Lazy() {
+    AtomicInteger checked = new AtomicInteger();
+    Stream<Integer> values =
+        StreamValidations.validating(
+            Stream.of(1, 2, -3),
+            value -> checked.incrementAndGet() > 0 && value > 0,
+            Validations.ANY_VALIDATION);
+
+    assertThat(checked).hasValue(0);
+    assertThatCode(() -> assertThat(values.limit(2).collect(Collectors.toList())).hasSize(2))
+        .doesNotThrowAnyException();
+    assertThat(checked).hasValue(2);
+  }
+
+  @Test
+  void testValidating_Stream_Count() {
+    Stream<Integer> values =
+        StreamValidations.validating(
+            Arrays.asList(1, -2, 3).stream(), value -> value > 0, Validations.ANY_VALIDATION);
+
+    assertThat(catchThrowableOfType(values::count, InvalidArgumentException.class)).isNotNull();
+  }
+
+  @Test
+  void testValidating_Stream_Parallel() {
+    List<Integer> source = IntStream.range(0, 10_000).boxed().collect(Collectors.toList());
+    Stream<Integer> values =
+        StreamValidations.validating(
+            source.parallelStream(), value -> value >= 0, Validations.ANY_VALIDATION);
+
+    assertThat(values.isParallel()).isTrue();
+    assertThat(values.mapToLong(Integer::longValue).sum()).isEqualTo(49_995_000L);
+  }
+
+  @Test
+  void testValidating_Stream_Close() {
+    AtomicBoolean closed = new AtomicBoolean();
+    Stream<Integer> values =
+        StreamValidations.validating(
+            Stream.of(1).onClose(() -> closed.set(true)),
+            value -> value > 0,
+            Validations.ANY_VALIDATION);
+
+    values.close();
+
+    assertThat(closed).isTrue();
+  }
+
+  @Test
+  void testValidating_Spliterator_Success() {
+    Spliterator<Integer> values =
+        StreamValidations.validating(
+            Arrays.asList(1, 2, 3).spliterator(), value -> value > 0, Validations.ANY_VALIDATION);
+
+    assertThat(values.estimateSize()).isEqualTo(3);
+    assertThat(StreamSupport.stream(values, false).collect(Collectors.toList()))
+        .containsExactly(1, 2, 3);
+  }
+
+  @Test
+  void testValidating_Spliterator_Error() {
+    Spliterator<Integer> values =
+        StreamValidations.validating(
+            Arrays.asList(1, -2, 3).spliterator(), value -> value > 0, Validations.ANY_VALIDATION);
+
+    assertThat(values.tryAdvance(value -> {})).isTrue();
+
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(() -> values.tryAdvance(value -> {}), InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getValidationMessage())
+        .isEqualTo(Validations.ANY_VALIDATION);
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {-2});
+  }
+
+  @Test
+  void testDroppingInvalid_Stream() {
+    Stream<Integer> values =
+        StreamValidations.droppingInvalid(Stream.of(1, -2, 3, -4), value -> value > 0);
+
+    assertThat(values.collect(Collectors.toList())).containsExactly(1, 3);
+  }
+
+  @Test
+  void testDroppingInvalid_Spliterator() {
+    Spliterator<Integer> values =
+        StreamValidations.droppingInvalid(
+            Arrays.asList(-1, -2, 3, -4).spliterator(), value -> value > 0);
+
+    assertThat(values.hasCharacteristics(Spliterator.SIZED)).isFalse();
+
+    List<Integer> accepted = new ArrayList<>();
+    assertThat(values.tryAdvance(accepted::add)).isTrue();
+    assertThat(values.tryAdvance(accepted::add)).isFalse();
+    assertThat(accepted).containsExactly(3);
+  }
+
+  @Test
+  void testDivertingInvalid_Stream() {
+    List<Integer> invalid = Collections.synchronizedList(new ArrayList<>());
+    List<Integer> source = IntStream.range(-500, 500).boxed().collect(Collectors.toList());
+
+    Stream<Integer> values =
+        StreamValidations.divertingInvalid(
+            source.parallelStream(), value -> value >= 0, invalid::add);
+
+    assertThat(values.count()).isEqualTo(500);
+    assertThat(invalid).hasSize(500).allMatch(value -> value < 0);
+  }
+
+  @Test
+  void testDivertingInvalid_Spliterator() {
+    List<Integer> invalid = new ArrayList<>();
+    Spliterator<Integer> values =
+        StreamValidations.divertingInvalid(
+            Arrays.asList(1, -2, 3, -4).spliterator(), value -> value > 0, invalid::add);
+
+    assertThat(values.trySplit()).isNotNull();
+
+    List<Integer> accepted = new ArrayList<>();
+    values.forEachRemaining(accepted::add);
+
+    assertThat(accepted).containsExactly(3);
+    assertThat(invalid).containsExactly(-4);
+  }
+
+  private enum Validations implements ValidationMessage {
+    ANY_VALIDATION("0", "Any validation message");
+
+    private final String code;
+    private final String message;
+
+    Validations(String code, String message) {
+      this.code = code;
+      this.message = message;
+    }
+
+    @Override
+    public String getCode() {
+      return code;
+    }
+
+    @Override
+    public String getMessage() {
+      return message;
+    }
+  }
+}
@@ -0,0 +1,50 @@
+package br.com.leverinfo.validation.exception;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import br.com.leverinfo.validation.ValidationMessage;
+import org.junit.jupiter.api.Test;
+
+class ValidationExceptionTest {
+
+  @Test
+  void testGetStringParams_Success() {
+    InvalidArgumentException invalidArgumentException =
+        new InvalidArgumentException(Validations.ANY_VALIDATION, "value", 1);
+
+    assertThat(invalidArgumentException.getStringParams()).isEqualTo("value,1");
+    assertThat(invalidArgumentException)
+        .hasToString(
+            InvalidArgumentException.class.getName() + ": Any validation message(value,1)");
+  }
+
+  @Test
+  void testGetStringParams_NullParams() {
+    InvalidArgumentException invalidArgumentException =
+        new InvalidArgumentException(Validations.ANY_VALIDATION, null, 0, 2);
+
+    assertThat(invalidArgumentException.getStringParams()).isEqualTo("null,0,2");
+  }
+
+  private enum Validations implements ValidationMessage {
+    ANY_VALIDATION("0", "Any validation message");
+
+    private final String code;
+    private final String message;
+
+    Validations(String code, String message) {
+      this.code = code;
+      this.message = message;
+    }
+
+    @Override
+    public String getCode() {
+      return code;
+    }
+
+    @Override
+    public String getMessage() {
+      return message;
+    }
+  }
+}
@@ -0,0 +1,68 @@
+package br.com.leverinfo.validation.lookup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+  @Test
+  void testMightContain_Long() {
+    BloomFilter filter = BloomFilter.create(10_000, 0.01);
+    for (long value = 0; value < 10_000; value++) {
+      filter.put(value * 31);
+    }
+
+    for (long value = 0; value < 10_000; value++) {
+      assertThat(filter.mightContain(value * 31)).isTrue();
+    }
+
+    int falsePositives = 0;
+    for (long value = 0; value < 100_000; value++) {
+      if (filter.mightContain(-value - 1)) {
+        falsePositives++;
+      }
+    }
+    assertThat(falsePositives).isLessThan(2_000);
+  }
+
+  @Test
+  void testMightContain_CharSequence() {
+    BloomFilter filter = BloomFilter.create(1_000, 0.01);
+    for (int i = 0; i < 1_000; i++) {
+      filter.put("value-" + i);
+    }
+
+    for (int i = 0; i < 1_000; i++) {
+      assertThat(filter.mightContain(new StringBuilder("value-").append(i))).isTrue();
+    }
+
+    int falsePositives = 0;
+    for (int i = 0; i < 10_000; i++) {
+      if (filter.mightContain("other-" + i)) {
+        falsePositives++;
+      }
+    }
+    assertThat(falsePositives).isLessThan(200);
+  }
+
+  @Test
+  void testMightContain_Empty() {
+    BloomFilter filter = BloomFilter.create(0, 0.01);
+
+    assertThat(filter.mightContain(1L)).isFalse();
+    assertThat(filter.mightContain("Any string")).isFalse();
+    assertThat(filter.bitSize()).isEqualTo(512);
+  }
+
+  @Test
+  void testCreate_Error() {
+    assertThatThrownBy(() -> BloomFilter.create(-1, 0.01))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> BloomFilter.create(10, 0))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> BloomFilter.create(10, 1))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,57 @@
+package br.com.leverinfo.validation.lookup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BloomFilteredLongSetTest {
+
+  @TempDir Path tempDir;
+
+  @Test
+  void testContains() {
+    BloomFilter filter = BloomFilter.create(3, 0.01);
+    filter.put(1);
+    filter.put(2);
+    filter.put(3);
+    AtomicInteger lookups = new AtomicInteger();
+    LongSet set =
+        new BloomFilteredLongSet(
+            filter,
+            value -> {
+              lookups.incrementAndGet();
+              return value >= 1 && value <= 3;
+            });
+
+    assertThat(set.contains(2)).isTrue();
+    assertThat(lookups).hasValue(1);
+
+    int absent = 0;
+    for (long value = 100; value < 1_100; value++) {
+      if (!set.contains(value)) {
+        absent++;
+      }
+    }
+    assertThat(absent).isEqualTo(1_000);
+    assertThat(lookups.get()).isLessThan(50);
+  }
+
+  @Test
+  void testOf() throws IOException {
+    Path path = tempDir.resolve("index.bin");
+    MappedLongSet.write(path, new long[] {5, 10, 15});
+
+    try (MappedLongSet mappedSet = MappedLongSet.open(path)) {
+      LongSet set = BloomFilteredLongSet.of(mappedSet, 0.01);
+
+      assertThat(set.contains(5)).isTrue();
+      assertThat(set.contains(10)).isTrue();
+      assertThat(set.contains(15)).isTrue();
+      assertThat(set.contains(20)).isFalse();
+    }
+  }
+}
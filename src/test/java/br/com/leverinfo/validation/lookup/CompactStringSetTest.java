@@ -0,0 +1,108 @@
+package br.com.leverinfo.validation.lookup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class CompactStringSetTest {
+
+  @Test
+  void testContains_Success() {
+    CompactStringSet set =
+        CompactStringSet.of(Arrays.asList("tap", "taps", "top", "tops", "", "a", "tap"));
+
+    assertThat(set.size()).isEqualTo(6);
+    assertThat(set.contains("tap")).isTrue();
+    assertThat(set.contains("taps")).isTrue();
+    assertThat(set.contains(new StringBuilder("top"))).isTrue();
+    assertThat(set.contains("tops")).isTrue();
+    assertThat(set.contains("")).isTrue();
+    assertThat(set.contains("a")).isTrue();
+  }
+
+  @Test
+  void testContains_Error() {
+    CompactStringSet set = CompactStringSet.of(Arrays.asList("tap", "taps", "top", "tops"));
+
+    assertThat(set.contains("")).isFalse();
+    assertThat(set.contains("t")).isFalse();
+    assertThat(set.contains("ta")).isFalse();
+    assertThat(set.contains("tapss")).isFalse();
+    assertThat(set.contains("tip")).isFalse();
+  }
+
+  @Test
+  void testContains_Empty() {
+    CompactStringSet set = CompactStringSet.of(Collections.emptyList());
+
+    assertThat(set.size()).isZero();
+    assertThat(set.contains("")).isFalse();
+    assertThat(set.contains("a")).isFalse();
+  }
+
+  @Test
+  void testContains_Random() {
+    Random random = new Random(28);
+    Set<String> values = new HashSet<>();
+    while (values.size() < 20_000) {
+      values.add(Integer.toString(random.nextInt(1_000_000)));
+    }
+    CompactStringSet set = CompactStringSet.of(values);
+
+    assertThat(set.size()).isEqualTo(values.size());
+    for (int i = 0; i < 1_000_000; i += 7) {
+      String value = Integer.toString(i);
+      assertThat(set.contains(value)).isEqualTo(values.contains(value));
+    }
+  }
+
+  @Test
+  void testLongestPrefixLength() {
+    CompactStringSet set = CompactStringSet.of(Arrays.asList("4", "411111", "5105", "51"));
+
+    assertThat(set.longestPrefixLength("4111111111111111")).isEqualTo(6);
+    assertThat(set.longestPrefixLength("4012888888881881")).isEqualTo(1);
+    assertThat(set.longestPrefixLength("5105105105105100")).isEqualTo(4);
+    assertThat(set.longestPrefixLength("5200828282828210")).isEqualTo(-1);
+    assertThat(set.longestPrefixLength("")).isEqualTo(-1);
+    assertThat(CompactStringSet.of(Arrays.asList("")).longestPrefixLength("any")).isZero();
+  }
+
+  @Test
+  void testStateCount_SharesSuffixes() {
+    CompactStringSet set =
+        CompactStringSet.of(Arrays.asList("walk", "walked", "talk", "talked", "balk", "balked"));
+
+    assertThat(set.stateCount()).isEqualTo(7);
+  }
+
+  @Test
+  void testFromSorted_Error() {
+    assertThatThrownBy(() -> CompactStringSet.fromSorted(Arrays.asList("b", "a")))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> CompactStringSet.fromSorted(Arrays.asList("ab", "a")))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void testWriteToAndReadFrom() throws IOException {
+    CompactStringSet set = CompactStringSet.of(Arrays.asList("SP", "RJ", "MG", "RS"));
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    set.writeTo(output);
+
+    CompactStringSet read = CompactStringSet.readFrom(new ByteArrayInputStream(output.toByteArray()));
+
+    assertThat(read.size()).isEqualTo(4);
+    assertThat(read.contains("RJ")).isTrue();
+    assertThat(read.contains("BA")).isFalse();
+  }
+}
@@ -0,0 +1,182 @@
+package br.com.leverinfo.validation.lookup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class IpRangeSetTest {
+
+  @Test
+  void testContains_Ipv4() {
+    IpRangeSet set =
+        IpRangeSet.of(
+            Arrays.asList("10.0.0.0/8", "192.168.1.0/24", "203.0.113.7", "172.16.0.0/12"));
+
+    assertThat(set.contains("10.255.1.2")).isTrue();
+    assertThat(set.contains("192.168.1.200")).isTrue();
+    assertThat(set.contains("203.0.113.7")).isTrue();
+    assertThat(set.contains("172.31.255.255")).isTrue();
+    assertThat(set.contains("::ffff:10.1.2.3")).isTrue();
+
+    assertThat(set.contains("11.0.0.1")).isFalse();
+    assertThat(set.contains("192.168.2.1")).isFalse();
+    assertThat(set.contains("203.0.113.8")).isFalse();
+    assertThat(set.contains("172.32.0.0")).isFalse();
+  }
+
+  @Test
+  void testContains_Ipv6() {
+    IpRangeSet set = IpRangeSet.of(Arrays.asList("2001:db8::/32", "fe80::1/128", "::/0"));
+
+    assertThat(set.contains("2001:db8:ffff::1")).isTrue();
+    assertThat(set.contains("1.2.3.4")).isTrue();
+
+    IpRangeSet narrow = IpRangeSet.of(Arrays.asList("2001:DB8::/32", "fe80::1"));
+    assertThat(narrow.contains("2001:0db8:0000:0000:0000:0000:0000:0001")).isTrue();
+    assertThat(narrow.contains("fe80::1")).isTrue();
+    assertThat(narrow.contains("fe80::2")).isFalse();
+    assertThat(narrow.contains("2001:db9::")).isFalse();
+    assertThat(narrow.contains("10.0.0.1")).isFalse();
+  }
+
+  @Test
+  void testContains_InvalidAddress() {
+    IpRangeSet set = IpRangeSet.of(Collections.singletonList("::/0"));
+
+    assertThat(set.contains("")).isFalse();
+    assertThat(set.contains("256.0.0.1")).isFalse();
+    assertThat(set.contains("1.2.3")).isFalse();
+    assertThat(set.contains("01.2.3.4")).isFalse();
+    assertThat(set.contains("1.2.3.4.5")).isFalse();
+    assertThat(set.contains("1::2::3")).isFalse();
+    assertThat(set.contains(":1::2")).isFalse();
+    assertThat(set.contains("1:2:3:4:5:6:7:8:9")).isFalse();
+    assertThat(set.contains("1:2:3:4:5:6:7")).isFalse();
+    assertThat(set.contains("12345::")).isFalse();
+    assertThat(set.contains("fe80::1%eth0")).isFalse();
+    assertThat(set.contains("localhost")).isFalse();
+  }
+
+  @Test
+  void testIsValidAddress() {
+    assertThat(IpRangeSet.isValidAddress("0.0.0.0")).isTrue();
+    assertThat(IpRangeSet.isValidAddress("255.255.255.255")).isTrue();
+    assertThat(IpRangeSet.isValidAddress("::")).isTrue();
+    assertThat(IpRangeSet.isValidAddress("::1")).isTrue();
+    assertThat(IpRangeSet.isValidAddress("1::")).isTrue();
+    assertThat(IpRangeSet.isValidAddress("1:2:3:4:5:6:7:8")).isTrue();
+    assertThat(IpRangeSet.isValidAddress("1:2:3:4:5:6:1.2.3.4")).isTrue();
+    assertThat(IpRangeSet.isValidAddress("1:2:3:4:5:6:7:1.2.3.4")).isFalse();
+    assertThat(IpRangeSet.isValidAddress("1:")).isFalse();
+    assertThat(IpRangeSet.isValidAddress(":::")).isFalse();
+  }
+
+  @Test
+  void testContains_Random() {
+    Random random = new Random(31);
+    List<String> blocks = new ArrayList<>();
+    List<int[]> ranges = new ArrayList<>();
+    for (int i = 0; i < 2_000; i++) {
+      int address = random.nextInt();
+      int length = 8 + random.nextInt(25);
+      int mask = -1 << (32 - length);
+      blocks.add(format(address) + "/" + length);
+      ranges.add(new int[] {address & mask, mask});
+    }
+    IpRangeSet set = IpRangeSet.of(blocks);
+
+    for (int i = 0; i < 20_000; i++) {
+      int address = random.nextInt();
+      boolean expected = ranges.stream().anyMatch(range -> (address & range[1]) == range[0]);
+
+      assertThat(set.contains(format(address))).isEqualTo(expected);
+    }
+  }
+
+  @Test
+  void testContains_Ipv6Random() {
+    Random random = new Random(37);
+    List<String> blocks = new ArrayList<>();
+    List<int[]> addresses = new ArrayList<>();
+    for (int i = 0; i < 2_000; i++) {
+      int[] groups = new int[8];
+      for (int j = 0; j < groups.length; j++) {
+        groups[j] = random.nextInt(0x10000);
+      }
+      int zeros = random.nextInt(7);
+      int zerosStart = random.nextInt(9 - zeros);
+      Arrays.fill(groups, zerosStart, zerosStart + zeros, 0);
+      blocks.add(format(groups, 0, 8) + "/128");
+      addresses.add(groups);
+    }
+    IpRangeSet set = IpRangeSet.of(blocks);
+
+    for (int[] groups : addresses) {
+      int[] other = groups.clone();
+      other[random.nextInt(8)] ^= 1 << random.nextInt(16);
+
+      assertThat(set.contains(compress(groups))).isTrue();
+      assertThat(set.contains(compress(other))).isFalse();
+    }
+  }
+
+  @Test
+  void testOf_Error() {
+    assertThatThrownBy(() -> IpRangeSet.of(Collections.singletonList("10.0.0.0/33")))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> IpRangeSet.of(Collections.singletonList("::/129")))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> IpRangeSet.of(Collections.singletonList("10.0.0/8")))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> IpRangeSet.of(Collections.singletonList("10.0.0.0/")))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  /** Formats groups replacing the longest run of zeros by {@code ::} */
+  private static String compress(int[] groups) {
+    int zerosStart = 0;
+    int zeros = 0;
+    for (int i = 0; i < groups.length; i++) {
+      int end = i;
+      while (end < groups.length && groups[end] == 0) {
+        end++;
+      }
+      if (end - i > zeros) {
+        zerosStart = i;
+        zeros = end - i;
+      }
+    }
+
+    if (zeros == 0) {
+      return format(groups, 0, 8);
+    }
+    return format(groups, 0, zerosStart) + "::" + format(groups, zerosStart + zeros, 8);
+  }
+
+  private static String format(int[] groups, int start, int end) {
+    StringBuilder builder = new StringBuilder();
+    for (int i = start; i < end; i++) {
+      if (i > start) {
+        builder.append(':');
+      }
+      builder.append(Integer.toHexString(groups[i]));
+    }
+    return builder.toString();
+  }
+
+  private static String format(int address) {
+    return (address >>> 24)
+        + "."
+        + ((address >>> 16) & 0xFF)
+        + "."
+        + ((address >>> 8) & 0xFF)
+        + "."
+        + (address & 0xFF);
+  }
+}
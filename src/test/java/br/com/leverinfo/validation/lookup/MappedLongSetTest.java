@@ -0,0 +1,114 @@
+package br.com.leverinfo.validation.lookup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MappedLongSetTest {
+
+  @TempDir Path tempDir;
+
+  @Test
+  void testContains_Success() throws IOException {
+    Path path = tempDir.resolve("index.bin");
+    long written = MappedLongSet.write(path, new long[] {42, -7, 1000, 42, Long.MAX_VALUE, 3});
+
+    try (MappedLongSet set = MappedLongSet.open(path)) {
+      assertThat(written).isEqualTo(5);
+      assertThat(set.size()).isEqualTo(5);
+      assertThat(set.contains(-7)).isTrue();
+      assertThat(set.contains(3)).isTrue();
+      assertThat(set.contains(42)).isTrue();
+      assertThat(set.contains(1000)).isTrue();
+      assertThat(set.contains(Long.MAX_VALUE)).isTrue();
+    }
+  }
+
+  @Test
+  void testContains_Error() throws IOException {
+    Path path = tempDir.resolve("index.bin");
+    MappedLongSet.write(path, new long[] {42, -7, 1000, Long.MAX_VALUE, 3});
+
+    try (MappedLongSet set = MappedLongSet.open(path)) {
+      assertThat(set.contains(Long.MIN_VALUE)).isFalse();
+      assertThat(set.contains(0)).isFalse();
+      assertThat(set.contains(43)).isFalse();
+      assertThat(set.contains(Long.MAX_VALUE - 1)).isFalse();
+    }
+  }
+
+  @Test
+  void testContains_Empty() throws IOException {
+    Path path = tempDir.resolve("index.bin");
+    MappedLongSet.write(path, new long[0]);
+
+    try (MappedLongSet set = MappedLongSet.open(path)) {
+      assertThat(set.size()).isZero();
+      assertThat(set.contains(0)).isFalse();
+    }
+  }
+
+  @Test
+  void testContains_Random() throws IOException {
+    Random random = new Random(26);
+    long[] values = new long[100_000];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = random.nextLong() >> random.nextInt(64);
+    }
+    Path path = tempDir.resolve("index.bin");
+    MappedLongSet.write(path, values);
+
+    try (MappedLongSet set = MappedLongSet.open(path)) {
+      for (long value : values) {
+        assertThat(set.contains(value)).isTrue();
+      }
+      long[] sorted = values.clone();
+      Arrays.sort(sorted);
+      for (int i = 0; i < 10_000; i++) {
+        long candidate = random.nextLong();
+        assertThat(set.contains(candidate))
+            .isEqualTo(Arrays.binarySearch(sorted, candidate) >= 0);
+      }
+    }
+  }
+
+  @Test
+  void testForEach() throws IOException {
+    Path path = tempDir.resolve("index.bin");
+    MappedLongSet.write(path, new long[] {3, 1, 2, 3});
+
+    try (MappedLongSet set = MappedLongSet.open(path)) {
+      List<Long> values = new ArrayList<>();
+      set.forEach(values::add);
+
+      assertThat(values).containsExactly(1L, 2L, 3L);
+    }
+  }
+
+  @Test
+  void testOpen_Error() throws IOException {
+    Path path = tempDir.resolve("index.bin");
+    Files.write(path, new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16});
+
+    assertThatThrownBy(() -> MappedLongSet.open(path)).isInstanceOf(IOException.class);
+  }
+
+  @Test
+  void testClose() throws IOException {
+    Path path = tempDir.resolve("index.bin");
+    MappedLongSet.write(path, new long[] {1});
+    MappedLongSet set = MappedLongSet.open(path);
+    set.close();
+
+    assertThatThrownBy(() -> set.contains(1)).isInstanceOf(IllegalStateException.class);
+  }
+}
@@ -0,0 +1,111 @@
+package br.com.leverinfo.validation.lookup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class RecentlySeenSetTest {
+
+  @Test
+  void testAdd() {
+    RecentlySeenSet<String> recentlySeen = RecentlySeenSet.create(1, TimeUnit.MINUTES, 1000);
+
+    assertThat(recentlySeen.add("Any key")).isTrue();
+    assertThat(recentlySeen.add("Another key")).isTrue();
+    assertThat(recentlySeen.add("Any key")).isFalse();
+    assertThat(recentlySeen.contains("Any key")).isTrue();
+    assertThat(recentlySeen.contains("Unknown key")).isFalse();
+    assertThat(recentlySeen.size()).isEqualTo(2);
+  }
+
+  @Test
+  void testExpiration() {
+    AtomicLong clock = new AtomicLong(-TimeUnit.MINUTES.toNanos(5));
+    RecentlySeenSet<String> recentlySeen =
+        RecentlySeenSet.create(64, TimeUnit.SECONDS, 1000, clock::get);
+
+    recentlySeen.add("Any key");
+    clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+    recentlySeen.add("Another key");
+
+    clock.addAndGet(TimeUnit.SECONDS.toNanos(34));
+    assertThat(recentlySeen.contains("Any key")).isTrue();
+
+    clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+    assertThat(recentlySeen.contains("Any key")).isFalse();
+    assertThat(recentlySeen.contains("Another key")).isTrue();
+    assertThat(recentlySeen.add("Any key")).isTrue();
+
+    clock.addAndGet(TimeUnit.HOURS.toNanos(1));
+    assertThat(recentlySeen.contains("Another key")).isFalse();
+    assertThat(recentlySeen.add("Another key")).isTrue();
+  }
+
+  @Test
+  void testCapacity() {
+    AtomicLong clock = new AtomicLong();
+    RecentlySeenSet<Integer> recentlySeen =
+        RecentlySeenSet.create(64, TimeUnit.SECONDS, 100, clock::get);
+
+    for (int i = 0; i < 200; i++) {
+      recentlySeen.add(i);
+      clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+    }
+
+    assertThat(recentlySeen.size()).isEqualTo(100);
+    assertThat(recentlySeen.contains(0)).isFalse();
+    assertThat(recentlySeen.contains(199)).isTrue();
+  }
+
+  @Test
+  void testAdd_Concurrent() throws Exception {
+    RecentlySeenSet<Integer> recentlySeen = RecentlySeenSet.create(1, TimeUnit.MINUTES, 100_000);
+    int threads = 8;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+    try {
+      List<Future<Integer>> results = new ArrayList<>();
+      for (int t = 0; t < threads; t++) {
+        results.add(
+            executor.submit(
+                () -> {
+                  start.await();
+                  int added = 0;
+                  for (int key = 0; key < 10_000; key++) {
+                    if (recentlySeen.add(key)) {
+                      added++;
+                    }
+                  }
+                  return added;
+                }));
+      }
+      start.countDown();
+
+      int added = 0;
+      for (Future<Integer> result : results) {
+        added += result.get();
+      }
+      assertThat(added).isEqualTo(10_000);
+      assertThat(recentlySeen.size()).isEqualTo(10_000);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void testCreate_Invalid() {
+    assertThatThrownBy(() -> RecentlySeenSet.create(0, TimeUnit.SECONDS, 1))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> RecentlySeenSet.create(1, TimeUnit.SECONDS, 0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,77 @@
+package br.com.leverinfo.validation.lookup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class TermMatcherTest {
+
+  @Test
+  void testFindFirst_Success() {
+    TermMatcher matcher = TermMatcher.of(Arrays.asList("he", "she", "his", "hers"));
+
+    assertThat(matcher.findFirst("ushers")).isEqualTo("she");
+    assertThat(matcher.findFirst("this")).isEqualTo("his");
+    assertThat(matcher.findFirst(new StringBuilder("ahe"))).isEqualTo("he");
+    assertThat(matcher.containsAny("ahishers")).isTrue();
+  }
+
+  @Test
+  void testFindFirst_Error() {
+    TermMatcher matcher = TermMatcher.of(Arrays.asList("he", "she", "his", "hers"));
+
+    assertThat(matcher.findFirst("")).isNull();
+    assertThat(matcher.findFirst("HERS")).isNull();
+    assertThat(matcher.findFirst("ushs")).isNull();
+    assertThat(matcher.containsAny("abc")).isFalse();
+  }
+
+  @Test
+  void testFindFirst_IgnoreCase() {
+    TermMatcher matcher = TermMatcher.of(Arrays.asList("Spam", "ÉCLAIR"), true);
+
+    assertThat(matcher.findFirst("no SPAM please")).isEqualTo("Spam");
+    assertThat(matcher.findFirst("un éclair")).isEqualTo("ÉCLAIR");
+    assertThat(matcher.findFirst("spa m")).isNull();
+  }
+
+  @Test
+  void testFindFirst_Random() {
+    Random random = new Random(30);
+    List<String> terms = new ArrayList<>();
+    for (int i = 0; i < 500; i++) {
+      terms.add(randomString(random, 2 + random.nextInt(4)));
+    }
+    TermMatcher matcher = TermMatcher.of(terms);
+
+    for (int i = 0; i < 2_000; i++) {
+      String text = randomString(random, random.nextInt(40));
+      boolean expected = terms.stream().anyMatch(text::contains);
+      String found = matcher.findFirst(text);
+
+      assertThat(found != null).isEqualTo(expected);
+      if (found != null) {
+        assertThat(text).contains(found);
+      }
+    }
+  }
+
+  @Test
+  void testOf_Error() {
+    assertThatThrownBy(() -> TermMatcher.of(Arrays.asList("term", "")))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static String randomString(Random random, int length) {
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < length; i++) {
+      builder.append((char) ('a' + random.nextInt(6)));
+    }
+    return builder.toString();
+  }
+}
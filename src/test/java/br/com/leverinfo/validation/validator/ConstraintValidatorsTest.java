@@ -0,0 +1,317 @@
+package br.com.leverinfo.validation.validator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+import br.com.leverinfo.validation.ValidationMessage;
+import br.com.leverinfo.validation.constraint.Max;
+import br.com.leverinfo.validation.constraint.Min;
+import br.com.leverinfo.validation.constraint.NotBlank;
+import br.com.leverinfo.validation.constraint.NotNull;
+import br.com.leverinfo.validation.constraint.Pattern;
+import br.com.leverinfo.validation.constraint.Positive;
+import br.com.leverinfo.validation.constraint.Size;
+import br.com.leverinfo.validation.constraint.Validated;
+import br.com.leverinfo.validation.exception.InvalidArgumentException;
+import br.com.leverinfo.validation.exception.RequiredArgumentException;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ConstraintValidatorsTest {
+
+  @Test
+  void testForType_Success() {
+    Validator<Order> validator = ConstraintValidators.forType(Order.class);
+
+    assertThatCode(
+            () ->
+                validator.validate(
+                    new Order("A1", (short) 1, 10L, BigDecimal.ONE, Arrays.asList("a", "b"))))
+        .doesNotThrowAnyException();
+    assertThatCode(() -> validator.validate(new Order("A12", (short) 100, 1L, null, null)))
+        .doesNotThrowAnyException();
+    assertThat(ConstraintValidators.forType(Order.class)).isSameAs(validator);
+  }
+
+  @Test
+  void testForType_Error() {
+    Validator<Order> validator = ConstraintValidators.forType(Order.class);
+
+    RequiredArgumentException requiredArgumentException =
+        catchThrowableOfType(
+            () -> validator.validate(new Order(null, (short) 1, 10L, null, null)),
+            RequiredArgumentException.class);
+    InvalidArgumentException sizeException =
+        catchThrowableOfType(
+            () -> validator.validate(new Order("A12345", (short) 1, 10L, null, null)),
+            InvalidArgumentException.class);
+    InvalidArgumentException patternException =
+        catchThrowableOfType(
+            () -> validator.validate(new Order("AB", (short) 1, 10L, null, null)),
+            InvalidArgumentException.class);
+    InvalidArgumentException quantityException =
+        catchThrowableOfType(
+            () -> validator.validate(new Order("A1", (short) 101, 10L, null, null)),
+            InvalidArgumentException.class);
+    InvalidArgumentException timestampException =
+        catchThrowableOfType(
+            () -> validator.validate(new Order("A1", (short) 1, 0L, null, null)),
+            InvalidArgumentException.class);
+    InvalidArgumentException amountException =
+        catchThrowableOfType(
+            () -> validator.validate(new Order("A1", (short) 1, 10L, BigDecimal.ZERO, null)),
+            InvalidArgumentException.class);
+    InvalidArgumentException tagsException =
+        catchThrowableOfType(
+            () ->
+                validator.validate(
+                    new Order("A1", (short) 1, 10L, null, Arrays.asList("a", "b", "c"))),
+            InvalidArgumentException.class);
+
+    assertThat(requiredArgumentException.getValidationMessage())
+        .isEqualTo(Validations.CODE_VALIDATION);
+    assertThat(sizeException.getParams()).isEqualTo(new Object[] {"A12345", 2, 5});
+    assertThat(patternException.getValidationMessage()).isEqualTo(Validations.CODE_VALIDATION);
+    assertThat(quantityException.getParams()).isEqualTo(new Object[] {101, 100});
+    assertThat(timestampException.getValidationMessage())
+        .isEqualTo(Validations.TIMESTAMP_VALIDATION);
+    assertThat(amountException.getValidationMessage()).isEqualTo(Validations.AMOUNT_VALIDATION);
+    assertThat(tagsException.getValidationMessage()).isEqualTo(Validations.TAGS_VALIDATION);
+  }
+
+  @Test
+  void testForType_PrivateFields_Success() {
+    Validator<Item> validator = ConstraintValidators.forType(Item.class);
+
+    assertThatCode(() -> validator.validate(new Item("A1", 1, 1.0))).doesNotThrowAnyException();
+    assertThatCode(() -> validator.validate(new Item("A1", null, 1.0))).doesNotThrowAnyException();
+  }
+
+  @Test
+  void testForType_PrivateFields_Error() {
+    Validator<Item> validator = ConstraintValidators.forType(Item.class);
+
+    RequiredArgumentException requiredArgumentException =
+        catchThrowableOfType(
+            () -> validator.validate(new Item(null, 1, 1.0)), RequiredArgumentException.class);
+    InvalidArgumentException quantityException =
+        catchThrowableOfType(
+            () -> validator.validate(new Item("A1", 0, 1.0)), InvalidArgumentException.class);
+    InvalidArgumentException amountException =
+        catchThrowableOfType(
+            () -> validator.validate(new Item("A1", 1, 0.0)), InvalidArgumentException.class);
+
+    assertThat(requiredArgumentException.getValidationMessage())
+        .isEqualTo(Validations.CODE_VALIDATION);
+    assertThat(quantityException.getParams()).isEqualTo(new Object[] {0, 1});
+    assertThat(amountException.getValidationMessage()).isEqualTo(Validations.AMOUNT_VALIDATION);
+  }
+
+  @Test
+  void testForType_Mixin_Success() {
+    Validator<Customer> validator =
+        ConstraintValidators.forType(Customer.class, CustomerConstraints.class);
+
+    assertThatCode(() -> validator.validate(new Customer("Any", 18))).doesNotThrowAnyException();
+    assertThat(ConstraintValidators.forType(Customer.class, CustomerConstraints.class))
+        .isSameAs(validator);
+  }
+
+  @Test
+  void testForType_Mixin_Error() {
+    Validator<Customer> validator =
+        ConstraintValidators.forType(Customer.class, CustomerConstraints.class);
+
+    RequiredArgumentException requiredArgumentException =
+        catchThrowableOfType(
+            () -> validator.validate(new Customer(null, 18)), RequiredArgumentException.class);
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(
+            () -> validator.validate(new Customer("Any", 17)), InvalidArgumentException.class);
+
+    assertThat(requiredArgumentException.getValidationMessage())
+        .isEqualTo(Validations.NAME_VALIDATION);
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {17, 18});
+  }
+
+  @Test
+  void testForType_InvalidConstraints() {
+    assertThatThrownBy(() -> ConstraintValidators.forType(Customer.class))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("@Validated");
+    assertThatThrownBy(() -> ConstraintValidators.forType(UnknownMessage.class))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("Message not declared by messages type: UNKNOWN");
+    assertThatThrownBy(() -> ConstraintValidators.forType(UnsupportedType.class))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("@NotBlank is not supported on primitive fields");
+    assertThatThrownBy(() -> ConstraintValidators.forType(Customer.class, UnknownProperty.class))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("Property email not found");
+  }
+
+  @Validated(messages = Validations.class)
+  public static final class Order {
+
+    @NotBlank(message = "CODE_VALIDATION")
+    @Size(min = 2, max = 5, message = "CODE_VALIDATION")
+    @Pattern(regexp = "[A-Z]\\d+", message = "CODE_VALIDATION")
+    private final String code;
+
+    @Min(value = 1, message = "QUANTITY_VALIDATION")
+    @Max(value = 100, message = "QUANTITY_VALIDATION")
+    private final short quantity;
+
+    @Positive(message = "TIMESTAMP_VALIDATION")
+    private final long timestamp;
+
+    @Positive(message = "AMOUNT_VALIDATION")
+    private final BigDecimal amount;
+
+    @Size(max = 2, message = "TAGS_VALIDATION")
+    private final List<String> tags;
+
+    Order(String code, short quantity, long timestamp, BigDecimal amount, List<String> tags) {
+      this.code = code;
+      this.quantity = quantity;
+      this.timestamp = timestamp;
+      this.amount = amount;
+      this.tags = tags;
+    }
+
+    public String getCode() {
+      return code;
+    }
+
+    public short getQuantity() {
+      return quantity;
+    }
+
+    public long getTimestamp() {
+      return timestamp;
+    }
+
+    public BigDecimal getAmount() {
+      return amount;
+    }
+
+    public List<String> getTags() {
+      return tags;
+    }
+  }
+
+  @Validated(messages = Validations.class)
+  private static final class Item {
+
+    @NotNull(message = "CODE_VALIDATION")
+    @Described(message = "{other.framework.message}")
+    private final String code;
+
+    @Min(value = 1, message = "QUANTITY_VALIDATION")
+    @Described(message = "{other.framework.message}")
+    private final Integer quantity;
+
+    @Positive(message = "AMOUNT_VALIDATION")
+    @Described(message = "{other.framework.message}")
+    private final double amount;
+
+    Item(String code, Integer quantity, double amount) {
+      this.code = code;
+      this.quantity = quantity;
+      this.amount = amount;
+    }
+  }
+
+  public static final class Customer {
+
+    private final String name;
+    private final int age;
+
+    Customer(String name, int age) {
+      this.name = name;
+      this.age = age;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public int getAge() {
+      return age;
+    }
+  }
+
+  @Validated(messages = Validations.class)
+  private abstract static class CustomerConstraints {
+
+    @NotBlank(message = "NAME_VALIDATION")
+    String name;
+
+    @Min(value = 18, message = "AGE_VALIDATION")
+    int age;
+  }
+
+  @Validated(messages = Validations.class)
+  private abstract static class UnknownProperty {
+
+    @NotNull(message = "NAME_VALIDATION")
+    String email;
+  }
+
+  @Validated(messages = Validations.class)
+  private static final class UnknownMessage {
+
+    @NotNull(message = "UNKNOWN")
+    String code;
+  }
+
+  @Validated(messages = Validations.class)
+  private static final class UnsupportedType {
+
+    @NotBlank(message = "CODE_VALIDATION")
+    int code;
+  }
+
+  @Retention(RetentionPolicy.RUNTIME)
+  @Target(ElementType.FIELD)
+  private @interface Described {
+
+    String message();
+  }
+
+  private enum Validations implements ValidationMessage {
+    CODE_VALIDATION("0", "Invalid code"),
+    QUANTITY_VALIDATION("1", "Invalid quantity"),
+    TIMESTAMP_VALIDATION("2", "Invalid timestamp"),
+    AMOUNT_VALIDATION("3", "Invalid amount"),
+    TAGS_VALIDATION("4", "Invalid tags"),
+    NAME_VALIDATION("5", "Invalid name"),
+    AGE_VALIDATION("6", "Invalid age");
+
+    private final String code;
+    private final String message;
+
+    Validations(String code, String message) {
+      this.code = code;
+      this.message = message;
+    }
+
+    @Override
+    public String getCode() {
+      return code;
+    }
+
+    @Override
+    public String getMessage() {
+      return message;
+    }
+  }
+}
@@ -0,0 +1,206 @@
+package br.com.leverinfo.validation.validator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+import br.com.leverinfo.validation.ValidationMessage;
+import br.com.leverinfo.validation.exception.InvalidArgumentException;
+import br.com.leverinfo.validation.exception.RequiredArgumentException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class DecisionTableTest {
+
+  private static final Validator<Customer> CNPJ_REQUIRED =
+      customer -> Validators.isNotBlank(Validations.CNPJ_VALIDATION).validate(customer.getCnpj());
+  private static final Validator<Customer> CPF_MUST_BE_NULL =
+      customer -> Validators.isNull(Validations.CPF_VALIDATION).validate(customer.getCpf());
+  private static final Validator<Customer> CPF_REQUIRED =
+      customer -> Validators.isNotBlank(Validations.CPF_VALIDATION).validate(customer.getCpf());
+  private static final Validator<Customer> INVALID_TYPE =
+      Validators.satisfies(customer -> false, Validations.TYPE_VALIDATION);
+
+  private static final DecisionTable<Customer> TABLE =
+      DecisionTable.forType(Customer.class)
+          .key(Customer::getType)
+          .key(Customer::getCountry)
+          .when("PJ", DecisionTable.ANY)
+          .then(CNPJ_REQUIRED, CPF_MUST_BE_NULL)
+          .when("PF", "BR")
+          .then(CPF_REQUIRED)
+          .when("PF", DecisionTable.ANY)
+          .then(customer -> {})
+          .otherwise(INVALID_TYPE)
+          .build();
+
+  @Test
+  void testValidate_Success() {
+    assertThatCode(() -> TABLE.validate(new Customer("PJ", "BR", null, "1")))
+        .doesNotThrowAnyException();
+    assertThatCode(() -> TABLE.validate(new Customer("PJ", null, null, "1")))
+        .doesNotThrowAnyException();
+    assertThatCode(() -> TABLE.validate(new Customer("PF", "BR", "1", null)))
+        .doesNotThrowAnyException();
+    assertThatCode(() -> TABLE.validate(new Customer("PF", "PT", null, null)))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testValidate_Error() {
+    RequiredArgumentException cnpjException =
+        catchThrowableOfType(
+            () -> TABLE.validate(new Customer("PJ", "PT", null, null)),
+            RequiredArgumentException.class);
+    InvalidArgumentException cpfException =
+        catchThrowableOfType(
+            () -> TABLE.validate(new Customer("PJ", "PT", "1", "1")),
+            InvalidArgumentException.class);
+    RequiredArgumentException brazilianCpfException =
+        catchThrowableOfType(
+            () -> TABLE.validate(new Customer("PF", "BR", null, null)),
+            RequiredArgumentException.class);
+    InvalidArgumentException typeException =
+        catchThrowableOfType(
+            () -> TABLE.validate(new Customer(null, "BR", null, null)),
+            InvalidArgumentException.class);
+
+    assertThat(cnpjException.getValidationMessage()).isEqualTo(Validations.CNPJ_VALIDATION);
+    assertThat(cpfException.getValidationMessage()).isEqualTo(Validations.CPF_VALIDATION);
+    assertThat(brazilianCpfException.getValidationMessage()).isEqualTo(Validations.CPF_VALIDATION);
+    assertThat(typeException.getValidationMessage()).isEqualTo(Validations.TYPE_VALIDATION);
+  }
+
+  @Test
+  void testValidate_OnlyApplicableRules() {
+    AtomicInteger pjCalls = new AtomicInteger();
+    AtomicInteger pfCalls = new AtomicInteger();
+    AtomicInteger anyCalls = new AtomicInteger();
+    DecisionTable<Customer> table =
+        DecisionTable.forType(Customer.class)
+            .key(Customer::getType)
+            .when("PJ")
+            .then(customer -> pjCalls.incrementAndGet())
+            .when(DecisionTable.ANY)
+            .then(customer -> anyCalls.incrementAndGet())
+            .when("PF")
+            .then(customer -> pfCalls.incrementAndGet())
+            .build();
+
+    table.validate(new Customer("PJ", null, null, null));
+    table.validate(new Customer("XX", null, null, null));
+
+    assertThat(pjCalls.get()).isEqualTo(1);
+    assertThat(pfCalls.get()).isZero();
+    assertThat(anyCalls.get()).isEqualTo(2);
+  }
+
+  @Test
+  void testBuild_ManyKeys() {
+    List<Integer> applied = new ArrayList<>();
+    DecisionTable.Builder<int[]> builder = DecisionTable.forType(int[].class);
+    for (int key = 0; key < 12; key++) {
+      int index = key;
+      builder.key(values -> values[index]);
+    }
+    int rows = 0;
+    for (int key = 0; key < 12; key++) {
+      for (int value = 0; value < 8; value++) {
+        Object[] values = new Object[12];
+        Arrays.fill(values, DecisionTable.ANY);
+        values[key] = value;
+        int row = rows++;
+        builder.when(values).then(object -> applied.add(row));
+      }
+    }
+    DecisionTable<int[]> table = builder.build();
+    int[] object = new int[12];
+    Arrays.fill(object, -1);
+    object[2] = 3;
+    object[7] = 5;
+
+    table.validate(object);
+
+    assertThat(table.nodes()).isLessThanOrEqualTo(rows * 12 + 1);
+    assertThat(applied).containsExactly(2 * 8 + 3, 7 * 8 + 5);
+  }
+
+  @Test
+  void testBuild_Error() {
+    assertThatThrownBy(() -> DecisionTable.forType(Customer.class).build())
+        .isInstanceOf(IllegalStateException.class);
+    assertThatThrownBy(() -> DecisionTable.forType(Customer.class).key(Customer::getType).when())
+        .isInstanceOf(IllegalArgumentException.class);
+    DecisionTable.Builder<Customer> builder =
+        DecisionTable.forType(Customer.class).key(Customer::getType);
+    builder.when("PJ");
+    assertThatThrownBy(builder::build).isInstanceOf(IllegalStateException.class);
+    assertThatThrownBy(
+            () ->
+                DecisionTable.forType(Customer.class)
+                    .key(Customer::getType)
+                    .when("PJ")
+                    .then(CNPJ_REQUIRED)
+                    .key(Customer::getCountry))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  private static final class Customer {
+
+    private final String type;
+    private final String country;
+    private final String cpf;
+    private final String cnpj;
+
+    Customer(String type, String country, String cpf, String cnpj) {
+      this.type = type;
+      this.country = country;
+      this.cpf = cpf;
+      this.cnpj = cnpj;
+    }
+
+    String getType() {
+      return type;
+    }
+
+    String getCountry() {
+      return country;
+    }
+
+    String getCpf() {
+      return cpf;
+    }
+
+    String getCnpj() {
+      return cnpj;
+    }
+  }
+
+  private enum Validations implements ValidationMessage {
+    TYPE_VALIDATION("0", "Invalid type"),
+    CPF_VALIDATION("1", "Invalid CPF"),
+    CNPJ_VALIDATION("2", "Invalid CNPJ");
+
+    private final String code;
+    private final String message;
+
+    Validations(String code, String message) {
+      this.code = code;
+      this.message = message;
+    }
+
+    @Override
+    public String getCode() {
+      return code;
+    }
+
+    @Override
+    public String getMessage() {
+      return message;
+    }
+  }
+}
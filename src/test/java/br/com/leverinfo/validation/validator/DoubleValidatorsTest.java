@@ -0,0 +1,122 @@
+package br.com.leverinfo.validation.validator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+import br.com.leverinfo.validation.ValidationMessage;
+import br.com.leverinfo.validation.exception.InvalidArgumentException;
+import org.junit.jupiter.api.Test;
+
+class DoubleValidatorsTest {
+
+  @Test
+  void testIsEqualTo_Success() {
+    assertThatCode(
+            () ->
+                DoubleValidators.isEqualTo(Double.NaN, Validations.ANY_VALIDATION)
+                    .validate(Double.NaN))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testIsEqualTo_Error() {
+    DoubleValidator validator = DoubleValidators.isEqualTo(0.0, Validations.ANY_VALIDATION);
+
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(() -> validator.validate(-0.0), InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {-0.0, 0.0});
+  }
+
+  @Test
+  void testIsGreaterThanZero_Success() {
+    assertThatCode(
+            () -> DoubleValidators.isGreaterThanZero(Validations.ANY_VALIDATION).validate(0.1))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testIsGreaterThanZero_Error() {
+    DoubleValidator validator = DoubleValidators.isGreaterThanZero(Validations.ANY_VALIDATION);
+
+    assertThat(catchThrowableOfType(() -> validator.validate(0.0), InvalidArgumentException.class))
+        .isNotNull();
+  }
+
+  @Test
+  void testIsBetween_Success() {
+    DoubleValidator validator = DoubleValidators.isBetween(1.0, 10.0, Validations.ANY_VALIDATION);
+
+    assertThatCode(() -> validator.validate(1.0)).doesNotThrowAnyException();
+    assertThatCode(() -> validator.validate(10.0)).doesNotThrowAnyException();
+  }
+
+  @Test
+  void testIsBetween_Float_Success() {
+    float value = 5.5f;
+
+    assertThatCode(
+            () -> DoubleValidators.isBetween(1.0, 10.0, Validations.ANY_VALIDATION).validate(value))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testIsBetween_Error() {
+    DoubleValidator validator = DoubleValidators.isBetween(1.0, 10.0, Validations.ANY_VALIDATION);
+
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(() -> validator.validate(10.5), InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {10.5, 1.0, 10.0});
+  }
+
+  @Test
+  void testAllOf_Error() {
+    DoubleValidator validator =
+        DoubleValidators.allOf(
+            DoubleValidators.satisfies(Double::isFinite, Validations.ANY_VALIDATION),
+            DoubleValidators.isGreaterThanOrEqualToZero(Validations.ANY_VALIDATION));
+
+    assertThatCode(() -> validator.validate(0.0)).doesNotThrowAnyException();
+    assertThat(
+            catchThrowableOfType(
+                () -> validator.validate(Double.POSITIVE_INFINITY), InvalidArgumentException.class))
+        .isNotNull();
+    assertThat(catchThrowableOfType(() -> validator.validate(-0.1), InvalidArgumentException.class))
+        .isNotNull();
+  }
+
+  @Test
+  void testAnyOf_Error() {
+    DoubleValidator validator =
+        DoubleValidators.isLessThan(0.0, Validations.ANY_VALIDATION)
+            .or(DoubleValidators.isGreaterThan(1.0, Validations.ANY_VALIDATION));
+
+    assertThatCode(() -> validator.validate(1.5)).doesNotThrowAnyException();
+    assertThat(catchThrowableOfType(() -> validator.validate(0.5), InvalidArgumentException.class))
+        .isNotNull();
+  }
+
+  private enum Validations implements ValidationMessage {
+    ANY_VALIDATION("0", "Any validation message");
+
+    private final String code;
+    private final String message;
+
+    Validations(String code, String message) {
+      this.code = code;
+      this.message = message;
+    }
+
+    @Override
+    public String getCode() {
+      return code;
+    }
+
+    @Override
+    public String getMessage() {
+      return message;
+    }
+  }
+}
@@ -0,0 +1,173 @@
+package br.com.leverinfo.validation.validator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+import br.com.leverinfo.validation.ValidationMessage;
+import br.com.leverinfo.validation.exception.InvalidArgumentException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class GraphValidatorTest {
+
+  @Test
+  void testValidate_Success() {
+    List<String> visited = new ArrayList<>();
+    GraphValidator<Order> validator =
+        GraphValidator.forType(Order.class)
+            .node(Order.class, order -> visited.add(order.code), Order::getItems)
+            .node(Item.class, item -> visited.add(item.code), Item::getItems)
+            .build();
+    Item shared = new Item("I3");
+    Order order =
+        new Order(
+            "O1",
+            new Item("I1", new Item("I1.1"), shared, null),
+            new Item("I2", shared),
+            new Item("I4"));
+
+    assertThatCode(() -> validator.validate(order)).doesNotThrowAnyException();
+    assertThatCode(() -> validator.validate(null)).doesNotThrowAnyException();
+
+    assertThat(visited).containsExactly("O1", "I1", "I1.1", "I3", "I2", "I4");
+  }
+
+  @Test
+  void testValidate_Error() {
+    GraphValidator<Order> validator =
+        GraphValidator.forType(Order.class)
+            .node(Order.class, order -> {}, Order::getItems)
+            .node(
+                Item.class,
+                item -> Validators.hasSize(2, Validations.ANY_VALIDATION).validate(item.code),
+                Item::getItems)
+            .build();
+
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(
+            () -> validator.validate(new Order("O1", new Item("I1", new Item("I1.1")))),
+            InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {"I1.1", 2});
+  }
+
+  @Test
+  void testValidate_DeepAndCyclicGraph() {
+    GraphValidator<Item> validator =
+        GraphValidator.forType(Item.class).node(Item.class, item -> {}, Item::getItems).build();
+    Item root = new Item("0");
+    Item current = root;
+    for (int i = 1; i < 100_000; i++) {
+      Item next = new Item(String.valueOf(i));
+      current.items.add(next);
+      current = next;
+    }
+    current.items.add(root);
+
+    assertThatCode(() -> validator.validate(root)).doesNotThrowAnyException();
+  }
+
+  @Test
+  void testValidate_Budgets() {
+    GraphValidator<Item> depthValidator =
+        GraphValidator.forType(Item.class)
+            .node(Item.class, item -> {}, Item::getItems)
+            .maxDepth(1, Validations.DEPTH_VALIDATION)
+            .build();
+    GraphValidator<Item> nodesValidator =
+        GraphValidator.forType(Item.class)
+            .node(Item.class, item -> {}, Item::getItems)
+            .maxNodes(2, Validations.NODES_VALIDATION)
+            .build();
+
+    InvalidArgumentException depthException =
+        catchThrowableOfType(
+            () -> depthValidator.validate(new Item("0", new Item("1", new Item("2")))),
+            InvalidArgumentException.class);
+    InvalidArgumentException nodesException =
+        catchThrowableOfType(
+            () -> nodesValidator.validate(new Item("0", new Item("1"), new Item("2"))),
+            InvalidArgumentException.class);
+
+    assertThat(depthException.getValidationMessage()).isEqualTo(Validations.DEPTH_VALIDATION);
+    assertThat(depthException.getParams()).isEqualTo(new Object[] {1});
+    assertThat(nodesException.getValidationMessage()).isEqualTo(Validations.NODES_VALIDATION);
+    assertThat(nodesException.getParams()).isEqualTo(new Object[] {2});
+    assertThatCode(() -> depthValidator.validate(new Item("0", new Item("1"))))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testBuild_Error() {
+    assertThatThrownBy(
+            () ->
+                GraphValidator.forType(Item.class)
+                    .node(Item.class, item -> {})
+                    .node(Item.class, item -> {}))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(
+            () -> GraphValidator.forType(Item.class).maxDepth(-1, Validations.DEPTH_VALIDATION))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(
+            () -> GraphValidator.forType(Item.class).maxNodes(0, Validations.NODES_VALIDATION))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static final class Order {
+
+    private final String code;
+    private final List<Item> items;
+
+    Order(String code, Item... items) {
+      this.code = code;
+      this.items = Arrays.asList(items);
+    }
+
+    List<Item> getItems() {
+      return items;
+    }
+  }
+
+  private static final class Item {
+
+    private final String code;
+    private final List<Item> items;
+
+    Item(String code, Item... items) {
+      this.code = code;
+      this.items = new ArrayList<>(Arrays.asList(items));
+    }
+
+    List<Item> getItems() {
+      return items;
+    }
+  }
+
+  private enum Validations implements ValidationMessage {
+    ANY_VALIDATION("0", "Any validation message"),
+    DEPTH_VALIDATION("1", "Graph is too deep"),
+    NODES_VALIDATION("2", "Graph is too large");
+
+    private final String code;
+    private final String message;
+
+    Validations(String code, String message) {
+      this.code = code;
+      this.message = message;
+    }
+
+    @Override
+    public String getCode() {
+      return code;
+    }
+
+    @Override
+    public String getMessage() {
+      return message;
+    }
+  }
+}
@@ -0,0 +1,314 @@
+package br.com.leverinfo.validation.validator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+import br.com.leverinfo.validation.ValidationMessage;
+import br.com.leverinfo.validation.exception.InvalidArgumentException;
+import org.junit.jupiter.api.Test;
+
+class IntValidatorsTest {
+
+  @Test
+  void testIsEqualTo_Success() {
+    assertThatCode(() -> IntValidators.isEqualTo(1, Validations.ANY_VALIDATION).validate(1))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testIsEqualTo_Error() {
+    IntValidator validator = IntValidators.isEqualTo(1, Validations.ANY_VALIDATION);
+
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(() -> validator.validate(2), InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getValidationMessage())
+        .isEqualTo(Validations.ANY_VALIDATION);
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {2, 1});
+  }
+
+  @Test
+  void testIsNotEqualTo_Success() {
+    assertThatCode(() -> IntValidators.isNotEqualTo(1, Validations.ANY_VALIDATION).validate(2))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testIsNotEqualTo_Error() {
+    IntValidator validator = IntValidators.isNotEqualTo(1, Validations.ANY_VALIDATION);
+
+    assertThat(catchThrowableOfType(() -> validator.validate(1), InvalidArgumentException.class))
+        .isNotNull();
+  }
+
+  @Test
+  void testIsNotEqualToZero_Success() {
+    assertThatCode(() -> IntValidators.isNotEqualToZero(Validations.ANY_VALIDATION).validate(-1))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testIsNotEqualToZero_Error() {
+    IntValidator validator = IntValidators.isNotEqualToZero(Validations.ANY_VALIDATION);
+
+    assertThat(catchThrowableOfType(() -> validator.validate(0), InvalidArgumentException.class))
+        .isNotNull();
+  }
+
+  @Test
+  void testIsLessThan_Success() {
+    assertThatCode(() -> IntValidators.isLessThan(1, Validations.ANY_VALIDATION).validate(0))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testIsLessThan_Error() {
+    IntValidator validator = IntValidators.isLessThan(1, Validations.ANY_VALIDATION);
+
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(() -> validator.validate(1), InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {1, 1});
+  }
+
+  @Test
+  void testIsLessThanZero_Success() {
+    assertThatCode(() -> IntValidators.isLessThanZero(Validations.ANY_VALIDATION).validate(-1))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testIsLessThanZero_Error() {
+    IntValidator validator = IntValidators.isLessThanZero(Validations.ANY_VALIDATION);
+
+    assertThat(catchThrowableOfType(() -> validator.validate(0), InvalidArgumentException.class))
+        .isNotNull();
+  }
+
+  @Test
+  void testIsLessThanOrEqualTo_Success() {
+    assertThatCode(
+            () -> IntValidators.isLessThanOrEqualTo(1, Validations.ANY_VALIDATION).validate(1))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testIsLessThanOrEqualTo_Error() {
+    IntValidator validator = IntValidators.isLessThanOrEqualTo(1, Validations.ANY_VALIDATION);
+
+    assertThat(catchThrowableOfType(() -> validator.validate(2), InvalidArgumentException.class))
+        .isNotNull();
+  }
+
+  @Test
+  void testIsLessThanOrEqualToZero_Success() {
+    assertThatCode(
+            () -> IntValidators.isLessThanOrEqualToZero(Validations.ANY_VALIDATION).validate(0))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testIsLessThanOrEqualToZero_Error() {
+    IntValidator validator = IntValidators.isLessThanOrEqualToZero(Validations.ANY_VALIDATION);
+
+    assertThat(catchThrowableOfType(() -> validator.validate(1), InvalidArgumentException.class))
+        .isNotNull();
+  }
+
+  @Test
+  void testIsGreaterThan_Success() {
+    assertThatCode(() -> IntValidators.isGreaterThan(1, Validations.ANY_VALIDATION).validate(2))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testIsGreaterThan_Error() {
+    IntValidator validator = IntValidators.isGreaterThan(1, Validations.ANY_VALIDATION);
+
+    assertThat(catchThrowableOfType(() -> validator.validate(1), InvalidArgumentException.class))
+        .isNotNull();
+  }
+
+  @Test
+  void testIsGreaterThanZero_Success() {
+    assertThatCode(() -> IntValidators.isGreaterThanZero(Validations.ANY_VALIDATION).validate(1))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testIsGreaterThanZero_Error() {
+    IntValidator validator = IntValidators.isGreaterThanZero(Validations.ANY_VALIDATION);
+
+    assertThat(catchThrowableOfType(() -> validator.validate(0), InvalidArgumentException.class))
+        .isNotNull();
+  }
+
+  @Test
+  void testIsGreaterThanOrEqualTo_Success() {
+    assertThatCode(
+            () -> IntValidators.isGreaterThanOrEqualTo(1, Validations.ANY_VALIDATION).validate(1))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testIsGreaterThanOrEqualTo_Error() {
+    IntValidator validator = IntValidators.isGreaterThanOrEqualTo(1, Validations.ANY_VALIDATION);
+
+    assertThat(catchThrowableOfType(() -> validator.validate(0), InvalidArgumentException.class))
+        .isNotNull();
+  }
+
+  @Test
+  void testIsGreaterThanOrEqualToZero_Success() {
+    assertThatCode(
+            () -> IntValidators.isGreaterThanOrEqualToZero(Validations.ANY_VALIDATION).validate(0))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testIsGreaterThanOrEqualToZero_Error() {
+    IntValidator validator = IntValidators.isGreaterThanOrEqualToZero(Validations.ANY_VALIDATION);
+
+    assertThat(catchThrowableOfType(() -> validator.validate(-1), InvalidArgumentException.class))
+        .isNotNull();
+  }
+
+  @Test
+  void testIsBetween_Success() {
+    IntValidator validator = IntValidators.isBetween(1, 10, Validations.ANY_VALIDATION);
+
+    assertThatCode(() -> validator.validate(1)).doesNotThrowAnyException();
+    assertThatCode(() -> validator.validate(10)).doesNotThrowAnyException();
+  }
+
+  @Test
+  void testIsBetween_Error() {
+    IntValidator validator = IntValidators.isBetween(1, 10, Validations.ANY_VALIDATION);
+
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(() -> validator.validate(11), InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {11, 1, 10});
+  }
+
+  @Test
+  void testIsBetween_Short_Success() {
+    short value = 5;
+
+    assertThatCode(() -> IntValidators.isBetween(1, 10, Validations.ANY_VALIDATION).validate(value))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testSatisfies_Success() {
+    assertThatCode(
+            () ->
+                IntValidators.satisfies(value -> value % 2 == 0, Validations.ANY_VALIDATION)
+                    .validate(2))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testSatisfies_Error() {
+    IntValidator validator =
+        IntValidators.satisfies(value -> value % 2 == 0, Validations.ANY_VALIDATION);
+
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(() -> validator.validate(3), InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {3});
+  }
+
+  @Test
+  void testAllOf_Success() {
+    IntValidator validator =
+        IntValidators.isGreaterThanZero(Validations.ANY_VALIDATION)
+            .and(IntValidators.isLessThan(10, Validations.ANY_VALIDATION));
+
+    assertThatCode(() -> validator.validate(5)).doesNotThrowAnyException();
+  }
+
+  @Test
+  void testAllOf_Error() {
+    IntValidator validator =
+        IntValidators.allOf(
+            IntValidators.isGreaterThanZero(Validations.ANY_VALIDATION),
+            IntValidators.isLessThan(10, Validations.ANY_VALIDATION));
+
+    assertThat(catchThrowableOfType(() -> validator.validate(0), InvalidArgumentException.class))
+        .isNotNull();
+    assertThat(catchThrowableOfType(() -> validator.validate(10), InvalidArgumentException.class))
+        .isNotNull();
+  }
+
+  @Test
+  void testAnyOf_Success() {
+    IntValidator validator =
+        IntValidators.isLessThanZero(Validations.ANY_VALIDATION)
+            .or(IntValidators.isGreaterThan(10, Validations.ANY_VALIDATION));
+
+    assertThatCode(() -> validator.validate(-1)).doesNotThrowAnyException();
+    assertThatCode(() -> validator.validate(11)).doesNotThrowAnyException();
+  }
+
+  @Test
+  void testAnyOf_Error() {
+    IntValidator validator =
+        IntValidators.isLessThanZero(Validations.ANY_VALIDATION)
+            .or(IntValidators.isGreaterThan(10, Validations.ANY_VALIDATION))
+            .or(IntValidators.isEqualTo(5, Validations.ANY_VALIDATION));
+
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(() -> validator.validate(1), InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {1});
+    assertThat(invalidArgumentException.getSuppressed()).hasSize(2);
+  }
+
+  @Test
+  void testAnyOf_Empty() {
+    assertThatThrownBy(IntValidators::anyOf).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void testWhen_Success() {
+    IntValidator validator =
+        IntValidators.isLessThan(10, Validations.ANY_VALIDATION).when(value -> value % 2 == 0);
+
+    assertThatCode(() -> validator.validate(11)).doesNotThrowAnyException();
+  }
+
+  @Test
+  void testWhen_Error() {
+    IntValidator validator =
+        IntValidators.when(
+            value -> value % 2 == 0, IntValidators.isLessThan(10, Validations.ANY_VALIDATION));
+
+    assertThat(catchThrowableOfType(() -> validator.validate(12), InvalidArgumentException.class))
+        .isNotNull();
+  }
+
+  private enum Validations implements ValidationMessage {
+    ANY_VALIDATION("0", "Any validation message");
+
+    private final String code;
+    private final String message;
+
+    Validations(String code, String message) {
+      this.code = code;
+      this.message = message;
+    }
+
+    @Override
+    public String getCode() {
+      return code;
+    }
+
+    @Override
+    public String getMessage() {
+      return message;
+    }
+  }
+}
@@ -0,0 +1,112 @@
+package br.com.leverinfo.validation.validator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+import br.com.leverinfo.validation.ValidationMessage;
+import br.com.leverinfo.validation.exception.InvalidArgumentException;
+import org.junit.jupiter.api.Test;
+
+class LongValidatorsTest {
+
+  @Test
+  void testIsNotEqualToZero_Success() {
+    assertThatCode(() -> LongValidators.isNotEqualToZero(Validations.ANY_VALIDATION).validate(-1L))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testIsNotEqualToZero_Error() {
+    LongValidator validator = LongValidators.isNotEqualToZero(Validations.ANY_VALIDATION);
+
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(() -> validator.validate(0L), InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {0L});
+  }
+
+  @Test
+  void testIsGreaterThanOrEqualTo_Success() {
+    assertThatCode(
+            () ->
+                LongValidators.isGreaterThanOrEqualTo(Integer.MAX_VALUE, Validations.ANY_VALIDATION)
+                    .validate(Long.MAX_VALUE))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testIsGreaterThanOrEqualTo_Error() {
+    LongValidator validator =
+        LongValidators.isGreaterThanOrEqualTo(Integer.MAX_VALUE, Validations.ANY_VALIDATION);
+
+    assertThat(catchThrowableOfType(() -> validator.validate(0L), InvalidArgumentException.class))
+        .isNotNull();
+  }
+
+  @Test
+  void testIsBetween_Success() {
+    LongValidator validator = LongValidators.isBetween(1L, 10L, Validations.ANY_VALIDATION);
+
+    assertThatCode(() -> validator.validate(1L)).doesNotThrowAnyException();
+    assertThatCode(() -> validator.validate(10L)).doesNotThrowAnyException();
+  }
+
+  @Test
+  void testIsBetween_Error() {
+    LongValidator validator = LongValidators.isBetween(1L, 10L, Validations.ANY_VALIDATION);
+
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(() -> validator.validate(11L), InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {11L, 1L, 10L});
+  }
+
+  @Test
+  void testAllOf_Error() {
+    LongValidator validator =
+        LongValidators.isGreaterThanZero(Validations.ANY_VALIDATION)
+            .and(LongValidators.isLessThanOrEqualTo(10L, Validations.ANY_VALIDATION))
+            .when(value -> value != -1L);
+
+    assertThatCode(() -> validator.validate(-1L)).doesNotThrowAnyException();
+    assertThat(catchThrowableOfType(() -> validator.validate(0L), InvalidArgumentException.class))
+        .isNotNull();
+    assertThat(catchThrowableOfType(() -> validator.validate(11L), InvalidArgumentException.class))
+        .isNotNull();
+  }
+
+  @Test
+  void testAnyOf_Error() {
+    LongValidator validator =
+        LongValidators.anyOf(
+            LongValidators.isLessThanZero(Validations.ANY_VALIDATION),
+            LongValidators.satisfies(value -> value % 2 == 0, Validations.ANY_VALIDATION));
+
+    assertThatCode(() -> validator.validate(2L)).doesNotThrowAnyException();
+    assertThat(catchThrowableOfType(() -> validator.validate(3L), InvalidArgumentException.class))
+        .isNotNull();
+  }
+
+  private enum Validations implements ValidationMessage {
+    ANY_VALIDATION("0", "Any validation message");
+
+    private final String code;
+    private final String message;
+
+    Validations(String code, String message) {
+      this.code = code;
+      this.message = message;
+    }
+
+    @Override
+    public String getCode() {
+      return code;
+    }
+
+    @Override
+    public String getMessage() {
+      return message;
+    }
+  }
+}
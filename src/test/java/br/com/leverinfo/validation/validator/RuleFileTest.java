@@ -0,0 +1,143 @@
+package br.com.leverinfo.validation.validator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import br.com.leverinfo.validation.ValidationMessage;
+import br.com.leverinfo.validation.exception.InvalidArgumentException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RuleFileTest {
+
+  @TempDir Path directory;
+
+  @Test
+  void testReload_Success() throws IOException {
+    Path file = write("rules.properties", "quantity.isBetween = 0 1,10\n");
+
+    try (RuleFile ruleFile = RuleFile.watch(file, Validations.class)) {
+      Validator<Object> validator = ruleFile.validator("quantity");
+      assertThatThrownBy(() -> validator.validate(20)).isInstanceOf(InvalidArgumentException.class);
+
+      write("rules.properties", "quantity.isBetween = 0 1,100\n");
+      ruleFile.reload();
+
+      assertThatCode(() -> validator.validate(20)).doesNotThrowAnyException();
+    }
+  }
+
+  @Test
+  void testReload_Error() throws IOException {
+    Path file = write("rules.properties", "quantity.isBetween = 0 1,10\n");
+
+    try (RuleFile ruleFile = RuleFile.watch(file, Validations.class)) {
+      RuleSet rules = ruleFile.current();
+      write("rules.properties", "quantity.isBetween = 9 1,100\n");
+
+      assertThatThrownBy(ruleFile::reload).isInstanceOf(IllegalArgumentException.class);
+      assertThat(ruleFile.current()).isSameAs(rules);
+    }
+  }
+
+  @Test
+  void testReload_DroppedRules_Error() throws IOException {
+    Path file = write("rules.properties", "quantity.isBetween = 0 1,10\nname.isNotBlank = 0\n");
+
+    try (RuleFile ruleFile = RuleFile.watch(file, Validations.class)) {
+      RuleSet rules = ruleFile.current();
+
+      write("rules.properties", "");
+      assertThatThrownBy(ruleFile::reload)
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("[name, quantity]");
+      write("rules.properties", "quantity.isBetween = 0 1,100\nnome.isNotBlank = 0\n");
+      assertThatThrownBy(ruleFile::reload)
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("[name]");
+      assertThat(ruleFile.current()).isSameAs(rules);
+
+      write(
+          "rules.properties",
+          "quantity.isBetween = 0 1,100\nname.isNotBlank = 0\ncode.isNotNull = 0\n");
+      ruleFile.reload();
+      assertThat(ruleFile.current().names()).containsExactlyInAnyOrder("quantity", "name", "code");
+    }
+  }
+
+  @Test
+  void testWatch_Error() throws Exception {
+    Path file = write("rules.properties", "quantity.isBetween = 0 1,10\n");
+    List<Exception> errors = new CopyOnWriteArrayList<>();
+
+    assertThatThrownBy(() -> RuleFile.watch(write("empty.properties", ""), Validations.class))
+        .isInstanceOf(IllegalArgumentException.class);
+
+    try (RuleFile ruleFile = RuleFile.watch(file, Validations.class, errors::add)) {
+      RuleSet rules = ruleFile.current();
+      Path replacement = write("rules.tmp", "# Truncated\n");
+      Files.move(replacement, file, StandardCopyOption.REPLACE_EXISTING);
+
+      for (int i = 0; i < 200 && errors.isEmpty(); i++) {
+        Thread.sleep(50);
+      }
+
+      assertThat(errors).isNotEmpty().allMatch(IllegalArgumentException.class::isInstance);
+      assertThat(ruleFile.current()).isSameAs(rules);
+    }
+  }
+
+  @Test
+  void testWatch_Success() throws Exception {
+    Path file = write("rules.properties", "quantity.isBetween = 0 1,10\n");
+    List<Exception> errors = new CopyOnWriteArrayList<>();
+
+    try (RuleFile ruleFile = RuleFile.watch(file, Validations.class, errors::add)) {
+      RuleSet rules = ruleFile.current();
+      Path replacement = write("rules.tmp", "quantity.isBetween = 0 1,100\n");
+      Files.move(replacement, file, StandardCopyOption.REPLACE_EXISTING);
+
+      for (int i = 0; i < 200 && ruleFile.current() == rules; i++) {
+        Thread.sleep(50);
+      }
+
+      assertThat(ruleFile.current()).isNotSameAs(rules);
+      assertThatCode(() -> ruleFile.validator("quantity").validate(20)).doesNotThrowAnyException();
+      assertThat(errors).isEmpty();
+    }
+  }
+
+  private Path write(String name, String content) throws IOException {
+    return Files.write(directory.resolve(name), content.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private enum Validations implements ValidationMessage {
+    ANY_VALIDATION("0", "Any validation message");
+
+    private final String code;
+    private final String message;
+
+    Validations(String code, String message) {
+      this.code = code;
+      this.message = message;
+    }
+
+    @Override
+    public String getCode() {
+      return code;
+    }
+
+    @Override
+    public String getMessage() {
+      return message;
+    }
+  }
+}
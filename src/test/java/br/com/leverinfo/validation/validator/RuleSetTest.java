@@ -0,0 +1,167 @@
+package br.com.leverinfo.validation.validator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+import br.com.leverinfo.validation.ValidationMessage;
+import br.com.leverinfo.validation.exception.InvalidArgumentException;
+import br.com.leverinfo.validation.exception.RequiredArgumentException;
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+class RuleSetTest {
+
+  private static final String RULES =
+      "# Order rules\n"
+          + "code.isNotBlank = 0\n"
+          + "code.hasSizeBetween = 1 2,5\n"
+          + "code.matchesPattern = 1 [A-Z]\\\\d+\n"
+          + "quantity.isBetween = 2 1, 100\n"
+          + "amount.isGreaterThanOrEqualTo = 2 0.5\n"
+          + "tags.hasSize = 3 2\n"
+          + "country.isIn = 3 BR, PT, US\n";
+
+  @Test
+  void testParse_Success() throws IOException {
+    RuleSet rules = RuleSet.parse(new StringReader(RULES), Validations.class);
+
+    assertThat(rules.names())
+        .containsExactlyInAnyOrder("code", "quantity", "amount", "tags", "country");
+    assertThatCode(
+            () -> {
+              rules.validator("code").validate("A12");
+              rules.validator("quantity").validate(100);
+              rules.validator("quantity").validate(null);
+              rules.validator("amount").validate(new BigDecimal("0.5"));
+              rules.validator("amount").validate(0.5);
+              rules.validator("tags").validate(Arrays.asList("a", "b"));
+              rules.validator("country").validate("PT");
+            })
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testParse_Error() throws IOException {
+    RuleSet rules = RuleSet.parse(new StringReader(RULES), Validations.class);
+
+    RequiredArgumentException requiredArgumentException =
+        catchThrowableOfType(
+            () -> rules.validator("code").validate(null), RequiredArgumentException.class);
+    InvalidArgumentException sizeException =
+        catchThrowableOfType(
+            () -> rules.validator("code").validate("A12345"), InvalidArgumentException.class);
+    InvalidArgumentException patternException =
+        catchThrowableOfType(
+            () -> rules.validator("code").validate("AB"), InvalidArgumentException.class);
+    InvalidArgumentException quantityException =
+        catchThrowableOfType(
+            () -> rules.validator("quantity").validate(101), InvalidArgumentException.class);
+    InvalidArgumentException longQuantityException =
+        catchThrowableOfType(
+            () -> rules.validator("quantity").validate(0L), InvalidArgumentException.class);
+    InvalidArgumentException amountException =
+        catchThrowableOfType(
+            () -> rules.validator("amount").validate(new BigDecimal("0.4")),
+            InvalidArgumentException.class);
+    InvalidArgumentException countryException =
+        catchThrowableOfType(
+            () -> rules.validator("country").validate("AR"), InvalidArgumentException.class);
+
+    assertThat(requiredArgumentException.getValidationMessage())
+        .isEqualTo(Validations.REQUIRED_VALIDATION);
+    assertThat(sizeException.getParams()).isEqualTo(new Object[] {"A12345", 2, 5});
+    assertThat(patternException.getValidationMessage()).isEqualTo(Validations.CODE_VALIDATION);
+    assertThat(quantityException.getParams()).isEqualTo(new Object[] {101, 1, 100});
+    assertThat(longQuantityException.getParams()).isEqualTo(new Object[] {0L, 1L, 100L});
+    assertThat(amountException.getValidationMessage()).isEqualTo(Validations.NUMBER_VALIDATION);
+    assertThat(countryException.getParams()).isEqualTo(new Object[] {"AR"});
+  }
+
+  @Test
+  void testParse_WrongTypes_Error() throws IOException {
+    RuleSet rules = parse(RULES);
+
+    InvalidArgumentException codeException =
+        catchThrowableOfType(
+            () -> rules.validator("code").validate(12), InvalidArgumentException.class);
+    InvalidArgumentException tagsException =
+        catchThrowableOfType(
+            () -> rules.validator("tags").validate(new Object[] {"a", "b"}),
+            InvalidArgumentException.class);
+    InvalidArgumentException quantityException =
+        catchThrowableOfType(
+            () -> rules.validator("quantity").validate("ten"), InvalidArgumentException.class);
+    InvalidArgumentException stringQuantityException =
+        catchThrowableOfType(
+            () -> rules.validator("quantity").validate("10"), InvalidArgumentException.class);
+
+    assertThat(codeException.getValidationMessage()).isEqualTo(Validations.REQUIRED_VALIDATION);
+    assertThat(codeException.getParams()).isEqualTo(new Object[] {12});
+    assertThat(tagsException.getValidationMessage()).isEqualTo(Validations.OTHER_VALIDATION);
+    assertThat(quantityException.getValidationMessage()).isEqualTo(Validations.NUMBER_VALIDATION);
+    assertThat(quantityException.getParams()).isEqualTo(new Object[] {"ten"});
+    assertThat(stringQuantityException.getParams()).isEqualTo(new Object[] {"10"});
+  }
+
+  @Test
+  void testParse_InvalidRules() {
+    assertThatThrownBy(() -> parse("code.isNotBlank = 9\n"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Unknown message code in rule code.isNotBlank: 9");
+    assertThatThrownBy(() -> parse("code.isUpperCase = 0\n"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid rule code.isUpperCase: Unknown check: isUpperCase");
+    assertThatThrownBy(() -> parse("code.hasSizeBetween = 1 5,2\n"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid rule code.hasSizeBetween: Sizes must not be reversed: 5,2");
+    assertThatThrownBy(() -> parse("quantity.isBetween = 2 1\n"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid rule quantity.isBetween: Expected two limits: 1");
+    assertThatThrownBy(() -> parse("code = 0\n"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid rule key: code");
+  }
+
+  @Test
+  void testValidator_NotDeclared() throws IOException {
+    RuleSet rules = parse(RULES);
+
+    assertThatThrownBy(() -> rules.validator("customer"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Rule not declared: customer");
+  }
+
+  private static RuleSet parse(String rules) throws IOException {
+    return RuleSet.parse(new StringReader(rules), Validations.class);
+  }
+
+  private enum Validations implements ValidationMessage {
+    REQUIRED_VALIDATION("0", "Required value"),
+    CODE_VALIDATION("1", "Invalid code"),
+    NUMBER_VALIDATION("2", "Invalid number"),
+    OTHER_VALIDATION("3", "Invalid value");
+
+    private final String code;
+    private final String message;
+
+    Validations(String code, String message) {
+      this.code = code;
+      this.message = message;
+    }
+
+    @Override
+    public String getCode() {
+      return code;
+    }
+
+    @Override
+    public String getMessage() {
+      return message;
+    }
+  }
+}
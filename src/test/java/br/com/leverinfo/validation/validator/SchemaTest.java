@@ -0,0 +1,203 @@
+package br.com.leverinfo.validation.validator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+import br.com.leverinfo.validation.ValidationMessage;
+import br.com.leverinfo.validation.exception.InvalidArgumentException;
+import br.com.leverinfo.validation.exception.RequiredArgumentException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class SchemaTest {
+
+  private static final Schema<Order> ORDER_SCHEMA =
+      Schema.forType(Order.class)
+          .stringField(Order::getCode)
+          .isNotBlank(Validations.CODE_VALIDATION)
+          .hasSizeBetween(1, 5, Validations.CODE_VALIDATION)
+          .field(Order::getCustomer)
+          .isNotNull(Validations.CUSTOMER_VALIDATION)
+          .intField(Order::getQuantity)
+          .isBetween(1, 100, Validations.QUANTITY_VALIDATION)
+          .longField(Order::getTimestamp)
+          .isGreaterThanZero(Validations.TIMESTAMP_VALIDATION)
+          .doubleField(Order::getAmount)
+          .isGreaterThanZero(Validations.AMOUNT_VALIDATION)
+          .isLessThan(1000.0, Validations.AMOUNT_VALIDATION)
+          .check(
+              Validators.satisfies(
+                  order -> order.getAmount() >= order.getQuantity(), Validations.ORDER_VALIDATION))
+          .build();
+
+  @Test
+  void testValidate_Success() {
+    assertThatCode(() -> ORDER_SCHEMA.validate(new Order("A1", "Any", 2, 1L, 10.0)))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testValidate_String_Error() {
+    RequiredArgumentException requiredArgumentException =
+        catchThrowableOfType(
+            () -> ORDER_SCHEMA.validate(new Order(null, "Any", 2, 1L, 10.0)),
+            RequiredArgumentException.class);
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(
+            () -> ORDER_SCHEMA.validate(new Order("A12345", "Any", 2, 1L, 10.0)),
+            InvalidArgumentException.class);
+
+    assertThat(requiredArgumentException.getValidationMessage())
+        .isEqualTo(Validations.CODE_VALIDATION);
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {"A12345", 1, 5});
+  }
+
+  @Test
+  void testValidate_Object_Error() {
+    RequiredArgumentException requiredArgumentException =
+        catchThrowableOfType(
+            () -> ORDER_SCHEMA.validate(new Order("A1", null, 2, 1L, 10.0)),
+            RequiredArgumentException.class);
+
+    assertThat(requiredArgumentException.getValidationMessage())
+        .isEqualTo(Validations.CUSTOMER_VALIDATION);
+  }
+
+  @Test
+  void testValidate_Primitive_Error() {
+    InvalidArgumentException quantityException =
+        catchThrowableOfType(
+            () -> ORDER_SCHEMA.validate(new Order("A1", "Any", 0, 1L, 10.0)),
+            InvalidArgumentException.class);
+    InvalidArgumentException timestampException =
+        catchThrowableOfType(
+            () -> ORDER_SCHEMA.validate(new Order("A1", "Any", 2, 0L, 10.0)),
+            InvalidArgumentException.class);
+    InvalidArgumentException amountException =
+        catchThrowableOfType(
+            () -> ORDER_SCHEMA.validate(new Order("A1", "Any", 2, 1L, 1000.0)),
+            InvalidArgumentException.class);
+
+    assertThat(quantityException.getValidationMessage()).isEqualTo(Validations.QUANTITY_VALIDATION);
+    assertThat(quantityException.getParams()).isEqualTo(new Object[] {0, 1, 100});
+    assertThat(timestampException.getValidationMessage())
+        .isEqualTo(Validations.TIMESTAMP_VALIDATION);
+    assertThat(amountException.getValidationMessage()).isEqualTo(Validations.AMOUNT_VALIDATION);
+  }
+
+  @Test
+  void testValidate_Check_Error() {
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(
+            () -> ORDER_SCHEMA.validate(new Order("A1", "Any", 20, 1L, 10.0)),
+            InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getValidationMessage())
+        .isEqualTo(Validations.ORDER_VALIDATION);
+  }
+
+  @Test
+  void testValidate_ReadsFieldOnce() {
+    AtomicInteger reads = new AtomicInteger();
+    Schema<Order> schema =
+        Schema.forType(Order.class)
+            .intField(
+                order -> {
+                  reads.incrementAndGet();
+                  return order.getQuantity();
+                })
+            .isGreaterThanZero(Validations.QUANTITY_VALIDATION)
+            .isLessThan(100, Validations.QUANTITY_VALIDATION)
+            .isNotEqualToZero(Validations.QUANTITY_VALIDATION)
+            .build();
+
+    schema.validate(new Order("A1", "Any", 2, 1L, 10.0));
+
+    assertThat(reads.get()).isEqualTo(1);
+  }
+
+  @Test
+  void testBuild_FieldAlreadyAdded() {
+    Schema.Builder<Order> builder = Schema.forType(Order.class);
+    Schema.IntField<Order> quantity = builder.intField(Order::getQuantity);
+    builder.build();
+
+    assertThatThrownBy(() -> quantity.isGreaterThanZero(Validations.QUANTITY_VALIDATION))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void testBuild_Empty() {
+    Schema<Order> schema = Schema.forType(Order.class).field(Order::getCustomer).build();
+
+    assertThatCode(() -> schema.validate(new Order(null, null, 0, 0L, 0.0)))
+        .doesNotThrowAnyException();
+    assertThat(schema.getType()).isEqualTo(Order.class);
+  }
+
+  private static final class Order {
+
+    private final String code;
+    private final String customer;
+    private final int quantity;
+    private final long timestamp;
+    private final double amount;
+
+    Order(String code, String customer, int quantity, long timestamp, double amount) {
+      this.code = code;
+      this.customer = customer;
+      this.quantity = quantity;
+      this.timestamp = timestamp;
+      this.amount = amount;
+    }
+
+    String getCode() {
+      return code;
+    }
+
+    String getCustomer() {
+      return customer;
+    }
+
+    int getQuantity() {
+      return quantity;
+    }
+
+    long getTimestamp() {
+      return timestamp;
+    }
+
+    double getAmount() {
+      return amount;
+    }
+  }
+
+  private enum Validations implements ValidationMessage {
+    CODE_VALIDATION("0", "Invalid code"),
+    CUSTOMER_VALIDATION("1", "Invalid customer"),
+    QUANTITY_VALIDATION("2", "Invalid quantity"),
+    TIMESTAMP_VALIDATION("3", "Invalid timestamp"),
+    AMOUNT_VALIDATION("4", "Invalid amount"),
+    ORDER_VALIDATION("5", "Invalid order");
+
+    private final String code;
+    private final String message;
+
+    Validations(String code, String message) {
+      this.code = code;
+      this.message = message;
+    }
+
+    @Override
+    public String getCode() {
+      return code;
+    }
+
+    @Override
+    public String getMessage() {
+      return message;
+    }
+  }
+}
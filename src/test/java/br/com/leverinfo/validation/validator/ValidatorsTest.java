@@ -0,0 +1,530 @@
+package br.com.leverinfo.validation.validator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+import br.com.leverinfo.validation.ValidationMessage;
+import br.com.leverinfo.validation.exception.InvalidArgumentException;
+import br.com.leverinfo.validation.exception.RequiredArgumentException;
+import br.com.leverinfo.validation.exception.ValidationException;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class ValidatorsTest {
+
+  @Test
+  void testIsNull_Success() {
+    assertThatCode(() -> Validators.isNull(Validations.ANY_VALIDATION).validate(null))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testIsNull_Error() {
+    Validator<Object> validator = Validators.isNull(Validations.ANY_VALIDATION);
+
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(
+            () -> validator.validate(new Object()), InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getValidationMessage())
+        .isEqualTo(Validations.ANY_VALIDATION);
+  }
+
+  @Test
+  void testIsNotNull_Success() {
+    assertThatCode(() -> Validators.isNotNull(Validations.ANY_VALIDATION).validate(new Object()))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testIsNotNull_Error() {
+    Validator<Object> validator = Validators.isNotNull(Validations.ANY_VALIDATION);
+
+    RequiredArgumentException requiredArgumentException =
+        catchThrowableOfType(() -> validator.validate(null), RequiredArgumentException.class);
+
+    assertThat(requiredArgumentException.getValidationMessage())
+        .isEqualTo(Validations.ANY_VALIDATION);
+  }
+
+  @Test
+  void testIsNotBlank_Success() {
+    assertThatCode(() -> Validators.isNotBlank(Validations.ANY_VALIDATION).validate("Any value"))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testIsNotBlank_Error() {
+    Validator<CharSequence> validator = Validators.isNotBlank(Validations.ANY_VALIDATION);
+
+    assertThat(
+            catchThrowableOfType(() -> validator.validate(null), RequiredArgumentException.class))
+        .isNotNull();
+    assertThat(catchThrowableOfType(() -> validator.validate(""), InvalidArgumentException.class))
+        .isNotNull();
+  }
+
+  @Test
+  void testIsEqualTo_Success() {
+    assertThatCode(() -> Validators.isEqualTo(1, Validations.ANY_VALIDATION).validate(1))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testIsEqualTo_Error() {
+    Validator<Integer> validator = Validators.isEqualTo(1, Validations.ANY_VALIDATION);
+
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(() -> validator.validate(2), InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getValidationMessage())
+        .isEqualTo(Validations.ANY_VALIDATION);
+  }
+
+  @Test
+  void testIsNotEqualTo_Success() {
+    assertThatCode(() -> Validators.isNotEqualTo(1, Validations.ANY_VALIDATION).validate(2))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testIsNotEqualTo_Error() {
+    Validator<Integer> validator = Validators.isNotEqualTo(1, Validations.ANY_VALIDATION);
+
+    assertThat(catchThrowableOfType(() -> validator.validate(1), InvalidArgumentException.class))
+        .isNotNull();
+  }
+
+  @Test
+  void testIsLessThan_Success() {
+    assertThatCode(
+            () ->
+                Validators.isLessThan(BigDecimal.ONE, Validations.ANY_VALIDATION)
+                    .validate(BigDecimal.ZERO))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testIsLessThan_Error() {
+    Validator<BigDecimal> validator =
+        Validators.isLessThan(BigDecimal.ONE, Validations.ANY_VALIDATION);
+
+    assertThat(
+            catchThrowableOfType(
+                () -> validator.validate(BigDecimal.ONE), InvalidArgumentException.class))
+        .isNotNull();
+  }
+
+  @Test
+  void testIsLessThanOrEqualTo_Success() {
+    assertThatCode(
+            () ->
+                Validators.isLessThanOrEqualTo(BigDecimal.ONE, Validations.ANY_VALIDATION)
+                    .validate(BigDecimal.ONE))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testIsLessThanOrEqualTo_Error() {
+    Validator<BigDecimal> validator =
+        Validators.isLessThanOrEqualTo(BigDecimal.ONE, Validations.ANY_VALIDATION);
+
+    assertThat(
+            catchThrowableOfType(
+                () -> validator.validate(BigDecimal.TEN), InvalidArgumentException.class))
+        .isNotNull();
+  }
+
+  @Test
+  void testIsGreaterThan_Success() {
+    assertThatCode(
+            () ->
+                Validators.isGreaterThan(BigDecimal.ONE, Validations.ANY_VALIDATION)
+                    .validate(BigDecimal.TEN))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testIsGreaterThan_Error() {
+    Validator<BigDecimal> validator =
+        Validators.isGreaterThan(BigDecimal.ONE, Validations.ANY_VALIDATION);
+
+    assertThat(
+            catchThrowableOfType(
+                () -> validator.validate(BigDecimal.ONE), InvalidArgumentException.class))
+        .isNotNull();
+  }
+
+  @Test
+  void testIsGreaterThanOrEqualTo_Success() {
+    assertThatCode(
+            () ->
+                Validators.isGreaterThanOrEqualTo(BigDecimal.ONE, Validations.ANY_VALIDATION)
+                    .validate(BigDecimal.ONE))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testIsGreaterThanOrEqualTo_Error() {
+    Validator<BigDecimal> validator =
+        Validators.isGreaterThanOrEqualTo(BigDecimal.ONE, Validations.ANY_VALIDATION);
+
+    assertThat(
+            catchThrowableOfType(
+                () -> validator.validate(BigDecimal.ZERO), InvalidArgumentException.class))
+        .isNotNull();
+  }
+
+  @Test
+  void testIsBetween_Success() {
+    Validator<Integer> validator = Validators.isBetween(1, 10, Validations.ANY_VALIDATION);
+
+    assertThatCode(() -> validator.validate(1)).doesNotThrowAnyException();
+    assertThatCode(() -> validator.validate(10)).doesNotThrowAnyException();
+  }
+
+  @Test
+  void testIsBetween_Error() {
+    Validator<Integer> validator = Validators.isBetween(1, 10, Validations.ANY_VALIDATION);
+
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(() -> validator.validate(11), InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getValidationMessage())
+        .isEqualTo(Validations.ANY_VALIDATION);
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {11, 1, 10});
+  }
+
+  @Test
+  void testMatchesPattern_Success() {
+    assertThatCode(
+            () -> Validators.matchesPattern("\\d+", Validations.ANY_VALIDATION).validate("123"))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testMatchesPattern_Error() {
+    Validator<CharSequence> validator =
+        Validators.matchesPattern("\\d+", Validations.ANY_VALIDATION);
+
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(() -> validator.validate("12a"), InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {"12a"});
+  }
+
+  @Test
+  void testHasSize_Success() {
+    assertThatCode(() -> Validators.hasSize(3, Validations.ANY_VALIDATION).validate("Any"))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testHasSize_Error() {
+    Validator<CharSequence> validator = Validators.hasSize(3, Validations.ANY_VALIDATION);
+
+    assertThat(catchThrowableOfType(() -> validator.validate("An"), InvalidArgumentException.class))
+        .isNotNull();
+  }
+
+  @Test
+  void testHasSizeBetween_Success() {
+    assertThatCode(() -> Validators.hasSizeBetween(1, 3, Validations.ANY_VALIDATION).validate("A"))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testHasSizeBetween_Error() {
+    Validator<CharSequence> validator = Validators.hasSizeBetween(1, 3, Validations.ANY_VALIDATION);
+
+    assertThat(
+            catchThrowableOfType(() -> validator.validate("Any s"), InvalidArgumentException.class))
+        .isNotNull();
+  }
+
+  @Test
+  void testIsInstanceOf_Success() {
+    assertThatCode(
+            () -> Validators.isInstanceOf(String.class, Validations.ANY_VALIDATION).validate("A"))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testIsInstanceOf_Error() {
+    Validator<Object> validator = Validators.isInstanceOf(String.class, Validations.ANY_VALIDATION);
+
+    assertThat(catchThrowableOfType(() -> validator.validate(1), InvalidArgumentException.class))
+        .isNotNull();
+  }
+
+  @Test
+  void testSatisfies_Success() {
+    assertThatCode(
+            () ->
+                Validators.<String>satisfies(s -> s.startsWith("A"), Validations.ANY_VALIDATION)
+                    .validate("Any"))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testSatisfies_Error() {
+    Validator<String> validator =
+        Validators.satisfies(s -> s.startsWith("A"), Validations.ANY_VALIDATION);
+
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(() -> validator.validate("Bny"), InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {"Bny"});
+  }
+
+  @Test
+  void testAllOf_Success() {
+    Validator<CharSequence> validator =
+        Validators.allOf(
+            Validators.isNotNull(Validations.ANY_VALIDATION),
+            Validators.hasSizeBetween(1, 3, Validations.ANY_VALIDATION));
+
+    assertThatCode(() -> validator.validate("Any")).doesNotThrowAnyException();
+  }
+
+  @Test
+  void testAllOf_Error() {
+    Validator<CharSequence> validator =
+        Validators.<CharSequence>isNotNull(Validations.ANY_VALIDATION)
+            .and(Validators.hasSizeBetween(1, 3, Validations.ANY_VALIDATION));
+
+    assertThat(
+            catchThrowableOfType(() -> validator.validate(null), RequiredArgumentException.class))
+        .isNotNull();
+    assertThat(
+            catchThrowableOfType(() -> validator.validate("Any s"), InvalidArgumentException.class))
+        .isNotNull();
+  }
+
+  @Test
+  void testAllOf_Flattened() {
+    AtomicInteger calls = new AtomicInteger();
+    Validator<Object> counting = value -> calls.incrementAndGet();
+
+    Validator<Object> validator = counting.and(counting).and(counting);
+
+    assertThat(validator).isInstanceOf(AllOfValidator.class);
+    assertThat(((AllOfValidator<Object>) validator).validators()).hasSize(3);
+    validator.validate(new Object());
+    assertThat(calls.get()).isEqualTo(3);
+  }
+
+  @Test
+  void testAllOf_Fused() {
+    Validator<CharSequence> notNull = Validators.isNotNull(Validations.ANY_VALIDATION);
+    Validator<CharSequence> notBlank = Validators.isNotBlank(Validations.OTHER_VALIDATION);
+    Validator<CharSequence> size = Validators.hasSizeBetween(2, 5, Validations.ANY_VALIDATION);
+    Validator<CharSequence> pattern =
+        Validators.matchesPattern("[A-Z][0-9]+", Validations.OTHER_VALIDATION);
+
+    Validator<CharSequence> validator = Validators.allOf(notNull, notBlank, size, pattern);
+
+    assertThat(((AllOfValidator<CharSequence>) validator).validators())
+        .hasSize(1)
+        .hasOnlyElementsOfType(FusedCharSequenceValidator.class);
+    for (CharSequence value :
+        new CharSequence[] {
+          null, "", "A", "A1", "A12345", "AB", "A1b", new StringBuilder(), new StringBuilder("B2")
+        }) {
+      assertThat(failureOf(validator, value))
+          .isEqualTo(failureOf(Arrays.asList(notNull, notBlank, size, pattern), value));
+    }
+  }
+
+  @Test
+  void testMatchesPattern_CharacterClass() {
+    String[] patterns = {
+      "\\d+", "\\w*", "[A-Za-z_]{2,4}", "[-a-c.]{3}", "[0-9a-f]{2,}", "[\\d\\-]+", "[a-z]"
+    };
+    String[] values = {
+      "", "1", "12", "ab", "a_b", "a.b-", "ff0", "-1", "é", "a", "12345", "\uD83D\uDE00"
+    };
+
+    for (String pattern : patterns) {
+      Validator<CharSequence> validator =
+          Validators.matchesPattern(pattern, Validations.ANY_VALIDATION);
+      for (String value : values) {
+        assertThat(failureOf(validator, value) == null)
+            .as("%s matching %s", pattern, value)
+            .isEqualTo(value.matches(pattern));
+      }
+    }
+  }
+
+  @Test
+  void testAdaptiveAllOf_Success() {
+    Validator<CharSequence> validator =
+        Validators.adaptiveAllOf(
+            Validators.isNotNull(Validations.ANY_VALIDATION),
+            Validators.dependent(Validators.hasSizeBetween(1, 3, Validations.ANY_VALIDATION)));
+
+    assertThatCode(() -> validator.validate("Any")).doesNotThrowAnyException();
+  }
+
+  @Test
+  void testAdaptiveAllOf_Error() {
+    Validator<CharSequence> validator =
+        Validators.adaptiveAllOf(
+            Validators.isNotNull(Validations.ANY_VALIDATION),
+            Validators.dependent(Validators.hasSizeBetween(1, 3, Validations.ANY_VALIDATION)));
+
+    assertThat(
+            catchThrowableOfType(() -> validator.validate(null), RequiredArgumentException.class))
+        .isNotNull();
+    assertThat(
+            catchThrowableOfType(() -> validator.validate("Any s"), InvalidArgumentException.class))
+        .isNotNull();
+  }
+
+  @Test
+  void testAdaptiveAllOf_Reordered() {
+    AtomicInteger passingCalls = new AtomicInteger();
+    Validator<Object> passing =
+        value -> {
+          passingCalls.incrementAndGet();
+          long end = System.nanoTime() + 100_000;
+          while (System.nanoTime() < end) {
+            // Slow rule, so its cost outweighs never failing
+          }
+        };
+    Validator<Object> failing = Validators.isNull(Validations.ANY_VALIDATION);
+    AdaptiveAllOfValidator<Object> validator =
+        new AdaptiveAllOfValidator<>(
+            Validators.toArray(Arrays.asList(passing, failing), Validator.class), 1, 1);
+
+    for (int i = 0; i < 100; i++) {
+      assertThatThrownBy(() -> validator.validate(new Object()))
+          .isInstanceOf(InvalidArgumentException.class);
+    }
+    int calls = passingCalls.get();
+    assertThatThrownBy(() -> validator.validate(new Object()))
+        .isInstanceOf(InvalidArgumentException.class);
+
+    assertThat(validator.validators()).containsExactly(failing, passing);
+    assertThat(passingCalls.get()).isEqualTo(calls);
+  }
+
+  @Test
+  void testAdaptiveAllOf_Dependent() {
+    Validator<CharSequence> notNull = Validators.isNotNull(Validations.ANY_VALIDATION);
+    Validator<CharSequence> size = Validators.hasSize(3, Validations.ANY_VALIDATION);
+    Validator<CharSequence> other =
+        Validators.satisfies(
+            value -> value == null || value.length() < 5, Validations.ANY_VALIDATION);
+    AdaptiveAllOfValidator<CharSequence> validator =
+        new AdaptiveAllOfValidator<>(
+            Validators.toArray(
+                Arrays.asList(other, notNull, Validators.dependent(size)), Validator.class),
+            1,
+            1);
+
+    for (int i = 0; i < 100; i++) {
+      validator.validate("123");
+      assertThatThrownBy(() -> validator.validate(null))
+          .isInstanceOf(RequiredArgumentException.class);
+      assertThatThrownBy(() -> validator.validate("12"))
+          .isInstanceOf(InvalidArgumentException.class);
+    }
+
+    assertThat(validator.validators()).containsSubsequence(notNull, size).hasSize(3);
+  }
+
+  @Test
+  void testAnyOf_Success() {
+    Validator<CharSequence> validator =
+        Validators.<CharSequence>isNull(Validations.ANY_VALIDATION)
+            .or(Validators.hasSize(3, Validations.ANY_VALIDATION));
+
+    assertThatCode(() -> validator.validate(null)).doesNotThrowAnyException();
+    assertThatCode(() -> validator.validate("Any")).doesNotThrowAnyException();
+  }
+
+  @Test
+  void testAnyOf_Error() {
+    Validator<CharSequence> validator =
+        Validators.anyOf(
+            Validators.hasSize(1, Validations.ANY_VALIDATION),
+            Validators.hasSize(2, Validations.ANY_VALIDATION),
+            Validators.hasSize(3, Validations.ANY_VALIDATION));
+
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(() -> validator.validate("Any s"), InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {"Any s", 1});
+    assertThat(invalidArgumentException.getSuppressed()).hasSize(2);
+  }
+
+  @Test
+  void testAnyOf_Empty() {
+    assertThatThrownBy(Validators::anyOf).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void testWhen_Success() {
+    Validator<CharSequence> validator =
+        Validators.hasSize(3, Validations.ANY_VALIDATION).when(value -> value.length() > 1);
+
+    assertThatCode(() -> validator.validate("A")).doesNotThrowAnyException();
+    assertThatCode(() -> validator.validate("Any")).doesNotThrowAnyException();
+  }
+
+  @Test
+  void testWhen_Error() {
+    Validator<CharSequence> validator =
+        Validators.when(
+            value -> value.length() > 1, Validators.hasSize(3, Validations.ANY_VALIDATION));
+
+    assertThat(catchThrowableOfType(() -> validator.validate("An"), InvalidArgumentException.class))
+        .isNotNull();
+  }
+
+  private static List<Object> failureOf(Validator<CharSequence> validator, CharSequence value) {
+    return failureOf(Collections.singletonList(validator), value);
+  }
+
+  private static List<Object> failureOf(
+      List<Validator<CharSequence>> validators, CharSequence value) {
+    try {
+      for (Validator<CharSequence> validator : validators) {
+        validator.validate(value);
+      }
+      return null;
+    } catch (ValidationException e) {
+      return Arrays.asList(e.getClass(), e.getValidationMessage(), Arrays.asList(e.getParams()));
+    }
+  }
+
+  private enum Validations implements ValidationMessage {
+    ANY_VALIDATION("0", "Any validation message"),
+    OTHER_VALIDATION("1", "Other validation message");
+
+    private final String code;
+    private final String message;
+
+    Validations(String code, String message) {
+      this.code = code;
+      this.message = message;
+    }
+
+    @Override
+    public String getCode() {
+      return code;
+    }
+
+    @Override
+    public String getMessage() {
+      return message;
+    }
+  }
+}
@@ -0,0 +1,358 @@
+package br.com.leverinfo.validation.processor;
+
+import br.com.leverinfo.validation.constraint.Max;
+import br.com.leverinfo.validation.constraint.Min;
+import br.com.leverinfo.validation.constraint.NotBlank;
+import br.com.leverinfo.validation.constraint.NotNull;
+import br.com.leverinfo.validation.constraint.Pattern;
+import br.com.leverinfo.validation.constraint.Positive;
+import br.com.leverinfo.validation.constraint.Size;
+import br.com.leverinfo.validation.constraint.Validated;
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.PatternSyntaxException;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+/**
+ * Generates validators of types annotated with {@link Validated}.
+ *
+ * <p>For each type, a {@code <Type>Validator} class is generated in the same package, implementing
+ * {@link br.com.leverinfo.validation.validator.Validator}. It reads each constrained field once,
+ * directly or by its getter (or record accessor), and calls {@link
+ * br.com.leverinfo.validation.ArgumentValidations} methods, in the order constraints are declared.
+ * Misplaced constraints, unknown messages and invalid limits or patterns are reported as
+ * compilation errors.
+ *
+ * @author franciscosousabr
+ */
+public final class ValidationProcessor extends AbstractProcessor {
+
+  private static final List<String> CONSTRAINTS =
+      Arrays.asList(
+          NotNull.class.getCanonicalName(),
+          NotBlank.class.getCanonicalName(),
+          Size.class.getCanonicalName(),
+          Pattern.class.getCanonicalName(),
+          Min.class.getCanonicalName(),
+          Max.class.getCanonicalName(),
+          Positive.class.getCanonicalName());
+
+  @Override
+  public Set<String> getSupportedAnnotationTypes() {
+    Set<String> types = new HashSet<>(CONSTRAINTS);
+    types.add(Validated.class.getCanonicalName());
+    return Collections.unmodifiableSet(types);
+  }
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    for (Element element : roundEnv.getElementsAnnotatedWith(Validated.class)) {
+      if (isClassOrRecord(element)) {
+        generate((TypeElement) element);
+      } else {
+        error(element, "@Validated is only supported on classes and records");
+      }
+    }
+
+    for (TypeElement annotation : annotations) {
+      if (CONSTRAINTS.contains(annotation.getQualifiedName().toString())) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+          if (element.getEnclosingElement().getAnnotation(Validated.class) == null) {
+            error(element, "Enclosing type of constrained field must be annotated with @Validated");
+          }
+        }
+      }
+    }
+    return false;
+  }
+
+  private void generate(TypeElement type) {
+    if (!type.getTypeParameters().isEmpty()) {
+      error(type, "Generic types are not supported by @Validated");
+      return;
+    }
+    for (Element element = type;
+        element instanceof TypeElement;
+        element = element.getEnclosingElement()) {
+      if (element.getModifiers().contains(Modifier.PRIVATE) || !isStaticOrTopLevel(element)) {
+        error(type, "Type annotated with @Validated must be accessible from its package");
+        return;
+      }
+    }
+
+    TypeElement messages = messagesOf(type);
+    ValidatorWriter writer = new ValidatorWriter(processingEnv, type, messages);
+    boolean valid = true;
+    for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+      if (field.getModifiers().contains(Modifier.STATIC)) {
+        continue;
+      }
+      valid &= addField(writer, type, field);
+    }
+    if (!valid) {
+      return;
+    }
+
+    try (Writer out =
+        processingEnv.getFiler().createSourceFile(writer.getQualifiedName(), type).openWriter()) {
+      out.write(writer.write());
+    } catch (IOException e) {
+      error(type, "Could not write validator: " + e.getMessage());
+    }
+  }
+
+  private boolean addField(ValidatorWriter writer, TypeElement type, VariableElement field) {
+    boolean constrained = false;
+    boolean valid = true;
+    for (AnnotationMirror constraint : field.getAnnotationMirrors()) {
+      String name =
+          ((TypeElement) constraint.getAnnotationType().asElement()).getQualifiedName().toString();
+      if (!CONSTRAINTS.contains(name)) {
+        continue;
+      }
+
+      if (!constrained) {
+        String accessor = accessorOf(type, field);
+        if (accessor == null) {
+          error(field, "Constrained field must not be private, or must have a getter");
+          return false;
+        }
+        writer.startField(field, accessor);
+        constrained = true;
+      }
+      valid &= addConstraint(writer, field, constraint, name);
+    }
+    return valid;
+  }
+
+  private boolean addConstraint(
+      ValidatorWriter writer, VariableElement field, AnnotationMirror constraint, String name) {
+    String message = writer.messageConstant((String) value(constraint, "message"));
+    if (message == null) {
+      error(
+          field,
+          constraint,
+          "Message not declared by messages type: " + value(constraint, "message"));
+      return false;
+    }
+
+    TypeMirror type = field.asType();
+    String simpleName = name.substring(name.lastIndexOf('.') + 1);
+    switch (simpleName) {
+      case "NotNull":
+        if (type.getKind().isPrimitive()) {
+          return error(field, constraint, "@NotNull is not supported on primitive fields");
+        }
+        writer.addCheck(false, "isNotNull(%s, " + message + ")");
+        return true;
+      case "NotBlank":
+        if (!isAssignable(type, CharSequence.class)) {
+          return error(field, constraint, "@NotBlank is only supported on CharSequence fields");
+        }
+        writer.addCheck(false, "isNotBlank(%s, " + message + ")");
+        return true;
+      case "Size":
+        int min = (Integer) value(constraint, "min");
+        int max = (Integer) value(constraint, "max");
+        if (!isAssignable(type, CharSequence.class)
+            && !isAssignable(type, Collection.class)
+            && !isAssignable(type, Map.class)) {
+          return error(
+              field,
+              constraint,
+              "@Size is only supported on CharSequence, Collection or Map fields");
+        } else if (min < 0 || min > max) {
+          return error(field, constraint, "@Size limits must not be negative nor reversed");
+        }
+        writer.addCheck(true, "hasSizeBetween(%s, " + min + ", " + max + ", " + message + ")");
+        return true;
+      case "Pattern":
+        String regexp = (String) value(constraint, "regexp");
+        if (!isAssignable(type, CharSequence.class)) {
+          return error(field, constraint, "@Pattern is only supported on CharSequence fields");
+        }
+        try {
+          java.util.regex.Pattern.compile(regexp);
+        } catch (PatternSyntaxException e) {
+          return error(field, constraint, "Invalid pattern: " + e.getDescription());
+        }
+        writer.addCheck(
+            true, "matchesPattern(%s, " + ValidatorWriter.literal(regexp) + ", " + message + ")");
+        return true;
+      case "Min":
+      case "Max":
+        String method = simpleName.equals("Min") ? "isGreaterThanOrEqualTo" : "isLessThanOrEqualTo";
+        long limit = (Long) value(constraint, "value");
+        if (isBigDecimal(type)) {
+          writer.addCheck(
+              true, method + "(%s, " + writer.bigDecimalConstant(limit) + ", " + message + ")");
+          return true;
+        }
+        TypeKind kind = numericKind(type);
+        if (kind == null) {
+          return error(
+              field, constraint, "@" + simpleName + " is only supported on numeric fields");
+        }
+        String literal = ValidatorWriter.literal(kind, limit);
+        if (literal == null) {
+          return error(field, constraint, "Limit is out of range of field type");
+        }
+        writer.addCheck(
+            !type.getKind().isPrimitive(),
+            method + "(" + unboxed(type, kind) + ", " + literal + ", " + message + ")");
+        return true;
+      case "Positive":
+        if (isBigDecimal(type)) {
+          writer.addCheck(true, "isGreaterThanZero(%s, " + message + ")");
+          return true;
+        }
+        TypeKind positiveKind = numericKind(type);
+        if (positiveKind == null) {
+          return error(field, constraint, "@Positive is only supported on numeric fields");
+        }
+        writer.addCheck(
+            !type.getKind().isPrimitive(),
+            "isGreaterThanZero(" + unboxed(type, positiveKind) + ", " + message + ")");
+        return true;
+      default:
+        return true;
+    }
+  }
+
+  private String accessorOf(TypeElement type, VariableElement field) {
+    String name = field.getSimpleName().toString();
+    if (!field.getModifiers().contains(Modifier.PRIVATE)) {
+      return name;
+    }
+
+    String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    List<String> candidates = Arrays.asList("get" + capitalized, "is" + capitalized, name);
+    for (String candidate : candidates) {
+      for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+        if (method.getSimpleName().contentEquals(candidate)
+            && method.getParameters().isEmpty()
+            && !method.getModifiers().contains(Modifier.PRIVATE)
+            && !method.getModifiers().contains(Modifier.STATIC)
+            && processingEnv.getTypeUtils().isSameType(method.getReturnType(), field.asType())) {
+          return candidate + "()";
+        }
+      }
+    }
+    return null;
+  }
+
+  private TypeElement messagesOf(TypeElement type) {
+    for (AnnotationMirror annotation : type.getAnnotationMirrors()) {
+      if (((TypeElement) annotation.getAnnotationType().asElement())
+          .getQualifiedName()
+          .contentEquals(Validated.class.getCanonicalName())) {
+        return (TypeElement) ((DeclaredType) value(annotation, "messages")).asElement();
+      }
+    }
+    throw new IllegalStateException("Type is not annotated with @Validated");
+  }
+
+  private Object value(AnnotationMirror annotation, String name) {
+    for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry :
+        processingEnv.getElementUtils().getElementValuesWithDefaults(annotation).entrySet()) {
+      if (entry.getKey().getSimpleName().contentEquals(name)) {
+        return entry.getValue().getValue();
+      }
+    }
+    throw new IllegalStateException("Annotation has no value " + name);
+  }
+
+  private boolean isAssignable(TypeMirror type, Class<?> target) {
+    TypeElement element = processingEnv.getElementUtils().getTypeElement(target.getCanonicalName());
+    return processingEnv
+        .getTypeUtils()
+        .isAssignable(
+            processingEnv.getTypeUtils().erasure(type),
+            processingEnv.getTypeUtils().erasure(element.asType()));
+  }
+
+  private boolean isBigDecimal(TypeMirror type) {
+    TypeElement element =
+        processingEnv.getElementUtils().getTypeElement(BigDecimal.class.getName());
+    return processingEnv.getTypeUtils().isSameType(type, element.asType());
+  }
+
+  private TypeKind numericKind(TypeMirror type) {
+    TypeKind kind = type.getKind();
+    if (kind == TypeKind.DECLARED) {
+      try {
+        PrimitiveType unboxed = processingEnv.getTypeUtils().unboxedType(type);
+        kind = unboxed.getKind();
+      } catch (IllegalArgumentException e) {
+        return null;
+      }
+    }
+    switch (kind) {
+      case BYTE:
+      case SHORT:
+      case INT:
+      case LONG:
+      case FLOAT:
+      case DOUBLE:
+        return kind;
+      default:
+        return null;
+    }
+  }
+
+  private static String unboxed(TypeMirror type, TypeKind kind) {
+    return type.getKind().isPrimitive()
+        ? "%s"
+        : "%s." + kind.name().toLowerCase(Locale.ROOT) + "Value()";
+  }
+
+  private static boolean isClassOrRecord(Element element) {
+    return element.getKind() == ElementKind.CLASS || element.getKind().name().equals("RECORD");
+  }
+
+  private static boolean isStaticOrTopLevel(Element element) {
+    return element.getEnclosingElement() instanceof PackageElement
+        || element.getModifiers().contains(Modifier.STATIC)
+        || element.getKind() != ElementKind.CLASS;
+  }
+
+  private void error(Element element, String message) {
+    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+  }
+
+  private boolean error(Element element, AnnotationMirror annotation, String message) {
+    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element, annotation);
+    return false;
+  }
+}
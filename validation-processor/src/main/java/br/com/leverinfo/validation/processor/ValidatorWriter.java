@@ -0,0 +1,201 @@
+package br.com.leverinfo.validation.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.util.ElementFilter;
+
+/**
+ * Writes the source of a validator generated by {@link ValidationProcessor}.
+ *
+ * @author franciscosousabr
+ */
+final class ValidatorWriter {
+
+  private final TypeElement type;
+  private final TypeElement messages;
+  private final String packageName;
+  private final String simpleName;
+  private final List<String> constants = new ArrayList<>();
+  private final StringBuilder body = new StringBuilder();
+  private String local;
+
+  ValidatorWriter(ProcessingEnvironment processingEnv, TypeElement type, TypeElement messages) {
+    this.type = type;
+    this.messages = messages;
+
+    PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(type);
+    this.packageName =
+        packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+
+    StringBuilder name = new StringBuilder(type.getSimpleName());
+    for (Element enclosing = type.getEnclosingElement();
+        enclosing instanceof TypeElement;
+        enclosing = enclosing.getEnclosingElement()) {
+      name.insert(0, enclosing.getSimpleName() + "_");
+    }
+    this.simpleName = name.append("Validator").toString();
+  }
+
+  String getQualifiedName() {
+    return packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+  }
+
+  /** Gets the expression of a message constant, or null if messages type does not declare it */
+  String messageConstant(String name) {
+    for (VariableElement field : ElementFilter.fieldsIn(messages.getEnclosedElements())) {
+      if (field.getSimpleName().contentEquals(name)
+          && (field.getKind() == ElementKind.ENUM_CONSTANT
+              || field.getModifiers().contains(Modifier.STATIC))
+          && !field.getModifiers().contains(Modifier.PRIVATE)) {
+        return messages.getQualifiedName() + "." + name;
+      }
+    }
+    return null;
+  }
+
+  /** Declares a constant with a {@link java.math.BigDecimal} limit, returning its name */
+  String bigDecimalConstant(long value) {
+    String name = "LIMIT_" + constants.size();
+    constants.add(
+        "  private static final java.math.BigDecimal "
+            + name
+            + " = java.math.BigDecimal.valueOf("
+            + value
+            + "L);\n");
+    return name;
+  }
+
+  void startField(VariableElement field, String accessor) {
+    local = field.getSimpleName() + "Value";
+    body.append('\n')
+        .append("    ")
+        .append(field.asType())
+        .append(' ')
+        .append(local)
+        .append(" = value.")
+        .append(accessor)
+        .append(";\n");
+  }
+
+  /**
+   * Adds a call of an {@code ArgumentValidations} method, whose {@code %s} placeholders are
+   * replaced by the field value. Nullable checks are skipped when field value is null.
+   */
+  void addCheck(boolean nullable, String call) {
+    String statement = "ArgumentValidations." + call.replace("%s", local) + ";\n";
+    if (nullable) {
+      body.append("    if (")
+          .append(local)
+          .append(" != null) {\n      ")
+          .append(statement)
+          .append("    }\n");
+    } else {
+      body.append("    ").append(statement);
+    }
+  }
+
+  String write() {
+    String typeName = type.getQualifiedName().toString();
+    StringBuilder source = new StringBuilder();
+    if (!packageName.isEmpty()) {
+      source.append("package ").append(packageName).append(";\n\n");
+    }
+    source
+        .append("import br.com.leverinfo.validation.ArgumentValidations;\n")
+        .append("import br.com.leverinfo.validation.validator.Validator;\n\n")
+        .append("/**\n")
+        .append(" * Validator of {@link ")
+        .append(typeName)
+        .append("}, generated from its constraint annotations.\n")
+        .append(" */\n")
+        .append("@SuppressWarnings(\"all\")\n")
+        .append("public final class ")
+        .append(simpleName)
+        .append(" implements Validator<")
+        .append(typeName)
+        .append("> {\n\n")
+        .append("  /** Shared instance, since validator has no state */\n")
+        .append("  public static final ")
+        .append(simpleName)
+        .append(" INSTANCE = new ")
+        .append(simpleName)
+        .append("();\n");
+    if (!constants.isEmpty()) {
+      source.append('\n');
+      for (String constant : constants) {
+        source.append(constant);
+      }
+    }
+    source
+        .append("\n  @Override\n")
+        .append("  public void validate(")
+        .append(typeName)
+        .append(" value) {")
+        .append(body)
+        .append("  }\n")
+        .append("}\n");
+    return source.toString();
+  }
+
+  /** Gets a literal of a limit in the given numeric type, or null if limit is out of its range */
+  static String literal(TypeKind kind, long value) {
+    switch (kind) {
+      case BYTE:
+        return value < Byte.MIN_VALUE || value > Byte.MAX_VALUE ? null : "(byte) " + value;
+      case SHORT:
+        return value < Short.MIN_VALUE || value > Short.MAX_VALUE ? null : "(short) " + value;
+      case INT:
+        return value < Integer.MIN_VALUE || value > Integer.MAX_VALUE
+            ? null
+            : String.valueOf(value);
+      case LONG:
+        return value + "L";
+      case FLOAT:
+        return value + "F";
+      case DOUBLE:
+        return value + "D";
+      default:
+        return null;
+    }
+  }
+
+  /** Gets a string literal with the given value */
+  static String literal(String value) {
+    StringBuilder literal = new StringBuilder("\"");
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      switch (c) {
+        case '"':
+          literal.append("\\\"");
+          break;
+        case '\\':
+          literal.append("\\\\");
+          break;
+        case '\n':
+          literal.append("\\n");
+          break;
+        case '\r':
+          literal.append("\\r");
+          break;
+        case '\t':
+          literal.append("\\t");
+          break;
+        default:
+          if (c < 0x20 || c > 0x7e) {
+            literal.append(String.format("\\u%04x", (int) c));
+          } else {
+            literal.append(c);
+          }
+      }
+    }
+    return literal.append('"').toString();
+  }
+}
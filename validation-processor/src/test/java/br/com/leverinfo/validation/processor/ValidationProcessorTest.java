@@ -0,0 +1,296 @@
+package br.com.leverinfo.validation.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+import br.com.leverinfo.validation.exception.InvalidArgumentException;
+import br.com.leverinfo.validation.exception.RequiredArgumentException;
+import br.com.leverinfo.validation.validator.Validator;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ValidationProcessorTest {
+
+  private static final String MESSAGES =
+      "package test;\n"
+          + "import br.com.leverinfo.validation.ValidationMessage;\n"
+          + "public enum Messages implements ValidationMessage {\n"
+          + "  CODE_REQUIRED, INVALID_CODE, INVALID_QUANTITY, INVALID_AMOUNT, INVALID_TAGS;\n"
+          + "  public String getCode() { return name(); }\n"
+          + "  public String getMessage() { return name(); }\n"
+          + "}\n";
+
+  private static final String ORDER =
+      "package test;\n"
+          + "import br.com.leverinfo.validation.constraint.*;\n"
+          + "import java.math.BigDecimal;\n"
+          + "import java.util.List;\n"
+          + "@Validated(messages = Messages.class)\n"
+          + "public class Order {\n"
+          + "  @NotBlank(message = \"CODE_REQUIRED\")\n"
+          + "  @Size(min = 2, max = 5, message = \"INVALID_CODE\")\n"
+          + "  @Pattern(regexp = \"[A-Z]\\\\d+\", message = \"INVALID_CODE\")\n"
+          + "  private final String code;\n"
+          + "  @Min(value = 1, message = \"INVALID_QUANTITY\")\n"
+          + "  @Max(value = 100, message = \"INVALID_QUANTITY\")\n"
+          + "  final short quantity;\n"
+          + "  @Positive(message = \"INVALID_AMOUNT\")\n"
+          + "  private final BigDecimal amount;\n"
+          + "  @Size(max = 2, message = \"INVALID_TAGS\")\n"
+          + "  private final List<String> tags;\n"
+          + "  public Order(String code, short quantity, BigDecimal amount, List<String> tags) {\n"
+          + "    this.code = code; this.quantity = quantity; this.amount = amount; this.tags ="
+          + " tags;\n"
+          + "  }\n"
+          + "  public String getCode() { return code; }\n"
+          + "  public BigDecimal getAmount() { return amount; }\n"
+          + "  public List<String> getTags() { return tags; }\n"
+          + "}\n";
+
+  private static final String ITEM =
+      "package test;\n"
+          + "import br.com.leverinfo.validation.constraint.*;\n"
+          + "@Validated(messages = Messages.class)\n"
+          + "public record Item(\n"
+          + "    @NotNull(message = \"CODE_REQUIRED\") String code,\n"
+          + "    @Min(value = 1, message = \"INVALID_QUANTITY\") Integer quantity) {}\n";
+
+  @TempDir Path output;
+
+  @Test
+  void testGenerate_Class_Success() throws Exception {
+    ClassLoader loader = compile(MESSAGES, ORDER);
+    Validator<Object> validator = validator(loader, "test.OrderValidator");
+
+    assertThatCode(
+            () ->
+                validator.validate(
+                    order(loader, "A1", (short) 1, BigDecimal.ONE, Arrays.asList("a", "b"))))
+        .doesNotThrowAnyException();
+    assertThatCode(() -> validator.validate(order(loader, "A12", (short) 100, null, null)))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testGenerate_Class_Error() throws Exception {
+    ClassLoader loader = compile(MESSAGES, ORDER);
+    Validator<Object> validator = validator(loader, "test.OrderValidator");
+
+    RequiredArgumentException requiredArgumentException =
+        catchThrowableOfType(
+            () -> validator.validate(order(loader, null, (short) 1, null, null)),
+            RequiredArgumentException.class);
+    InvalidArgumentException sizeException =
+        catchThrowableOfType(
+            () -> validator.validate(order(loader, "A12345", (short) 1, null, null)),
+            InvalidArgumentException.class);
+    InvalidArgumentException patternException =
+        catchThrowableOfType(
+            () -> validator.validate(order(loader, "AB", (short) 1, null, null)),
+            InvalidArgumentException.class);
+    InvalidArgumentException quantityException =
+        catchThrowableOfType(
+            () -> validator.validate(order(loader, "A1", (short) 101, null, null)),
+            InvalidArgumentException.class);
+    InvalidArgumentException amountException =
+        catchThrowableOfType(
+            () -> validator.validate(order(loader, "A1", (short) 1, BigDecimal.ZERO, null)),
+            InvalidArgumentException.class);
+    InvalidArgumentException tagsException =
+        catchThrowableOfType(
+            () ->
+                validator.validate(
+                    order(loader, "A1", (short) 1, null, Arrays.asList("a", "b", "c"))),
+            InvalidArgumentException.class);
+
+    assertThat(requiredArgumentException.getValidationMessage().getCode())
+        .isEqualTo("CODE_REQUIRED");
+    assertThat(sizeException.getParams()).isEqualTo(new Object[] {"A12345", 2, 5});
+    assertThat(patternException.getValidationMessage().getCode()).isEqualTo("INVALID_CODE");
+    assertThat(quantityException.getParams()).isEqualTo(new Object[] {(short) 101, (short) 100});
+    assertThat(amountException.getValidationMessage().getCode()).isEqualTo("INVALID_AMOUNT");
+    assertThat(tagsException.getValidationMessage().getCode()).isEqualTo("INVALID_TAGS");
+  }
+
+  @Test
+  void testGenerate_Record_Success() throws Exception {
+    ClassLoader loader = compile(MESSAGES, ITEM);
+    Validator<Object> validator = validator(loader, "test.ItemValidator");
+    Class<?> item = loader.loadClass("test.Item");
+
+    assertThatCode(
+            () ->
+                validator.validate(
+                    item.getConstructor(String.class, Integer.class).newInstance("A1", null)))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testGenerate_Record_Error() throws Exception {
+    ClassLoader loader = compile(MESSAGES, ITEM);
+    Validator<Object> validator = validator(loader, "test.ItemValidator");
+    Object item =
+        loader
+            .loadClass("test.Item")
+            .getConstructor(String.class, Integer.class)
+            .newInstance("A", 0);
+
+    InvalidArgumentException invalidArgumentException =
+        catchThrowableOfType(() -> validator.validate(item), InvalidArgumentException.class);
+
+    assertThat(invalidArgumentException.getParams()).isEqualTo(new Object[] {0, 1});
+  }
+
+  @Test
+  void testGenerate_UnknownMessage() {
+    List<String> errors =
+        errors(
+            MESSAGES,
+            "package test;\n"
+                + "import br.com.leverinfo.validation.constraint.*;\n"
+                + "@Validated(messages = Messages.class)\n"
+                + "class Customer {\n"
+                + "  @NotNull(message = \"NAME_REQUIRED\") String name;\n"
+                + "}\n");
+
+    assertThat(errors).containsExactly("Message not declared by messages type: NAME_REQUIRED");
+  }
+
+  @Test
+  void testGenerate_UnsupportedType() {
+    List<String> errors =
+        errors(
+            MESSAGES,
+            "package test;\n"
+                + "import br.com.leverinfo.validation.constraint.*;\n"
+                + "@Validated(messages = Messages.class)\n"
+                + "class Customer {\n"
+                + "  @NotBlank(message = \"CODE_REQUIRED\") int code;\n"
+                + "  @Max(value = 1000, message = \"INVALID_QUANTITY\") byte quantity;\n"
+                + "}\n");
+
+    assertThat(errors)
+        .containsExactly(
+            "@NotBlank is only supported on CharSequence fields",
+            "Limit is out of range of field type");
+  }
+
+  @Test
+  void testGenerate_InaccessibleField() {
+    List<String> errors =
+        errors(
+            MESSAGES,
+            "package test;\n"
+                + "import br.com.leverinfo.validation.constraint.*;\n"
+                + "@Validated(messages = Messages.class)\n"
+                + "class Customer {\n"
+                + "  @NotNull(message = \"CODE_REQUIRED\") private String name;\n"
+                + "}\n");
+
+    assertThat(errors)
+        .containsExactly("Constrained field must not be private, or must have a getter");
+  }
+
+  @Test
+  void testGenerate_NotValidatedType() {
+    List<String> errors =
+        errors(
+            MESSAGES,
+            "package test;\n"
+                + "import br.com.leverinfo.validation.constraint.*;\n"
+                + "class Customer {\n"
+                + "  @NotNull(message = \"CODE_REQUIRED\") String name;\n"
+                + "}\n");
+
+    assertThat(errors)
+        .containsExactly("Enclosing type of constrained field must be annotated with @Validated");
+  }
+
+  private ClassLoader compile(String... sources) throws Exception {
+    List<String> errors = errors(sources);
+    assertThat(errors).isEmpty();
+    return new URLClassLoader(new URL[] {output.toUri().toURL()}, getClass().getClassLoader());
+  }
+
+  private List<String> errors(String... sources) {
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    List<JavaFileObject> files = new ArrayList<>();
+    for (String source : sources) {
+      files.add(new Source(source));
+    }
+
+    JavaCompiler.CompilationTask task =
+        compiler.getTask(
+            null,
+            null,
+            diagnostics,
+            Arrays.asList(
+                "-classpath",
+                System.getProperty("java.class.path"),
+                "-d",
+                output.toString(),
+                "-s",
+                output.toString()),
+            null,
+            files);
+    task.setProcessors(Collections.singletonList(new ValidationProcessor()));
+    task.call();
+
+    return diagnostics.getDiagnostics().stream()
+        .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+        .map(diagnostic -> diagnostic.getMessage(null))
+        .collect(Collectors.toList());
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Validator<Object> validator(ClassLoader loader, String name) throws Exception {
+    return (Validator<Object>) loader.loadClass(name).getField("INSTANCE").get(null);
+  }
+
+  private static Object order(
+      ClassLoader loader, String code, short quantity, BigDecimal amount, List<String> tags)
+      throws Exception {
+    return loader
+        .loadClass("test.Order")
+        .getConstructor(String.class, short.class, BigDecimal.class, List.class)
+        .newInstance(code, quantity, amount, tags);
+  }
+
+  private static final class Source extends SimpleJavaFileObject {
+
+    private final String content;
+
+    Source(String content) {
+      super(URI.create("string:///" + nameOf(content) + Kind.SOURCE.extension), Kind.SOURCE);
+      this.content = content;
+    }
+
+    @Override
+    public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+      return content;
+    }
+
+    private static String nameOf(String content) {
+      String declaration = content.replaceAll("(?s).*\\b(class|enum|record) (\\w+).*", "$2");
+      return "test/" + declaration;
+    }
+  }
+}